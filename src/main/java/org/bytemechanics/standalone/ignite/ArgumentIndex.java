@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Index of the command line arguments by prefix (the text before the first ':'), built once per argument array in a single pass and shared by all the parameter lookups. 
+ * Prefixes are matched exactly, so a -a: argument never shadows a -ab: argument, and when an argument is repeated its first occurrence wins
+ * @see Parameter#findParameter(org.bytemechanics.standalone.ignite.ArgumentIndex) 
+ * @author afarre
+ * @since 2.1.0
+ */
+public class ArgumentIndex {
+
+	private final String[] arguments;
+	private final Map<String,Integer> positions;
+
+	/**
+	 * Argument index constructor
+	 * @param _arguments arguments to index (null arguments and arguments without ':' are ignored)
+	 */
+	public ArgumentIndex(final String... _arguments){
+		this.arguments=(_arguments!=null)? _arguments : new String[0];
+		this.positions=new HashMap<>(Math.max(16, this.arguments.length*2));
+		for(int position=0;position<this.arguments.length;position++){
+			final String argument=this.arguments[position];
+			final int separator=(argument!=null)? argument.indexOf(':') : -1;
+			if(separator>=0){
+				this.positions.putIfAbsent(argument.substring(0, separator), position);
+			}
+		}
+	}
+
+	/**
+	 * Find the value of the first argument (in arguments order) with any of the given prefixes
+	 * @param _prefixes prefixes to look for (without the ':' separator)
+	 * @return optional of the trimmed value after the first ':', empty if no argument has any of the given prefixes
+	 */
+	public Optional<String> find(final String... _prefixes){
+		
+		int position=Integer.MAX_VALUE;
+		
+		for(String prefix:_prefixes){
+			final Integer found=this.positions.get(prefix);
+			if((found!=null)&&(found<position)){
+				position=found;
+			}
+		}
+		
+		return (position==Integer.MAX_VALUE)? 
+					Optional.empty() 
+					: Optional.of(this.arguments[position])
+								.map(argument -> argument.substring(argument.indexOf(':')+1))
+								.map(String::trim);
+	}
+
+	/**
+	 * Return if any argument has the given prefix
+	 * @param _prefix prefix to look for (without the ':' separator)
+	 * @return true if any argument has the given prefix
+	 */
+	public boolean contains(final String _prefix){
+		return this.positions.containsKey(_prefix);
+	}
+
+	/**
+	 * Indexed arguments
+	 * @return the indexed arguments
+	 */
+	public String[] getArguments() {
+		return arguments;
+	}
+
+	/**
+	 * Number of indexed prefixes
+	 * @return number of distinct prefixes found
+	 */
+	public int size(){
+		return this.positions.size();
+	}
+
+	@Override
+	public String toString() {
+		return "ArgumentIndex{" + "prefixes=" + positions.keySet() + '}';
+	}
+}
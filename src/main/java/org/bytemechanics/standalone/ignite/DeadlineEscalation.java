@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite;
+
+/**
+ * Action to execute when a lifecycle phase exceeds its configured deadline, after the thread dump has been printed
+ * @see Standalone.StandaloneBuilder#deadline(java.lang.String, java.time.Duration) 
+ * @author afarre
+ * @since 2.1.0
+ */
+@FunctionalInterface
+public interface DeadlineEscalation {
+
+	/**
+	 * Escalate the overrun of the given phase
+	 * @param _phase name of the phase that exceeded its deadline
+	 * @param _lifecycleThread thread that is executing the phase
+	 */
+	public void escalate(final String _phase,final Thread _lifecycleThread);
+
+	/**
+	 * Escalation that does nothing more than the thread dump
+	 * @return escalation that does nothing
+	 */
+	public static DeadlineEscalation none(){
+		return (phase,thread) -> {};
+	}
+	
+	/**
+	 * Escalation that interrupts the thread executing the phase
+	 * @return escalation that interrupts the lifecycle thread
+	 */
+	public static DeadlineEscalation interrupt(){
+		return (phase,thread) -> thread.interrupt();
+	}
+
+	/**
+	 * Escalation that forcibly terminates the JVM without running any shutdown hook
+	 * @param _exitCode exit code to use
+	 * @return escalation that halts the JVM
+	 * @see Runtime#halt(int) 
+	 */
+	public static DeadlineEscalation halt(final int _exitCode){
+		return (phase,thread) -> Runtime.getRuntime().halt(_exitCode);
+	}
+}
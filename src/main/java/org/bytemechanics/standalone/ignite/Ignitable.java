@@ -15,6 +15,7 @@
  */
 package org.bytemechanics.standalone.ignite;
 
+import java.util.List;
 import java.util.Optional;
 import org.bytemechanics.standalone.ignite.exceptions.ParameterException;
 import org.bytemechanics.standalone.ignite.exceptions.ShutdownSystemFailure;
@@ -51,11 +52,39 @@ public interface Ignitable {
 			((Runnable)this).run();
 		}
 	}
+	/**
+	 * Override this method to implement a warm-up iteration exercising the hot paths before readiness (only executed if warm-up is enabled at the standalone builder).
+	 * Is called repeatedly after startup and before afterStartup until returns false or the configured iterations or time budget are exhausted
+	 * @return true to request another iteration (by default false)
+	 * @see Standalone.StandaloneBuilder#warmup(int, java.time.Duration) 
+	 * @since 2.1.0
+	 */
+	public default boolean warmup(){
+		return false;
+	}
 	/**
 	 * Override this method to implement special tasks after startup
 	 */
 	public default void afterStartup(){}
 
+	/**
+	 * Override this method to react to heap memory pressure changes as evicting cache entries or pausing intake (only called if memory pressure is enabled at the standalone builder).
+	 * Is called at the memory pressure notifier thread every time the level changes, from afterStartup until the shutdown starts
+	 * @param _level new memory pressure level
+	 * @see Standalone.StandaloneBuilder#memoryPressure(int, int) 
+	 * @since 2.1.0
+	 */
+	public default void onMemoryPressure(final MemoryPressure _level){}
+
+	/**
+	 * Override this method to apply the new parameter values without restarting, as resizing pools or batches.
+	 * Is called after the reloaded values have been validated and assigned, only if any parameter value has changed
+	 * @param _changed parameters whose value has changed
+	 * @see Standalone#reload(java.lang.String...) 
+	 * @since 2.1.0
+	 */
+	public default void onReload(final List<Parameter> _changed){}
+
 	/**
 	 * Override this method to implement startup exception special treatment; otherwise is rethrown.
 	 * @param <T> exception type
@@ -16,6 +16,10 @@
 package org.bytemechanics.standalone.ignite;
 
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import org.bytemechanics.standalone.ignite.beans.ExecutorConfig;
+import org.bytemechanics.standalone.ignite.beans.TaskSchedule;
+import org.bytemechanics.standalone.ignite.metrics.MetricsRegistry;
 
 /**
  * Optional abstract class to use as alternative to the Ignitable interface
@@ -27,6 +31,7 @@ public abstract class IgnitableAdapter implements Ignitable{
 
 	protected Standalone standalone;
 	protected Console console;
+	protected int replica;
 
 	@Override
 	public Optional<Console> getConsole() {
@@ -37,6 +42,102 @@ public abstract class IgnitableAdapter implements Ignitable{
 	public Optional<Standalone> getStandalone() {
 		return Optional.ofNullable(this.standalone);
 	}
+	/**
+	 * Return optional of the lifecycle report of the standalone that created this instance
+	 * @return Optional of the lifecycle report
+	 * @see LifecycleReport
+	 * @since 2.1.0
+	 */
+	public Optional<LifecycleReport> getLifecycleReport() {
+		return getStandalone()
+					.map(Standalone::getLifecycleReport);
+	}
+
+	/**
+	 * Return optional of the tasks executor of the standalone that created this instance, 
+	 * a virtual thread per task executor if virtual threads are enabled and supported
+	 * @return Optional of the tasks executor
+	 * @see Standalone#getExecutor() 
+	 * @since 2.1.0
+	 */
+	public Optional<ExecutorService> getExecutor() {
+		return getStandalone()
+					.map(Standalone::getExecutor);
+	}
+	/**
+	 * Return optional of the metrics registry of the standalone that created this instance
+	 * @return Optional of the metrics registry
+	 * @see Standalone#getMetrics() 
+	 * @since 2.1.0
+	 */
+	public Optional<MetricsRegistry> getMetrics() {
+		return getStandalone()
+					.map(Standalone::getMetrics);
+	}
+	/**
+	 * Return optional of the managed worker pool with the given name of the standalone that created this instance, 
+	 * created with the given configuration if does not exist. Drained automatically at shutdown
+	 * @param _name pool name
+	 * @param _config pool configuration
+	 * @return Optional of the managed worker pool, empty if this instance has not been created by a standalone
+	 * @see Standalone#executor(java.lang.String, org.bytemechanics.standalone.ignite.beans.ExecutorConfig) 
+	 * @since 2.1.0
+	 */
+	public Optional<ExecutorService> executor(final String _name,final ExecutorConfig _config) {
+		return getStandalone()
+					.map(standalone -> standalone.executor(_name, _config));
+	}
+	/**
+	 * Schedule a periodic task at the scheduler of the standalone that created this instance, drained automatically at shutdown
+	 * @param _name task name
+	 * @param _schedule task schedule
+	 * @param _task task to execute
+	 * @return Optional of the scheduled task, empty if this instance has not been created by a standalone
+	 * @see Standalone#schedule(java.lang.String, org.bytemechanics.standalone.ignite.beans.TaskSchedule, java.lang.Runnable) 
+	 * @since 2.1.0
+	 */
+	public Optional<ScheduledTask> schedule(final String _name,final TaskSchedule _schedule,final Runnable _task) {
+		return getStandalone()
+					.map(standalone -> standalone.schedule(_name, _schedule, _task));
+	}
+	/**
+	 * Enter a new unit of in-flight work at the standalone that created this instance, if accepted must be followed by an exit() call once finished
+	 * @return true if accepted (always if this instance has not been created by a standalone), false if the standalone is draining and the work must be rejected
+	 * @see Standalone#enter() 
+	 * @since 2.1.0
+	 */
+	public boolean enter() {
+		return getStandalone()
+					.map(Standalone::enter)
+					.orElse(true);
+	}
+	/**
+	 * Exit a unit of in-flight work previously accepted by enter()
+	 * @see Standalone#exit() 
+	 * @since 2.1.0
+	 */
+	public void exit() {
+		getStandalone()
+				.ifPresent(Standalone::exit);
+	}
+	/**
+	 * Return the replica index of this instance
+	 * @return replica index starting at 0 (always 0 if no replicas are configured)
+	 * @see Standalone.StandaloneBuilder#replicas(int) 
+	 * @since 2.1.0
+	 */
+	public int getReplica() {
+		return this.replica;
+	}
+	/**
+	 * Assigns the replica index of this instance
+	 * @param _replica replica index
+	 * @since 2.1.0
+	 */
+	public void setReplica(final int _replica) {
+		this.replica=_replica;
+	}
+
 	@Override
 	public void setStandalone(final Standalone _standalone) {
 		this.standalone=_standalone;
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite;
+
+import java.io.IOException;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.bytemechanics.standalone.ignite.beans.LifecyclePhase;
+import org.bytemechanics.standalone.ignite.beans.WarmupReport;
+import org.bytemechanics.standalone.ignite.exceptions.LifecycleReportNotExportable;
+
+/**
+ * Lifecycle report, records the duration and the classes loaded by each lifecycle phase
+ * @see LifecyclePhase
+ * @author afarre
+ * @since 2.1.0
+ */
+public class LifecycleReport {
+
+	private static final ClassLoadingMXBean CLASS_LOADING=ManagementFactory.getClassLoadingMXBean();
+	private static final CompilationMXBean COMPILATION=ManagementFactory.getCompilationMXBean();
+	private static final String TRACE_EVENT="{\"name\":\"%s\",\"cat\":\"lifecycle\",\"ph\":\"X\",\"ts\":%d,\"dur\":%d,\"pid\":%s,\"tid\":%d,\"args\":{\"loadedClasses\":%d,\"thread\":\"%s\"}}";
+
+	/** Monotonic origin of this report */
+	private final long origin;
+	/** Recorded phases in completion order */
+	private final Queue<LifecyclePhase> phases;
+	/** Latest warm-up measure */
+	private volatile WarmupReport warmup;
+
+	/**
+	 * Lifecycle report constructor, the creation instant is taken as origin
+	 */
+	public LifecycleReport(){
+		this.origin=System.nanoTime();
+		this.phases=new ConcurrentLinkedQueue<>();
+		this.warmup=null;
+	}
+
+	/**
+	 * Execute the given action measuring it as the given phase. The phase is recorded even if the action fails
+	 * @param <T> action result type
+	 * @param _phase phase name
+	 * @param _action action to measure
+	 * @return the action result
+	 */
+	public <T> T measure(final String _phase,final Supplier<T> _action){
+
+		final long classes=CLASS_LOADING.getTotalLoadedClassCount();
+		final long start=System.nanoTime();
+
+		try{
+			return _action.get();
+		}finally{
+			final long end=System.nanoTime();
+			final Thread current=Thread.currentThread();
+			this.phases.add(new LifecyclePhase(_phase
+												, start
+												, end-start
+												, CLASS_LOADING.getTotalLoadedClassCount()-classes
+												, current.getId()
+												, current.getName()));
+		}
+	}
+
+	/**
+	 * Execute the given warm-up iteration repeatedly until it returns false or the iterations or the time budget are exhausted, whichever happens first, 
+	 * recording the iterations executed and the JIT compilation time spent
+	 * @param _iteration warm-up iteration returning true to request another iteration
+	 * @param _maxIterations maximum iterations to execute, zero or negative for no iteration limit
+	 * @param _budget maximum time to spend, null for no time limit
+	 * @return the warm-up measure
+	 * @throws IllegalArgumentException if neither iteration limit nor time limit is provided
+	 * @see CompilationMXBean#getTotalCompilationTime() 
+	 */
+	public WarmupReport warmup(final BooleanSupplier _iteration,final int _maxIterations,final Duration _budget){
+		
+		if((_maxIterations<=0)&&(_budget==null))
+			throw new IllegalArgumentException("Warm-up requires an iteration limit or a time budget");
+		
+		final long compilation=compilationMillis();
+		final long start=System.nanoTime();
+		final int maxIterations=(_maxIterations>0)? _maxIterations : Integer.MAX_VALUE;
+		final long budget=(_budget!=null)? _budget.toNanos() : Long.MAX_VALUE;
+		int iterations=0;
+		
+		try{
+			boolean next=true;
+			while((next)&&(iterations<maxIterations)&&(System.nanoTime()-start<budget)){
+				iterations++;
+				next=_iteration.getAsBoolean();
+			}
+		}finally{
+			this.warmup=new WarmupReport(iterations
+											, System.nanoTime()-start
+											, (compilation<0)? -1 : compilationMillis()-compilation);
+		}
+		
+		return this.warmup;
+	}
+	
+	private static long compilationMillis(){
+		return Optional.ofNullable(COMPILATION)
+						.filter(CompilationMXBean::isCompilationTimeMonitoringSupported)
+						.map(CompilationMXBean::getTotalCompilationTime)
+						.orElse(-1L);
+	}
+
+	/**
+	 * Latest warm-up measure
+	 * @return optional of the latest warm-up measure, empty if no warm-up has been executed
+	 */
+	public Optional<WarmupReport> getWarmup(){
+		return Optional.ofNullable(this.warmup);
+	}
+
+	/**
+	 * Monotonic origin of this report
+	 * @return monotonic origin in nanoseconds (System.nanoTime())
+	 */
+	public long getOrigin() {
+		return this.origin;
+	}
+
+	/**
+	 * Recorded phases in completion order
+	 * @return a copy of the recorded phases
+	 */
+	public List<LifecyclePhase> getPhases(){
+		return new ArrayList<>(this.phases);
+	}
+
+	/**
+	 * Latest record of the given phase
+	 * @param _phase phase name
+	 * @return optional of the latest phase record with the given name
+	 */
+	public Optional<LifecyclePhase> getPhase(final String _phase){
+		return this.phases.stream()
+							.filter(phase -> phase.getName().equals(_phase))
+							.reduce((previous,latest) -> latest);
+	}
+
+	/**
+	 * Print all recorded phases into the verbose console channel
+	 * @param _console console where to print
+	 * @see Console#verbose(java.lang.String, java.lang.Object...)
+	 */
+	public void print(final Console _console){
+		this.phases
+				.forEach(phase -> _console.verbose("\tPhase {}: {}ms ({} classes loaded)"
+														, phase.getName()
+														, phase.getDurationMillis()
+														, phase.getLoadedClasses()));
+		getWarmup()
+				.ifPresent(measure -> _console.verbose("\tWarmup: {} iterations in {}ms ({}ms JIT compilation)"
+															, measure.getIterations()
+															, measure.getDurationMillis()
+															, measure.getCompilationMillis()));
+	}
+
+	/**
+	 * Render the recorded phases as Chrome trace-event JSON (chrome://tracing or Perfetto)
+	 * @return JSON string with the recorded phases as complete events
+	 */
+	public String toTraceEvents(){
+
+		final String pid=ManagementFactory.getRuntimeMXBean().getName().split("@")[0];
+
+		return this.phases.stream()
+							.map(phase -> String.format(Locale.ROOT,TRACE_EVENT
+																, escape(phase.getName())
+																, TimeUnit.NANOSECONDS.toMicros(phase.getStartNanos()-this.origin)
+																, TimeUnit.NANOSECONDS.toMicros(phase.getDurationNanos())
+																, pid.matches("\\d+")? pid : "0"
+																, phase.getThreadId()
+																, phase.getLoadedClasses()
+																, escape(phase.getThreadName())))
+							.collect(Collectors.joining(",\n","{\"traceEvents\":[\n","\n],\"displayTimeUnit\":\"ms\"}"));
+	}
+
+	/**
+	 * Write the Chrome trace-event JSON to the given file
+	 * @param _file destination file
+	 * @return the given file
+	 * @throws LifecycleReportNotExportable if the file can not be written
+	 * @see LifecycleReport#toTraceEvents()
+	 */
+	public Path exportTraceEvents(final Path _file){
+		try{
+			return Files.write(_file, toTraceEvents().getBytes(StandardCharsets.UTF_8));
+		}catch(IOException e){
+			throw new LifecycleReportNotExportable(_file, e);
+		}
+	}
+
+	private static String escape(final String _value){
+		return Optional.ofNullable(_value)
+						.map(value -> value.replace("\\", "\\\\").replace("\"", "\\\""))
+						.orElse("");
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite;
+
+/**
+ * Standalone lifecycle states, the only allowed transitions are NEW&rarr;STARTING&rarr;RUNNING&rarr;STOPPING&rarr;STOPPED, 
+ * STARTING&rarr;STOPPING (shutdown requested during ignition) and NEW&rarr;STOPPING (shutdown without ignition)
+ * @see Standalone#getState() 
+ * @author afarre
+ * @since 2.1.0
+ */
+public enum LifecycleState {
+	
+	/** Standalone built but not ignited */
+	NEW,
+	/** Ignition in progress */
+	STARTING,
+	/** Ignition finished */
+	RUNNING,
+	/** Shutdown in progress */
+	STOPPING,
+	/** Shutdown finished */
+	STOPPED;
+
+	/**
+	 * Check if this state is STOPPING or STOPPED
+	 * @return true if the shutdown has been started
+	 */
+	public boolean isTerminating(){
+		return (this==STOPPING)||(this==STOPPED);
+	}
+}
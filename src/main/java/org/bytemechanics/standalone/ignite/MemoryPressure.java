@@ -0,0 +1,33 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite;
+
+/**
+ * Heap memory pressure levels delivered to the ignitables when memory pressure monitoring is enabled
+ * @see Ignitable#onMemoryPressure(org.bytemechanics.standalone.ignite.MemoryPressure) 
+ * @see Standalone.StandaloneBuilder#memoryPressure(int, int) 
+ * @author afarre
+ * @since 2.1.0
+ */
+public enum MemoryPressure {
+	
+	/** Heap usage below the warning threshold */
+	NORMAL,
+	/** Heap usage over the warning threshold, time to evict caches */
+	WARNING,
+	/** Heap usage over the critical threshold, time to pause intake */
+	CRITICAL;
+}
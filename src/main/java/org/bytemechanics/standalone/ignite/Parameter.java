@@ -15,7 +15,9 @@
  */
 package org.bytemechanics.standalone.ignite;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -25,6 +27,7 @@ import org.bytemechanics.standalone.ignite.exceptions.MandatoryParameterNotProvi
 import org.bytemechanics.standalone.ignite.exceptions.NullOrEmptyMandatoryParameter;
 import org.bytemechanics.standalone.ignite.exceptions.UnparseableParameter;
 import org.bytemechanics.standalone.ignite.internal.EnumParseExceptionParameter;
+import org.bytemechanics.standalone.ignite.internal.FlightRecorder;
 import org.bytemechanics.standalone.ignite.internal.commons.string.SimpleFormat;
 
 /**
@@ -103,14 +106,16 @@ public interface Parameter {
 	 */
 	public Optional<Object> getValue();
 	/**
-	 * Returns the current value casted to the given class
+	 * Returns the current value casted to the given class. For enumeration constants the value is read from the values snapshot 
+	 * published by the last reload (if any) so it never observes a reload in progress
 	 * @param <T> type of the class to be cast
 	 * @param _class the class to be casted to
 	 * @return an optional of the value casted to the given class
+	 * @see ParameterSchema#value(org.bytemechanics.standalone.ignite.Parameter) 
 	 */
 	@SuppressWarnings("unchecked")
 	public default <T> Optional<T> getValue(final Class<T> _class){
-		return getValue()
+		return ParameterSchema.value(this)
 					.map(value -> (T)value);
 	}
 	/**
@@ -125,7 +130,8 @@ public interface Parameter {
 	}
 	
 	/**
-	 * Replace the current parameter value
+	 * Replace the current parameter value. Storage used by the parameters load, the values of an enumeration changed later are published 
+	 * as a whole by Standalone#reload(java.lang.String...), a value assigned directly once a reload has published its snapshot is only visible through getValue()
 	 * @param _value the new value
 	 * @return new parameter with the new value assigned
 	 */
@@ -135,15 +141,19 @@ public interface Parameter {
 	 * Look for the parameter into arguments filtering those parameters started with #getPrefix()
 	 * @param _args provided arguments
 	 * @return the value found without the getPrefix
+	 * @see Parameter#findParameter(org.bytemechanics.standalone.ignite.ArgumentIndex) 
 	 */
 	public default String findParameter(final String... _args){
-		return Optional.of(Stream.of(_args)
-									.filter(arg -> Stream.of(getPrefixes())
-														.map(prefix -> prefix+":")
-														.anyMatch(arg::startsWith))
-									.map(value -> value.substring(value.indexOf(':')+1))
-									.map(String::trim)
-									.findAny()
+		return findParameter(new ArgumentIndex(_args));
+	}
+	/**
+	 * Look for the parameter into the indexed arguments with exactly any of #getPrefixes()
+	 * @param _index indexed arguments
+	 * @return the value found without the prefix
+	 * @since 2.1.0
+	 */
+	public default String findParameter(final ArgumentIndex _index){
+		return Optional.of(_index.find(ParameterSchema.prefixes(this))
 									.orElseGet(() -> getDefaultValue()
 														.orElseThrow(() -> new MandatoryParameterNotProvided(this))))
 						.filter(value -> !value.isEmpty())
@@ -157,7 +167,7 @@ public interface Parameter {
 	 */
 	public default Object parseParameter(final String _value){
 		try{
-			return Optional.ofNullable(getParser())
+			return Optional.ofNullable(ParameterSchema.parser(this))
 							.map(supplier -> supplier.apply(_value))
 							.orElse(_value);
 		}catch(EnumParseExceptionParameter e){
@@ -171,21 +181,46 @@ public interface Parameter {
 	 * @throws UnparseableParameter if can not be parsed
 	 */
 	public default void validateParameter(){
-		Optional.ofNullable(getValidation())
+		Optional.ofNullable(ParameterSchema.validation(this))
 				.filter(validation -> getValue().isPresent())
 				.map(validation -> validation.apply(getValue().get()))
 				.map(cause -> new InvalidParameter(this, getValue().get(), cause))
 				.ifPresent(semanticFailure -> { throw semanticFailure; });
 	}
 
+	/**
+	 * Executes the configured semantic validation for the given value without assigning it
+	 * @param _value value to validate
+	 * @throws InvalidParameter if the value is not valid
+	 * @since 2.1.0
+	 */
+	public default void validateParameter(final Object _value){
+		Optional.ofNullable(ParameterSchema.validation(this))
+				.filter(validation -> _value!=null)
+				.map(validation -> validation.apply(_value))
+				.map(cause -> new InvalidParameter(this, _value, cause))
+				.ifPresent(semanticFailure -> { throw semanticFailure; });
+	}
+
 	/**
 	 * Search into arguments the parameter, parse and assign as value
 	 * @param _args arguments where search the parameter
 	 */
 	public default void loadParameter(final String... _args){
-		Optional.ofNullable(findParameter(_args))
+		loadParameter(new ArgumentIndex(_args));
+	}
+	/**
+	 * Search into the indexed arguments the parameter, parse and assign as value
+	 * @param _index indexed arguments where search the parameter
+	 * @since 2.1.0
+	 */
+	public default void loadParameter(final ArgumentIndex _index){
+		Optional.ofNullable(findParameter(_index))
 						.map(this::parseParameter)
-						.ifPresent(this::setValue);
+						.ifPresent(value -> {
+							setValue(value);
+							ParameterSchema.assigned(this);
+						});
 	}
 
 	/**
@@ -208,10 +243,60 @@ public interface Parameter {
 	 * @param _args Arguments from the command line execution
 	 */
 	public static void parseParameters(final Class<? extends Enum<? extends Parameter>> _parameters,final String... _args){
+		parseParameters(_parameters, new ArgumentIndex(_args));
+	} 
+	/**
+	 * Parse all given parameters from the indexed arguments and stores in the parameter enumeration
+	 * @param _parameters parameters enumeration class
+	 * @param _index indexed arguments from the command line execution
+	 * @since 2.1.0
+	 */
+	public static void parseParameters(final Class<? extends Enum<? extends Parameter>> _parameters,final ArgumentIndex _index){
+
+		ParameterSchema.of(_parameters)
+					.getParameters()
+					.forEach(param -> FlightRecorder.parameter("load", param, () -> param.loadParameter(_index)));
+	} 
+	
+	/**
+	 * Parse all given parameters into a fresh value set without modifying the current parameter values
+	 * @param _parameters parameters enumeration class
+	 * @param _args Arguments to parse
+	 * @return parsed values by parameter in declaration order, if a parameter parses to null its current value is kept
+	 * @since 2.1.0
+	 */
+	public static Map<Parameter,Object> parseValues(final Class<? extends Enum<? extends Parameter>> _parameters,final String... _args){
+		return parseValues(_parameters, new ArgumentIndex(_args));
+	} 
+	/**
+	 * Parse all given parameters from the indexed arguments into a fresh value set without modifying the current parameter values
+	 * @param _parameters parameters enumeration class
+	 * @param _index indexed arguments to parse
+	 * @return parsed values by parameter in declaration order, if a parameter parses to null its current value is kept
+	 * @since 2.1.0
+	 */
+	public static Map<Parameter,Object> parseValues(final Class<? extends Enum<? extends Parameter>> _parameters,final ArgumentIndex _index){
+
+		final Map<Parameter,Object> reply=new LinkedHashMap<>();
+
+		ParameterSchema.of(_parameters)
+					.getParameters()
+					.forEach(param -> FlightRecorder.parameter("reload", param, () -> reply.put(param, Optional.ofNullable(param.findParameter(_index))
+																												.map(param::parseParameter)
+																												.orElseGet(() -> ParameterSchema.value(param).orElse(null)))));
+		
+		return reply;
+	} 
+
+	/**
+	 * Execute semantic validations for all the given values without assigning them
+	 * @param _values values by parameter to validate
+	 * @throws InvalidParameter at the first not valid value
+	 * @since 2.1.0
+	 */
+	public static void validateValues(final Map<Parameter,Object> _values){
 
-		Stream.of(_parameters.getEnumConstants())
-					.map(param -> (Parameter)param)
-					.forEach(param -> param.loadParameter(_args));
+		_values.forEach((param,value) -> FlightRecorder.parameter("validate", param, () -> param.validateParameter(value)));
 	} 
 	
 	/**
@@ -221,9 +306,9 @@ public interface Parameter {
 	 */
 	public static void validateParameters(final Class<? extends Enum<? extends Parameter>> _parameters){
 
-		Stream.of(_parameters.getEnumConstants())
-					.map(param -> (Parameter)param)
-					.forEach(Parameter::validateParameter);
+		ParameterSchema.of(_parameters)
+					.getParameters()
+					.forEach(param -> FlightRecorder.parameter("validate", param, param::validateParameter));
 	} 
 
 	/**
@@ -247,10 +332,9 @@ public interface Parameter {
 	public static String getHelp(final List<Class<? extends Enum<? extends Parameter>>> _parameterClasses){
 
 		return _parameterClasses.stream()
-							.map(Class::getEnumConstants)
-							.flatMap(Stream::of)
-							.map(param -> (Parameter)param)
-							.map(Parameter::getHelp)
+							.map(ParameterSchema::of)
+							.filter(schema -> !schema.isEmpty())
+							.map(ParameterSchema::getHelp)
 							.collect(Collectors.joining("\n\t","Usage:\n\t","\n"));
 	} 
 }
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compiled parameter schema of a parameters enumeration: constants, prefixes, parsers, validations and the rendered help, 
+ * compiled only once per enumeration class and cached in a ClassValue so the parameter processing does not repeat any reflective work 
+ * (Class#getEnumConstants() clones the constants array at every call)
+ * @see Parameter
+ * @author afarre
+ * @since 2.1.0
+ */
+public class ParameterSchema {
+
+	private static final ClassValue<ParameterSchema> SCHEMAS=new ClassValue<ParameterSchema>(){
+		@Override
+		@SuppressWarnings("unchecked")
+		protected ParameterSchema computeValue(final Class<?> _type) {
+			return new ParameterSchema((Class<? extends Enum<? extends Parameter>>)_type);
+		}
+	};
+
+	private final Class<? extends Enum<? extends Parameter>> type;
+	private final List<Parameter> parameters;
+	private final String[][] prefixes;
+	private final Function<String,Object>[] parsers;
+	private final Function<Object,String>[] validations;
+	private final String help;
+	/** Published values snapshot, null until the first reload */
+	private volatile Map<Parameter,Object> values;
+
+	/**
+	 * Parameter schema constructor, compiles the given parameters enumeration
+	 * @param _type parameters enumeration class
+	 * @throws NullPointerException if type is null
+	 * @throws IllegalArgumentException if type is not an enumeration of parameters
+	 */
+	@SuppressWarnings("unchecked")
+	private ParameterSchema(final Class<? extends Enum<? extends Parameter>> _type){
+		if(_type==null)
+			throw new NullPointerException("Mandatory \"type\" can not be null");
+		if((!_type.isEnum())||(!Parameter.class.isAssignableFrom(_type)))
+			throw new IllegalArgumentException("Mandatory \"type\" must be an enumeration of parameters");
+		this.type=_type;
+		this.parameters=Collections.unmodifiableList(Stream.of(_type.getEnumConstants())
+																.map(param -> (Parameter)param)
+																.collect(Collectors.toList()));
+		this.prefixes=this.parameters.stream()
+										.map(Parameter::getPrefixes)
+										.map(values -> Arrays.copyOf(values, values.length))
+										.toArray(String[][]::new);
+		this.parsers=this.parameters.stream()
+										.map(Parameter::getParser)
+										.toArray(Function[]::new);
+		this.validations=this.parameters.stream()
+										.map(Parameter::getValidation)
+										.toArray(Function[]::new);
+		this.help=this.parameters.stream()
+										.map(Parameter::getHelp)
+										.collect(Collectors.joining("\n\t"));
+		this.values=null;
+	}
+
+	/**
+	 * Compiled schema of the given parameters enumeration, compiled at first request and cached afterwards
+	 * @param _type parameters enumeration class
+	 * @return the compiled schema
+	 * @throws IllegalArgumentException if type is not an enumeration of parameters
+	 */
+	public static ParameterSchema of(final Class<? extends Enum<? extends Parameter>> _type){
+		return SCHEMAS.get(_type);
+	}
+
+	/**
+	 * Compiled schema of the enumeration declaring the given parameter
+	 * @param _parameter parameter
+	 * @return the compiled schema or null if the parameter is not an enumeration constant
+	 */
+	@SuppressWarnings("unchecked")
+	private static ParameterSchema of(final Parameter _parameter){
+		return (_parameter instanceof Enum)? SCHEMAS.get(((Enum)_parameter).getDeclaringClass()) : null;
+	}
+
+	/**
+	 * Prefixes of the given parameter, from its compiled schema if is an enumeration constant
+	 * @param _parameter parameter
+	 * @return the parameter prefixes (shared with the schema, must not be modified)
+	 * @see Parameter#getPrefixes() 
+	 */
+	public static String[] prefixes(final Parameter _parameter){
+		
+		final ParameterSchema schema=of(_parameter);
+		
+		return (schema!=null)? schema.prefixes[((Enum)_parameter).ordinal()] : _parameter.getPrefixes();
+	}
+	/**
+	 * Parser of the given parameter, from its compiled schema if is an enumeration constant
+	 * @param _parameter parameter
+	 * @return the parameter parser (can be null)
+	 * @see Parameter#getParser() 
+	 */
+	public static Function<String,Object> parser(final Parameter _parameter){
+		
+		final ParameterSchema schema=of(_parameter);
+		
+		return (schema!=null)? schema.parsers[((Enum)_parameter).ordinal()] : _parameter.getParser();
+	}
+	/**
+	 * Validation of the given parameter, from its compiled schema if is an enumeration constant
+	 * @param _parameter parameter
+	 * @return the parameter validation (can be null)
+	 * @see Parameter#getValidation() 
+	 */
+	public static Function<Object,String> validation(final Parameter _parameter){
+		
+		final ParameterSchema schema=of(_parameter);
+		
+		return (schema!=null)? schema.validations[((Enum)_parameter).ordinal()] : _parameter.getValidation();
+	}
+
+	/**
+	 * Current value of the given parameter, from the published values snapshot of its enumeration if any has been published, 
+	 * otherwise from the parameter itself
+	 * @param _parameter parameter
+	 * @return optional of the current value
+	 * @see ParameterSchema#getValues() 
+	 * @see Parameter#getValue() 
+	 */
+	public static Optional<Object> value(final Parameter _parameter){
+		
+		final ParameterSchema schema=of(_parameter);
+		final Map<Parameter,Object> snapshot=(schema!=null)? schema.values : null;
+		
+		return ((snapshot!=null)&&(snapshot.containsKey(_parameter)))? Optional.ofNullable(snapshot.get(_parameter)) : _parameter.getValue();
+	}
+
+	/**
+	 * Publish the given values as the current values of this enumeration with a single write, so any reader sees either the previous set or the new one. 
+	 * The parameters not included keep their current value
+	 * @param _values values by parameter to publish
+	 * @return the published snapshot
+	 */
+	synchronized Map<Parameter,Object> publish(final Map<Parameter,Object> _values){
+		
+		final Map<Parameter,Object> snapshot=new LinkedHashMap<>();
+		
+		this.parameters.forEach(parameter -> snapshot.put(parameter, (_values.containsKey(parameter))? _values.get(parameter) : value(parameter).orElse(null)));
+		this.values=Collections.unmodifiableMap(snapshot);
+		
+		return this.values;
+	}
+	/**
+	 * Republish the value assigned to the given parameter if any snapshot has been published before, so the snapshot does not hide it
+	 * @param _parameter parameter whose value has been assigned
+	 * @see Parameter#loadParameter(org.bytemechanics.standalone.ignite.ArgumentIndex) 
+	 */
+	static void assigned(final Parameter _parameter){
+		
+		final ParameterSchema schema=of(_parameter);
+		
+		if((schema!=null)&&(schema.values!=null)){
+			schema.publish(Collections.singletonMap(_parameter, _parameter.getValue().orElse(null)));
+		}
+	}
+
+	/**
+	 * Current values of all the parameters in declaration order. Once a reload has published a snapshot the same immutable snapshot is returned 
+	 * until the next publication, so all the values returned belong to the same set
+	 * @return unmodifiable map of the current values by parameter (null values allowed)
+	 * @see Standalone#reload(java.lang.String...) 
+	 */
+	public Map<Parameter,Object> getValues(){
+		
+		final Map<Parameter,Object> snapshot=this.values;
+		
+		if(snapshot!=null){
+			return snapshot;
+		}
+		final Map<Parameter,Object> reply=new LinkedHashMap<>();
+		this.parameters.forEach(parameter -> reply.put(parameter, parameter.getValue().orElse(null)));
+		
+		return Collections.unmodifiableMap(reply);
+	}
+
+	/**
+	 * Parameters enumeration class
+	 * @return the parameters enumeration class
+	 */
+	public Class<? extends Enum<? extends Parameter>> getType() {
+		return type;
+	}
+	/**
+	 * Parameters in declaration order
+	 * @return unmodifiable list of the enumeration constants
+	 */
+	public List<Parameter> getParameters() {
+		return parameters;
+	}
+	/**
+	 * Rendered help of all the parameters, one per line
+	 * @return rendered help of all the parameters joined by new line and tab
+	 * @see Parameter#getHelp() 
+	 */
+	public String getHelp() {
+		return help;
+	}
+	/**
+	 * Return if the enumeration has no parameters
+	 * @return true if the enumeration has no constants
+	 */
+	public boolean isEmpty(){
+		return this.parameters.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "ParameterSchema{" + "type=" + type + ", parameters=" + parameters + '}';
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite;
+
+import org.bytemechanics.standalone.ignite.beans.TaskSchedule;
+import org.bytemechanics.standalone.ignite.metrics.Histogram;
+
+/**
+ * Periodic task run by the standalone scheduler, the task runtime, overruns and failures are also published at the standalone metrics registry 
+ * as "scheduler.{name}.runtime", "scheduler.{name}.overruns" and "scheduler.{name}.failures"
+ * @see Standalone#schedule(java.lang.String, org.bytemechanics.standalone.ignite.beans.TaskSchedule, java.lang.Runnable) 
+ * @see IgnitableAdapter#schedule(java.lang.String, org.bytemechanics.standalone.ignite.beans.TaskSchedule, java.lang.Runnable) 
+ * @author afarre
+ * @since 2.1.0
+ */
+public interface ScheduledTask {
+
+	/**
+	 * Task name
+	 * @return task name
+	 */
+	public String getName();
+
+	/**
+	 * Task schedule
+	 * @return task schedule
+	 */
+	public TaskSchedule getSchedule();
+
+	/**
+	 * Finished executions, failed or not
+	 * @return number of finished executions
+	 */
+	public long getExecutions();
+
+	/**
+	 * Executions that finished after the next execution should have started, at fixed rate the missed executions are skipped
+	 * @return number of overruns
+	 */
+	public long getOverruns();
+
+	/**
+	 * Executions finished with an exception, the task is kept scheduled
+	 * @return number of failed executions
+	 */
+	public long getFailures();
+
+	/**
+	 * Executions runtime histogram
+	 * @return executions runtime histogram in nanoseconds
+	 */
+	public Histogram getRuntime();
+
+	/**
+	 * Cancel the next executions, the current one (if any) is not interrupted
+	 */
+	public void cancel();
+
+	/**
+	 * Check if the task has been cancelled (directly or by the standalone shutdown)
+	 * @return true if no more executions will be started
+	 */
+	public boolean isCancelled();
+}
@@ -19,29 +19,76 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.bytemechanics.standalone.ignite.beans.ExecutorConfig;
+import org.bytemechanics.standalone.ignite.beans.IgnitableComponent;
+import org.bytemechanics.standalone.ignite.beans.MemoryPressurePolicy;
+import org.bytemechanics.standalone.ignite.beans.ResourceLimits;
+import org.bytemechanics.standalone.ignite.beans.SupervisionPolicy;
+import org.bytemechanics.standalone.ignite.beans.TaskSchedule;
 import org.bytemechanics.standalone.ignite.exceptions.FontNotReadable;
 import org.bytemechanics.standalone.ignite.exceptions.MandatoryIgnitableSupplier;
 import org.bytemechanics.standalone.ignite.exceptions.MandatoryParameterNotProvided;
 import org.bytemechanics.standalone.ignite.exceptions.ParameterException;
+import org.bytemechanics.standalone.ignite.internal.CgroupResources;
+import org.bytemechanics.standalone.ignite.internal.ComponentGraph;
+import org.bytemechanics.standalone.ignite.internal.FlightRecorder;
+import org.bytemechanics.standalone.ignite.internal.HealthEndpoint;
+import org.bytemechanics.standalone.ignite.internal.InFlightTracker;
+import org.bytemechanics.standalone.ignite.internal.ManagedExecutor;
+import org.bytemechanics.standalone.ignite.internal.MemoryPressureMonitor;
+import org.bytemechanics.standalone.ignite.internal.PhaseWatchdog;
+import org.bytemechanics.standalone.ignite.internal.ShutdownDispatcher;
+import org.bytemechanics.standalone.ignite.internal.SignalTrap;
+import org.bytemechanics.standalone.ignite.internal.StandaloneManagement;
+import org.bytemechanics.standalone.ignite.internal.StandaloneRegistry;
+import org.bytemechanics.standalone.ignite.internal.Supervisor;
+import org.bytemechanics.standalone.ignite.internal.TaskScheduler;
+import org.bytemechanics.standalone.ignite.internal.VirtualThreads;
 import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
 import org.bytemechanics.standalone.ignite.internal.commons.string.Figlet;
 import org.bytemechanics.standalone.ignite.internal.commons.string.SimpleFormat;
+import org.bytemechanics.standalone.ignite.metrics.MetricsRegistry;
 
 /**
  * Standalone configuration container
@@ -52,10 +99,20 @@ public class Standalone{
 //	public static final Pattern PATTERN=Pattern.compile("(?<argument>([^ ]*\".*\")(?:[ ])|([^ ]*\".*\")(?:$)|([^ ]*)(?:[ ])|([^ ]*)(?:$))");
 	public static final Pattern PATTERN=Pattern.compile("(?<argument>(([^ ]*\\\"[^\"]*\\\")|([^ ]*))((?:[ ])|(?:$)))");
 	
-	/** Latest standalone instantiated */
-	protected static Standalone self=null; 
+	/** Live standalones registry */
+	private static final StandaloneRegistry REGISTRY=new StandaloneRegistry();
+	/** Shared JVM shutdown hook */
+	protected static final ShutdownDispatcher SHUTDOWN=new ShutdownDispatcher();
+	/** Registration sequence of the standalone igniting at the current thread (inherited by the threads started during ignition) */
+	private static final InheritableThreadLocal<Long> IGNITING=new InheritableThreadLocal<>();
 	
 	
+	/** Standalone registration sequence */
+	private final long sequence;
+	/** Standalone unique id */
+	private final String id;
+	/** Registration sequence of the standalone that was igniting when this standalone was ignited */
+	private volatile Long igniter;
 	/** Standalone name. OPTIONAL*/
 	private final String name;
 	/** Standalone descriptipn. OPTIONAL*/
@@ -68,13 +125,84 @@ public class Standalone{
 	private final Supplier<Ignitable> supplier;
 	/** parameters enumeration class. OPTIONAL */
 	private final List<Class<? extends Enum<? extends Parameter>>> parameters;
-	/** Arguments from the command line execution. OPTIONAL */
-	private final String[] arguments;
+	/** Arguments from the command line execution, replaced on every successful reload. OPTIONAL */
+	private volatile String[] arguments;
 	/** console consumer by default java.util.logging. OPTIONAL*/
 	private final Console console;
+	/** Component waves in dependency order. OPTIONAL */
+	private final List<List<IgnitableComponent>> components;
+	/** Daemon mode, keeps the JVM alive until shutdown. OPTIONAL (default false) */
+	private final boolean daemon;
+	/** Ignitable supervision policy. OPTIONAL (default no restarts) */
+	private final SupervisionPolicy supervision;
+	/** Maximum warm-up iterations. OPTIONAL (default 0, no warm-up) */
+	private final int warmupIterations;
+	/** Maximum warm-up time. OPTIONAL */
+	private final Duration warmupBudget;
+	/** Run replicas and tasks at virtual threads if supported by the JVM. OPTIONAL (default false) */
+	private final boolean virtualThreads;
+	/** Thread per task executor for ignitables */
+	private final ExecutorService executor;
+	/** Health endpoint address. OPTIONAL (default disabled) */
+	private final InetSocketAddress healthAddress;
+	/** Health endpoint, only if enabled */
+	private volatile HealthEndpoint healthEndpoint;
+	/** Management MXBean, only while ignited */
+	private volatile StandaloneManagement management;
+	/** Memory pressure thresholds. OPTIONAL (default disabled) */
+	private final MemoryPressurePolicy memoryPressure;
+	/** Memory pressure monitor, only if enabled and while running */
+	private volatile MemoryPressureMonitor memoryMonitor;
+	/** Periodic tasks scheduler */
+	private final TaskScheduler scheduler;
+	/** Maximum wait for the running scheduled tasks at shutdown. OPTIONAL (default 10 seconds) */
+	private final Duration schedulerDrain;
+	/** Managed worker pools in creation order */
+	private final Map<String,ManagedExecutor> executors;
+	/** Managed worker pools already drained */
+	private boolean executorsDrained;
+	/** Arguments supplier to reload on SIGHUP. OPTIONAL (default SIGHUP not trapped) */
+	private final Supplier<String[]> reloadArguments;
+	/** SIGHUP trap, only if enabled and while running */
+	private volatile SignalTrap hangup;
+	/** Lock to serialize the parameter reloads */
+	private final ReentrantLock reloading;
+	/** In-flight work tracker */
+	private final InFlightTracker inFlight;
+	/** Maximum wait for the in-flight work at shutdown. OPTIONAL (default 10 seconds) */
+	private final Duration drainTimeout;
+	/** In-flight work already drained */
+	private boolean inFlightDrained;
+	/** Parallel bootstrap flag. OPTIONAL (default false) */
+	private final boolean parallelBootstrap;
+	/** Shutdown as soon as the ignition returns flag. OPTIONAL (default false) */
+	private final boolean shutdownAfterIgnition;
+	/** Parameter processing exceptions raised during the parallel bootstrap, delivered to the ignitable once instantiated */
+	private final Queue<ParameterException> deferredExceptions;
+	/** Parallel bootstrap in progress */
+	private volatile boolean bootstrapping;
+	/** Banner rendered during the parallel bootstrap */
+	private volatile String[] renderedBanner;
 
-	/** Internal ignitable instance */
-	private Ignitable instance;
+	/** Lifecycle phases report */
+	private final LifecycleReport lifecycleReport;
+	/** Metrics registry for ignitables */
+	private final MetricsRegistry metrics;
+	/** Lifecycle phases deadline watchdog */
+	private final PhaseWatchdog watchdog;
+	/** Current lifecycle state */
+	private final AtomicReference<LifecycleState> state;
+	/** Latch released once the shutdown has started */
+	private final CountDownLatch stopping;
+	/** Latch released once the shutdown has finished */
+	private final CountDownLatch terminated;
+	/** Thread executing the shutdown */
+	private volatile Thread terminator;
+
+	/** Internal ignitable instances, one per replica (the first one is the primary instance), replaced on every supervised restart */
+	private final AtomicReferenceArray<Ignitable> instances;
+	/** Internal component instances */
+	private final Map<String,Ignitable> componentInstances;
 
 	/**
 	 * Standalone constructor
@@ -111,17 +239,84 @@ public class Standalone{
 	 * @param _console console to use
 	 */
 	protected Standalone(final Supplier<Ignitable> _supplier,final String _name,final String _description,final boolean _showBanner,final URL _bannerFont,final List<Class<? extends Enum<? extends Parameter>>> _parameters,final String[] _arguments,final Console _console){
-		if(_supplier==null)
+		this(toBuilder(_supplier,_name,_description,_showBanner,_bannerFont,_parameters,_arguments,_console));
+	}
+	private static StandaloneBuilder toBuilder(final Supplier<Ignitable> _supplier,final String _name,final String _description,final boolean _showBanner,final URL _bannerFont,final List<Class<? extends Enum<? extends Parameter>>> _parameters,final String[] _arguments,final Console _console){
+		
+		final StandaloneBuilder reply=new StandaloneBuilder(_supplier);
+		
+		reply.name=_name;
+		reply.description=_description;
+		reply.showBanner=_showBanner;
+		reply.bannerFont=_bannerFont;
+		if(_parameters!=null)
+			reply.parameters.addAll(_parameters);
+		reply.arguments=_arguments;
+		reply.consoleInstance=_console;
+		
+		return reply;
+	}
+	/**
+	 * Standalone constructor from the builder configuration. The builder values are copied, so the builder can be modified or reused afterwards
+	 * @param _builder standalone builder with the configuration to use
+	 * @throws NullPointerException if the builder or its ignitable supplier are null
+	 * @throws org.bytemechanics.standalone.ignite.exceptions.UnknownComponentDependency if any component depends on a not provided component
+	 * @throws org.bytemechanics.standalone.ignite.exceptions.CyclicComponentDependency if the components dependencies contains a cycle
+	 * @see StandaloneBuilder
+	 * @since 2.1.0
+	 */
+	protected Standalone(final StandaloneBuilder _builder){
+		if(_builder==null)
+			throw new NullPointerException("Mandatory \"builder\" can not be null");
+		if(_builder.supplier==null)
 			throw new NullPointerException("Mandatory \"supplier\" can not be null");
-		this.name=_name;
-		this.description=_description;
-		this.showBanner=_showBanner;
-		this.bannerFont=(_bannerFont!=null)? _bannerFont : ClassLoader.getSystemResource("standard.flf");
-		this.supplier=_supplier;
-		this.arguments=((_arguments==null)||_arguments.length==0)? new String[0] : _arguments;
-		this.parameters=_parameters;
-		this.instance=null;
-		this.console=_console;
+		this.sequence=REGISTRY.nextSequence();
+		this.id=SimpleFormat.format("{}-{}",Optional.ofNullable(_builder.name).orElse("standalone"),this.sequence);
+		this.igniter=null;
+		this.name=_builder.name;
+		this.description=_builder.description;
+		this.showBanner=_builder.showBanner;
+		this.bannerFont=(_builder.bannerFont!=null)? _builder.bannerFont : ClassLoader.getSystemResource("standard.flf");
+		this.supplier=_builder.supplier;
+		this.arguments=((_builder.arguments==null)||_builder.arguments.length==0)? new String[0] : _builder.arguments.clone();
+		this.parameters=Collections.unmodifiableList(new ArrayList<>(_builder.parameters));
+		this.instances=new AtomicReferenceArray<>(Math.max(1,_builder.replicas));
+		this.virtualThreads=_builder.virtualThreads&&VirtualThreads.isSupported();
+		this.healthAddress=_builder.healthAddress;
+		this.memoryPressure=_builder.memoryPressure;
+		this.memoryMonitor=null;
+		this.healthEndpoint=null;
+		this.management=null;
+		this.executor=VirtualThreads.newThreadPerTaskExecutor(this.virtualThreads, SimpleFormat.format("{}-task-",Optional.ofNullable(_builder.name).orElse("standalone")));
+		this.console=(_builder.consoleInstance!=null)? _builder.consoleInstance : new OutConsole((_builder.console!=null)? _builder.console : getDefaultConsole(),_builder.consoleFormat,_builder.verbose);
+		this.lifecycleReport=new LifecycleReport();
+		this.metrics=new MetricsRegistry();
+		this.scheduler=new TaskScheduler(SimpleFormat.format("{}-scheduler-",Optional.ofNullable(_builder.name).orElse("standalone")), resources().getCpus(), this.metrics, this.console);
+		this.schedulerDrain=(_builder.schedulerDrain!=null)? _builder.schedulerDrain : TaskScheduler.DRAIN_TIMEOUT;
+		this.executors=new LinkedHashMap<>();
+		this.executorsDrained=false;
+		this.reloadArguments=_builder.reloadArguments;
+		this.inFlight=new InFlightTracker();
+		this.drainTimeout=(_builder.drainTimeout!=null)? _builder.drainTimeout : InFlightTracker.DRAIN_TIMEOUT;
+		this.inFlightDrained=false;
+		this.parallelBootstrap=_builder.parallelBootstrap;
+		this.shutdownAfterIgnition=_builder.shutdownAfterIgnition;
+		this.deferredExceptions=new ConcurrentLinkedQueue<>();
+		this.bootstrapping=false;
+		this.renderedBanner=null;
+		this.hangup=null;
+		this.reloading=new ReentrantLock();
+		this.components=ComponentGraph.waves(new ArrayList<>(_builder.components.values()));
+		this.daemon=_builder.daemon;
+		this.supervision=_builder.supervision;
+		this.warmupIterations=_builder.warmupIterations;
+		this.warmupBudget=_builder.warmupBudget;
+		this.componentInstances=new ConcurrentHashMap<>();
+		this.watchdog=new PhaseWatchdog(new LinkedHashMap<>(_builder.deadlines), _builder.escalation, this.console);
+		this.state=new AtomicReference<>(LifecycleState.NEW);
+		this.stopping=new CountDownLatch(1);
+		this.terminated=new CountDownLatch(1);
+		this.terminator=null;
 	}
 	
 	/**
@@ -172,6 +367,19 @@ public class Standalone{
 		_ignitable.startup();
 		return _ignitable;
 	}
+	/** 
+	 * Helper function to allow chaining without force users to return the ignitable instance. Internally calls _ignitable#warmup() repeatedly if warm-up is enabled
+	 * @param _ignitable ignitable instance
+	 * @return the given ignitable instance
+	 * @see Ignitable#warmup() 
+	 * @see LifecycleReport#warmup(java.util.function.BooleanSupplier, int, java.time.Duration) 
+	 */
+	private Ignitable warmupFunction(final Ignitable _ignitable){
+		if((this.warmupIterations>0)||(this.warmupBudget!=null)){
+			phase("warmup",() -> this.lifecycleReport.warmup(_ignitable::warmup, this.warmupIterations, this.warmupBudget));
+		}
+		return _ignitable;
+	}
 	/** 
 	 * Helper function to allow chaining without force users to return the ignitable instance. Internally calls _ignitable#afterStartup()
 	 * @param _ignitable ignitable instance
@@ -221,52 +429,423 @@ public class Standalone{
 		
 		final Standalone reply=this;
 		
-		this.instance=Optional.ofNullable(this.supplier)
-								.map(Supplier::get)
-								.orElseThrow(() -> new NullPointerException("Supplier can not be null and must provide a not null instance"));
+		IntStream.range(0, this.instances.length())
+					.forEach(replica -> this.instances.set(replica, supplyInstance()));
+		this.components.stream()
+						.flatMap(List::stream)
+						.forEach(component -> this.componentInstances.put(component.getName()
+																			, Optional.of(component.getSupplier())
+																					.map(Supplier::get)
+																					.orElseThrow(() -> new NullPointerException(SimpleFormat.format("Component {} supplier must provide a not null instance",component.getName())))));
 		return reply;
 	}
 	
 
+	/**
+	 * Provides a new ignitable instance from supplier
+	 * @return new ignitable instance
+	 */
+	private Ignitable supplyInstance(){
+		return Optional.ofNullable(this.supplier)
+						.map(Supplier::get)
+						.orElseThrow(() -> new NullPointerException("Supplier can not be null and must provide a not null instance"));
+	}
+
 	/**
 	 * Override this method to implement special tasks for startup
 	 * If this instance implements Runnable, then the default implementation will call Runnable::run
+	 * If a supervision policy is configured and the ignitable fails, it is restarted according to the policy before calling startupException
+	 * If more than one replica is configured, every replica is started at its own thread and this method returns once all of them have finished its startup
 	 * @return itself
 	 * @see Runnable
+	 * @see StandaloneBuilder#supervision(org.bytemechanics.standalone.ignite.beans.SupervisionPolicy) 
+	 * @see StandaloneBuilder#replicas(int) 
 	 */
 	protected Standalone startup(){
 		
 		final Standalone reply=this;
 		
 		try{
-			Optional.ofNullable(this.instance)
-					.map(this::beforeStartupFunction)
-					.map(this::startupFunction)
-					.ifPresent(this::afterStartupFunction);
+			startupComponents();
 		}catch(Exception e){
-			startupException(e);
+			startupException(getInstance(),e);
+			return reply;
 		}
+		executeReplicas(this::startupReplica);
 		
 		return reply;
 	}
 
-	private void closeAutoCloseables(){
-		Optional.ofNullable(this.instance)
+	/**
+	 * Name of the given phase for the given replica
+	 * @param _phase phase name
+	 * @param _replica replica index
+	 * @return the phase name if there is only one replica or the phase name followed by the replica index otherwise
+	 */
+	private String replicaPhase(final String _phase,final int _replica){
+		return (this.instances.length()==1)? _phase : SimpleFormat.format("{}[{}]",_phase,_replica);
+	}
+
+	/**
+	 * Executes the given action for every replica, with a single replica and without virtual threads the action is executed at the current thread
+	 * otherwise each replica is executed at its own thread (virtual if enabled) and waits until all of them finish
+	 * @param _action action to execute with the replica index
+	 */
+	private void executeReplicas(final IntConsumer _action){
+		
+		if((this.instances.length()==1)&&(!this.virtualThreads)){
+			_action.accept(0);
+		}else{
+			try{
+				CompletableFuture.allOf(IntStream.range(0, this.instances.length())
+													.mapToObj(replica -> CompletableFuture.runAsync(() -> _action.accept(replica)
+																								, runnable -> VirtualThreads.newThread(this.virtualThreads,SimpleFormat.format("{}-replica-{}",Optional.ofNullable(this.name).orElse("standalone"),replica),runnable).start()))
+													.toArray(CompletableFuture[]::new))
+									.join();
+			}catch(CompletionException e){
+				throw (e.getCause() instanceof RuntimeException)? (RuntimeException)e.getCause() : e;
+			}
+		}
+	}
+
+	/**
+	 * Starts the given replica, if fails once the supervision policy restarts are exhausted calls the replica startupException and closes it if is AutoCloseable
+	 * @param _replica replica index
+	 */
+	private void startupReplica(final int _replica){
+		try{
+			startupInstance(_replica);
+		}catch(Exception e){
+			startupException(this.instances.get(_replica),e);
+		}
+	}
+
+	/**
+	 * Starts the given replica instance calling beforeStartup, startup and afterStartup. If any of them fails and the supervision policy allows it, 
+	 * the failed instance is closed and replaced by a new one from the supplier after the policy backoff
+	 * @param _replica replica index
+	 */
+	private void startupInstance(final int _replica){
+		
+		final Supervisor supervisor=new Supervisor(this.supervision);
+		
+		while(true){
+			try{
+				Optional.ofNullable(this.instances.get(_replica))
+						.map(ignitable -> phase(replicaPhase("beforeStartup",_replica),() -> beforeStartupFunction(ignitable)))
+						.map(this::startupFunction)
+						.map(this::warmupFunction)
+						.ifPresent(ignitable -> phase(replicaPhase("afterStartup",_replica),() -> afterStartupFunction(ignitable)));
+				return;
+			}catch(Exception e){
+				final Optional<Duration> backoff=supervisor.nextBackoff();
+				if((!backoff.isPresent())||(!restart(_replica, e, backoff.get(), supervisor.getRestarts()))){
+					throw e;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Closes the failed ignitable and replaces it with a new instance from supplier once the backoff has elapsed
+	 * @param _replica replica index
+	 * @param _failure failure of the current ignitable
+	 * @param _backoff wait before supplying the new instance
+	 * @param _restart consecutive restart number
+	 * @return true if the ignitable has been replaced and false if the shutdown has started before
+	 */
+	private boolean restart(final int _replica,final Exception _failure,final Duration _backoff,final int _restart){
+		
+		if(this.state.get().isTerminating()){
+			return false;
+		}
+		this.console.error("Ignitable failure, restart {} of {} in {}ms: {}",_restart,this.supervision.getMaxRestarts(),_backoff.toMillis(),_failure.getMessage());
+		try{
+			closeAutoCloseables(this.instances.get(_replica));
+		}catch(Exception e){
+			this.console.error("Ignitable close failure: {}",e.getMessage());
+		}
+		try{
+			if(this.stopping.await(_backoff.toNanos(), TimeUnit.NANOSECONDS)){
+				return false;
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		phase(replicaPhase("restart",_replica),() -> {
+								final Ignitable ignitable=supplyInstance();
+								registerStandalone(ignitable, _replica);
+								this.instances.set(_replica, ignitable);
+								return this;
+							});
+		
+		return true;
+	}
+
+	private void closeAutoCloseables(final Ignitable _ignitable){
+		Optional.ofNullable(_ignitable)
 					.filter(ignitable -> AutoCloseable.class.isAssignableFrom(ignitable.getClass()))
 					.map(ignitable -> (AutoCloseable)ignitable)
 					.ifPresent(LambdaUnchecker.uncheckedConsumer(closeableIgnitable -> closeableIgnitable.close()));
 	}
-	private void startupException(final Exception e){
+	private void startupException(final Ignitable _ignitable,final Exception e){
 		try{
-			this.instance.startupException(e);
+			_ignitable.startupException(e);
 		}finally{
-			closeAutoCloseables();
+			closeAutoCloseables(_ignitable);
+		}
+	}
+
+	/**
+	 * Executes the given action for every component wave by wave, all components of the same wave are executed in parallel into a ForkJoinPool
+	 * @param _waves component waves to execute
+	 * @param _action action to execute for each component
+	 */
+	private void executeWaves(final List<List<IgnitableComponent>> _waves,final Consumer<IgnitableComponent> _action){
+		
+		final ForkJoinPool pool=new ForkJoinPool(_waves.stream()
+															.mapToInt(List::size)
+															.max()
+															.orElse(1));
+		try{
+			_waves.forEach(wave -> CompletableFuture.allOf(wave.stream()
+																.map(component -> CompletableFuture.runAsync(() -> _action.accept(component), pool))
+																.toArray(CompletableFuture[]::new))
+														.join());
+		}catch(CompletionException e){
+			throw (e.getCause() instanceof RuntimeException)? (RuntimeException)e.getCause() : e;
+		}finally{
+			pool.shutdown();
 		}
 	}
 	
+	/**
+	 * Starts the given component calling beforeStartup, startup and afterStartup, if any of them fails calls the component startupException and closes it if is AutoCloseable
+	 * @param _component component to start
+	 */
+	private void startupComponent(final IgnitableComponent _component){
+		
+		final Ignitable ignitable=this.componentInstances.get(_component.getName());
+		
+		phase(SimpleFormat.format("startup[{}]",_component.getName()), () -> {
+			try{
+				Optional.of(ignitable)
+						.map(this::beforeStartupFunction)
+						.map(this::startupFunction)
+						.ifPresent(this::afterStartupFunction);
+			}catch(Exception e){
+				startupException(ignitable,e);
+			}
+			return ignitable;
+		});
+	}
+	
+	/**
+	 * Starts all components in topological waves, the components of each wave are started in parallel once all the components of the previous wave are started
+	 * If any component rethrows its startup failure the remaining waves are not started and the failure is propagated
+	 * @return itself
+	 * @since 2.1.0
+	 */
+	protected Standalone startupComponents(){
+		
+		final Standalone reply=this;
+		
+		if(!this.components.isEmpty()){
+			measure("startupComponents", standalone -> {
+				executeWaves(this.components, this::startupComponent);
+				return standalone;
+			});
+		}
+		
+		return reply;
+	}
+	
+	/**
+	 * Shutdowns the given component calling beforeShutdown, shutdown and afterShutdown, if any of them fails calls the component shutdownException. 
+	 * Finally closes it if is AutoCloseable. Failures rethrown by the component are reported to console error and do not stop other components shutdown
+	 * @param _component component to shutdown
+	 */
+	private void shutdownComponent(final IgnitableComponent _component){
+		
+		Optional.ofNullable(this.componentInstances.get(_component.getName()))
+				.ifPresent(ignitable -> phase(SimpleFormat.format("shutdown[{}]",_component.getName()), () -> {
+					try{
+						try{
+							Optional.of(ignitable)
+									.map(this::beforeShutdownFunction)
+									.map(this::shutdownFunction)
+									.ifPresent(this::afterShutdownFunction);
+						}catch(Exception e){
+							ignitable.shutdownException(e);
+						}finally{
+							closeAutoCloseables(ignitable);
+						}
+					}catch(Exception e){
+						this.console.error("Component {} shutdown failure: {}",_component.getName(),e.getMessage());
+					}
+					return ignitable;
+				}));
+	}
+
+	/**
+	 * Shutdowns all components in reverse topological waves, the components of each wave are shutdown in parallel once all the components of the next wave are down
+	 * @return itself
+	 * @since 2.1.0
+	 */
+	protected Standalone shutdownComponents(){
+		
+		final Standalone reply=this;
+		
+		if(!this.componentInstances.isEmpty()){
+			final List<List<IgnitableComponent>> reversed=new ArrayList<>(this.components);
+			Collections.reverse(reversed);
+			measure("shutdownComponents", standalone -> {
+				executeWaves(reversed, this::shutdownComponent);
+				return standalone;
+			});
+		}
+		
+		return reply;
+	}
+	
+	/**
+	 * Moves the lifecycle state to STOPPING if no other shutdown has been started
+	 * @return true if the current thread must execute the shutdown
+	 */
+	private boolean beginShutdown(){
+		
+		LifecycleState current=this.state.get();
+		
+		while(!current.isTerminating()){
+			if(this.state.compareAndSet(current, LifecycleState.STOPPING)){
+				this.terminator=Thread.currentThread();
+				this.stopping.countDown();
+				return true;
+			}
+			current=this.state.get();
+		}
+		
+		return false;
+	}
+
+	/**
+	 * Waits until the in-flight shutdown finishes, unless the caller is the thread executing it
+	 */
+	private void awaitShutdown(){
+		if(Thread.currentThread()!=this.terminator){
+			try{
+				this.terminated.await();
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Rejects any new in-flight work and waits, at most the drain timeout, until the in-flight work finishes, only the first time is called. 
+	 * New work is always rejected from this point, the drainInFlight phase is only recorded if any work has ever been tracked. 
+	 * Any other caller waits until the in-flight work is drained
+	 * @return itself
+	 * @see Standalone#enter() 
+	 * @see StandaloneBuilder#drainTimeout(java.time.Duration) 
+	 * @since 2.1.0
+	 */
+	protected Standalone drainInFlight(){
+		
+		final Standalone reply=this;
+		
+		synchronized(this.inFlight){
+			if(!this.inFlightDrained){
+				if(this.inFlight.isUsed()){
+					phase("drainInFlight",this::awaitInFlight);
+				}else{
+					awaitInFlight();
+				}
+				this.inFlightDrained=true;
+			}
+		}
+		
+		return reply;
+	}
+	private Standalone awaitInFlight(){
+		if(!this.inFlight.drain(this.drainTimeout)){
+			this.console.error("In-flight work ({}) still running after {}ms",this.inFlight.getInFlight(),this.drainTimeout.toMillis());
+		}
+		return this;
+	}
+	private Ignitable drainInFlightFunction(final Ignitable _ignitable){
+		drainInFlight();
+		return _ignitable;
+	}
+
+	/**
+	 * Stops the intake of all the managed worker pools and drains them, in reverse creation order, only the first time is called. 
+	 * Any other caller waits until the pools are drained
+	 * @return itself
+	 * @see Standalone#executor(java.lang.String, org.bytemechanics.standalone.ignite.beans.ExecutorConfig) 
+	 * @since 2.1.0
+	 */
+	protected Standalone drainExecutors(){
+		
+		final Standalone reply=this;
+		
+		synchronized(this.executors){
+			if((!this.executorsDrained)&&(!this.executors.isEmpty())){
+				final List<ManagedExecutor> pools=new ArrayList<>(this.executors.values());
+				Collections.reverse(pools);
+				phase("stopExecutors",() -> {
+												pools.forEach(ManagedExecutor::stopIntake);
+												return this;
+											});
+				phase("drainExecutors",() -> {
+												pools.stream()
+														.filter(pool -> !pool.drain())
+														.forEach(pool -> this.console.error("Executor {} tasks still running after {}ms, interrupted",pool.getName(),pool.getConfig().getDrainTimeout().toMillis()));
+												return this;
+											});
+			}
+			this.executorsDrained=true;
+		}
+		
+		return reply;
+	}
+	private Ignitable drainExecutorsFunction(final Ignitable _ignitable){
+		drainExecutors();
+		return _ignitable;
+	}
+
+	/**
+	 * Shutdowns the given replica calling beforeShutdown, shutdown and afterShutdown, if any of them fails calls the replica shutdownException. 
+	 * Finally closes it if is AutoCloseable
+	 * @param _replica replica index
+	 */
+	private void shutdownReplica(final int _replica){
+		
+		final Ignitable instance=this.instances.get(_replica);
+		
+		try{
+			Optional.ofNullable(instance)
+					.map(ignitable -> phase(replicaPhase("beforeShutdown",_replica),() -> beforeShutdownFunction(ignitable)))
+					.map(this::drainInFlightFunction)
+					.map(this::drainExecutorsFunction)
+					.map(ignitable -> phase(replicaPhase("shutdown",_replica),() -> shutdownFunction(ignitable)))
+					.ifPresent(ignitable -> phase(replicaPhase("afterShutdown",_replica),() -> afterShutdownFunction(ignitable)));
+		}catch(Exception e){
+			instance.shutdownException(e);
+		}finally{
+			phase(replicaPhase("closeAutoCloseables",_replica),() -> {
+																			closeAutoCloseables(instance);
+																			return this;
+																		});
+		}
+	}
+
 	/**
 	 * Override this method to implement special tasks for graceful shutdown
 	 * If this instance implements Closeable, then the default implementation will call Closeable::close
+	 * The shutdown is executed only once, any other caller (concurrent or not) waits until the first one finishes
+	 * If more than one replica is configured, all replicas are shutdown in parallel each one at its own thread
 	 * @return itself
 	 * @see Closeable
 	 */
@@ -274,16 +853,48 @@ public class Standalone{
 		
 		final Standalone reply=this;
 		
+		if(!beginShutdown()){
+			awaitShutdown();
+			return reply;
+		}
 		try{
-			Optional.ofNullable(this.instance)
-					.map(this::beforeShutdownFunction)
-					.map(this::shutdownFunction)
-					.ifPresent(this::afterShutdownFunction);
-		}catch(Exception e){
-			this.instance.shutdownException(e);
+			Optional.ofNullable(this.memoryMonitor)
+					.ifPresent(MemoryPressureMonitor::close);
+			this.memoryMonitor=null;
+			Optional.ofNullable(this.hangup)
+					.ifPresent(SignalTrap::close);
+			this.hangup=null;
+			drainScheduler();
+			phase("termination",() -> {
+				try{
+					executeReplicas(this::shutdownReplica);
+				}finally{
+					drainInFlight();
+					drainExecutors();
+					shutdownComponents();
+				}
+				return this;
+			});
 		}finally{
-			closeAutoCloseables();
-			this.console.close();
+			if(!this.metrics.isEmpty()){
+				this.console.info("Metrics summary:");
+				this.metrics.print(this.console);
+			}
+			this.console.verbose("Shutdown lifecycle report:");
+			this.lifecycleReport.print(this.console);
+			this.executor.shutdown();
+			Optional.ofNullable(this.healthEndpoint)
+					.ifPresent(HealthEndpoint::close);
+			Optional.ofNullable(this.management)
+					.ifPresent(StandaloneManagement::close);
+			if(!this.shutdownAfterIgnition){
+				this.console.close();
+			}
+			this.watchdog.close();
+			this.state.set(LifecycleState.STOPPED);
+			REGISTRY.unregister(this.sequence, this);
+			SHUTDOWN.deregister(this.sequence);
+			this.terminated.countDown();
 		}
 
 		return reply;
@@ -298,11 +909,12 @@ public class Standalone{
 		final Standalone reply=this;
 
 		try{
+			final ArgumentIndex index=new ArgumentIndex(this.arguments);
 			this.parameters.stream()
 							.filter(Objects::nonNull)
-							.forEach(par -> Parameter.parseParameters(par, arguments));
+							.forEach(par -> Parameter.parseParameters(par, index));
 		}catch(final ParameterException e){
-			this.instance.parameterProcessingException(e);
+			parameterProcessingException(e);
 		}
 		
 		return reply;
@@ -317,26 +929,317 @@ public class Standalone{
 							.filter(Objects::nonNull)
 							.forEach(Parameter::validateParameters);
 		}catch(final ParameterException e){
-			this.instance.parameterProcessingException(e);
+			parameterProcessingException(e);
+		}
+
+		return reply;
+	} 
+	
+	/**
+	 * Delivers the parameter processing exception to the ignitable, during the parallel bootstrap the exception is deferred until the ignitable is instantiated
+	 * @param _exception parameter processing exception
+	 */
+	private void parameterProcessingException(final ParameterException _exception){
+		if(this.bootstrapping){
+			this.deferredExceptions.add(_exception);
+		}else{
+			getInstance().parameterProcessingException(_exception);
+		}
+	}
+
+	/**
+	 * Parallel bootstrap: parses and validates the parameters and renders the banner at the tasks executor while the ignitable is instantiated at the lifecycle thread, 
+	 * joins them and then delivers the parameter processing exceptions (in raise order) and prints the banner. 
+	 * The supplier and the components must not read the parameters during instantiation
+	 * @return The same instance provided
+	 * @see StandaloneBuilder#parallelBootstrap(boolean) 
+	 * @since 2.1.0
+	 */
+	protected Standalone bootstrap(){
+		
+		final Standalone reply=this;
+		
+		this.bootstrapping=true;
+		try{
+			final CompletableFuture<Standalone> parameters=CompletableFuture.supplyAsync(() -> measure("parseParameters",Standalone::parseParameters)
+																									.measure("validateParameters",Standalone::validateParameters), this.executor);
+			final CompletableFuture<String[]> banner=((this.showBanner)&&(this.name!=null))? 
+																CompletableFuture.supplyAsync(() -> phase("renderBanner",this::renderBanner), this.executor)
+																: CompletableFuture.completedFuture(null);
+			measure("instantiate",Standalone::instantiate);
+			join(parameters);
+			this.renderedBanner=join(banner);
+		}finally{
+			this.bootstrapping=false;
+		}
+		ParameterException exception;
+		while((exception=this.deferredExceptions.poll())!=null){
+			parameterProcessingException(exception);
+		}
+		
+		return reply.measure("printBanner",Standalone::printBanner);
+	}
+	private static <T> T join(final CompletableFuture<T> _future){
+		try{
+			return _future.join();
+		}catch(CompletionException e){
+			throw (e.getCause() instanceof RuntimeException)? (RuntimeException)e.getCause() : e;
 		}
+	}
 
+	/**
+	 * Starts a non daemon thread parked until the shutdown finishes to keep the JVM alive in daemon mode
+	 * @return The same instance provided
+	 * @since 2.1.0
+	 */
+	protected Standalone keepAlive(){
+		
+		final Standalone reply=this;
+		
+		if(this.daemon){
+			final Thread keeper=new Thread(() -> {
+				boolean interrupted=false;
+				while(this.terminated.getCount()>0){
+					try{
+						this.terminated.await();
+					}catch(InterruptedException e){
+						interrupted=true;
+					}
+				}
+				if(interrupted){
+					Thread.currentThread().interrupt();
+				}
+			},"standalone-keepalive");
+			keeper.setDaemon(false);
+			keeper.start();
+		}
+		
 		return reply;
 	} 
 	
 	/**
-	 * Registers the shutdown hook to perform a graceful shutdown by calling the Standalone::shudtdown method
+	 * Registers this standalone at the shared shutdown hook to perform a graceful shutdown by calling the Standalone::shudtdown method at JVM exit.
+	 * The standalone is deregistered once shutdown, at JVM exit the standalones ignited during this standalone ignition are shutdown before it
 	 * @return The same instance provided
+	 * @see ShutdownDispatcher
 	 */
 	protected Standalone addShutdownHook(){
 		
 		final Standalone reply=this;
 		
-		Runtime
-			.getRuntime()
-				.addShutdownHook(new Thread(this::shutdown));
+		SHUTDOWN.register(this.sequence, this.igniter, this::shutdown);
+		
+		return reply;
+	} 
+
+	/**
+	 * Starts the health endpoint if enabled
+	 * @return The same instance provided
+	 * @throws org.bytemechanics.standalone.ignite.exceptions.HealthEndpointNotBindable if the configured address can not be bound
+	 * @since 2.1.0
+	 */
+	protected Standalone startHealthEndpoint(){
+		
+		final Standalone reply=this;
+		
+		if(this.healthAddress!=null){
+			phase("healthEndpoint",() -> {
+											this.healthEndpoint=new HealthEndpoint(this, this.healthAddress).start();
+											this.console.verbose("Health endpoint listening at {}",this.healthEndpoint.getAddress());
+											return this;
+										});
+		}
+		
+		return reply;
+	} 
+
+	/**
+	 * Registers the standalone MXBean at the platform MBean server. Registration failures are reported to console error and do not stop the ignition. 
+	 * The bean is unregistered once shutdown or if the ignition fails, so the short-lived standalones shutdown after ignition (as the ShellAdapter commands) do not leave any bean
+	 * @return The same instance provided
+	 * @see StandaloneMXBean
+	 * @since 2.1.0
+	 */
+	protected Standalone registerManagement(){
+		
+		final Standalone reply=this;
+		
+		try{
+			this.management=new StandaloneManagement(this).register();
+			this.console.verbose("Management bean registered as {}",this.management.getObjectName());
+		}catch(JMException e){
+			this.console.error("Management bean can not be registered: {}",e.getMessage());
+		}
+		
+		return reply;
+	} 
+
+	/**
+	 * Starts the memory pressure monitor if enabled, the memory pressure level changes are delivered to every ignitable instance (replicas and components) 
+	 * at the monitor notifier thread until the shutdown starts
+	 * @return The same instance provided
+	 * @see Ignitable#onMemoryPressure(org.bytemechanics.standalone.ignite.MemoryPressure) 
+	 * @since 2.1.0
+	 */
+	protected Standalone startMemoryPressure(){
+		
+		final Standalone reply=this;
+		
+		if(this.memoryPressure!=null){
+			phase("memoryPressure",() -> {
+											this.memoryMonitor=new MemoryPressureMonitor(this.memoryPressure, this::memoryPressure).start();
+											this.console.verbose("Memory pressure monitor started with {}",this.memoryPressure);
+											return this;
+										});
+		}
+		
+		return reply;
+	} 
+
+	/**
+	 * All the current ignitable instances, replicas first and then components
+	 * @return stream of the not null ignitable instances
+	 */
+	private Stream<Ignitable> ignitables(){
+		return Stream.concat(IntStream.range(0, this.instances.length())
+											.mapToObj(this.instances::get)
+										, this.componentInstances.values().stream())
+						.filter(Objects::nonNull);
+	}
+
+	/**
+	 * Traps SIGHUP if the reload arguments supplier is configured, every SIGHUP reloads the supplied arguments 
+	 * and prints the failure to the console error channel if the new values are not valid
+	 * @return The same instance provided
+	 * @see StandaloneBuilder#reloadOnHangup(java.util.function.Supplier) 
+	 * @since 2.1.0
+	 */
+	protected Standalone trapReloadSignal(){
+		
+		final Standalone reply=this;
+		
+		if(this.reloadArguments!=null){
+			phase("trapReloadSignal",() -> {
+											final SignalTrap trap=new SignalTrap("HUP", () -> {
+																						try{
+																							reload(this.reloadArguments.get());
+																						}catch(RuntimeException e){
+																							this.console.error("Reload failure, previous values kept: {}",e.getMessage());
+																						}
+																					});
+											if(trap.install()){
+												this.hangup=trap;
+											}else{
+												this.console.error("SIGHUP can not be trapped by this JVM, reload only available through Standalone#reload");
+											}
+											return this;
+										});
+		}
+		
+		return reply;
+	}
+
+	/**
+	 * Reload the parameters from the given arguments without restarting. The new arguments are parsed and validated into a fresh value set, 
+	 * if all of them are valid the values are swapped in and Ignitable#onReload(List) is called for every ignitable instance (replicas and components) 
+	 * with the parameters whose value has changed, otherwise the current values are kept and the failure is thrown. 
+	 * Reloads are serialized and the new value set of each enumeration is published as one immutable snapshot with a single write, 
+	 * so Parameter#getValue(Class) and ParameterSchema#getValues() readers see either the previous set or the new one. 
+	 * The values are assigned afterwards to every parameter for the untyped Parameter#getValue()
+	 * @param _arguments new arguments
+	 * @return parameters whose value has changed
+	 * @throws IllegalStateException if the standalone is not running
+	 * @throws org.bytemechanics.standalone.ignite.exceptions.ParameterException if any argument can not be parsed or is not valid
+	 * @see Ignitable#onReload(java.util.List) 
+	 * @since 2.1.0
+	 */
+	public List<Parameter> reload(final String... _arguments){
+		
+		final String[] arguments=(_arguments!=null)? _arguments : new String[0];
+		final List<Parameter> reply;
+		
+		this.reloading.lock();
+		try{
+			if(this.state.get()!=LifecycleState.RUNNING)
+				throw new IllegalStateException(SimpleFormat.format("Standalone {} can not be reloaded at state {}",this.id,this.state.get()));
+			reply=phase("reload",() -> {
+										final Map<Parameter,Object> values=new LinkedHashMap<>();
+										final ArgumentIndex index=new ArgumentIndex(arguments);
+										Optional.ofNullable(this.parameters)
+													.ifPresent(parameterClasses -> parameterClasses.forEach(parameterClass -> values.putAll(Parameter.parseValues(parameterClass, index))));
+										Parameter.validateValues(values);
+										final List<Parameter> changed=values.entrySet()
+																				.stream()
+																					.filter(entry -> !Objects.equals(ParameterSchema.value(entry.getKey()).orElse(null), entry.getValue()))
+																					.map(Map.Entry::getKey)
+																					.collect(Collectors.toList());
+										Optional.ofNullable(this.parameters)
+													.ifPresent(parameterClasses -> parameterClasses.forEach(parameterClass -> ParameterSchema.of(parameterClass).publish(values)));
+										changed.forEach(parameter -> parameter.setValue(values.get(parameter)));
+										this.arguments=arguments;
+										return changed;
+									});
+			this.console.verbose("Reloaded {} changed parameters: {}",reply.size(),reply);
+			if(!reply.isEmpty()){
+				final List<Parameter> changed=Collections.unmodifiableList(reply);
+				ignitables()
+						.forEach(ignitable -> {
+							try{
+								ignitable.onReload(changed);
+							}catch(Exception e){
+								this.console.error("Reload callback failure: {}",e.getMessage());
+							}
+						});
+			}
+		}finally{
+			this.reloading.unlock();
+		}
+		
+		return reply;
+	}
+
+	/**
+	 * Deliver the memory pressure level change to every ignitable instance (replicas and components), the failures are printed to the console error channel
+	 * @param _level new memory pressure level
+	 * @since 2.1.0
+	 */
+	protected void memoryPressure(final MemoryPressure _level){
+		
+		this.console.verbose("Memory pressure level changed to {}",_level);
+		ignitables()
+				.forEach(ignitable -> {
+					try{
+						ignitable.onMemoryPressure(_level);
+					}catch(Exception e){
+						this.console.error("Memory pressure {} callback failure: {}",_level,e.getMessage());
+					}
+				});
+	}
+
+	/**
+	 * Cancels the scheduled tasks next executions and waits for the running ones at most the scheduler drain timeout, 
+	 * so no scheduled task runs once the ignitables shutdown starts
+	 * @return The same instance provided
+	 * @see StandaloneBuilder#schedulerDrain(java.time.Duration) 
+	 * @since 2.1.0
+	 */
+	protected Standalone drainScheduler(){
+		
+		final Standalone reply=this;
+		
+		if(this.scheduler.isUsed()){
+			phase("drainScheduler",() -> {
+											if(!this.scheduler.drain(this.schedulerDrain)){
+												this.console.error("Scheduled tasks still running after {}ms, interrupted",this.schedulerDrain.toMillis());
+											}
+											return this;
+										});
+		}else{
+			this.scheduler.close();
+		}
 		
 		return reply;
-	} 
+	}
 
 	/**
 	 * Prints banner into CONSOLE logger at INFO level if name is informed
@@ -347,28 +1250,33 @@ public class Standalone{
 		final Standalone reply=this;
 		
 		if((this.showBanner)&&(this.name!=null)){
-			try(InputStream font=this.bannerFont.openStream()){
-				Figlet figlet=new Figlet(font, Charset.forName("UTF-8"));
-				String banner=figlet.print(this.name);
-				this.console.info(figlet.line(this.name,'='));
-				this.console.info(banner);
-				this.console.info(figlet.line(this.name,'-'));
+			try{
+				final String[] banner=Optional.ofNullable(this.renderedBanner)
+												.orElseGet(this::renderBanner);
+				this.console.info(banner[0]);
+				this.console.info(banner[1]);
+				this.console.info(banner[2]);
 				this.console.info(SimpleFormat.format("\tJVM: {}",System.getProperty("java.version")));
-				this.console.info(SimpleFormat.format("\tCores: {}",Runtime.getRuntime().availableProcessors()));
+				final ResourceLimits resources=resources();
+				this.console.info(SimpleFormat.format("\tCores: {}",resources.getCpus()));
 				this.console.info(SimpleFormat.format("\tMemory (bytes): {}/{}",Runtime.getRuntime().totalMemory(),Runtime.getRuntime().maxMemory()));
+				this.console.info(SimpleFormat.format("\tMemory limit (bytes): {}",(resources.isMemoryLimited())? resources.getMemoryLimit() : "unlimited"));
+				this.console.info(SimpleFormat.format("\tDirect memory limit (bytes): {}",resources.getDirectMemoryLimit()));
+				this.console.info(SimpleFormat.format("\tGarbage collectors: {}",String.join(", ",resources.getGarbageCollectors())));
+				this.console.info(SimpleFormat.format("\tCgroup: {}",(resources.isContainerized())? "v"+resources.getCgroupVersion() : "none"));
 				this.console.info(SimpleFormat.format("\tBase path: {}", new File(".").getCanonicalPath()));
 				this.console.info(SimpleFormat.format("\tVersion: {}/{}",
-															Optional.of(this.instance)
+															Optional.of(getInstance())
 																		.map(Object::getClass)
 																		.map(Class::getPackage)
 																		.map(Package::getSpecificationVersion)
 																		.orElse("unknown"),
-															Optional.of(this.instance)
+															Optional.of(getInstance())
 																		.map(Object::getClass)
 																		.map(Class::getPackage)
 																		.map(Package::getImplementationVersion)
 																		.orElse("unknown")));
-				this.console.info(figlet.line(this.name,'='));
+				this.console.info(banner[0]);
 			} catch (IOException e) {
 				throw new FontNotReadable(this.bannerFont,e);
 			}
@@ -376,6 +1284,21 @@ public class Standalone{
 		
 		return reply;
 	} 
+
+	/**
+	 * Renders the banner with the configured font
+	 * @return the banner top line, the banner and the banner bottom line
+	 * @throws FontNotReadable if the font can not be read
+	 * @since 2.1.0
+	 */
+	protected String[] renderBanner(){
+		try(InputStream font=this.bannerFont.openStream()){
+			final Figlet figlet=new Figlet(font, Charset.forName("UTF-8"));
+			return new String[]{figlet.line(this.name,'='), figlet.print(this.name), figlet.line(this.name,'-')};
+		} catch (IOException e) {
+			throw new FontNotReadable(this.bannerFont,e);
+		}
+	}
 	
 	/**
 	 * Assigns standalone if possible
@@ -385,13 +1308,116 @@ public class Standalone{
 
 		final Standalone reply=this;
 		
-		if(IgnitableAdapter.class.isAssignableFrom(this.instance.getClass())){
-			((IgnitableAdapter)reply.instance).setStandalone(this);
-		}
+		IntStream.range(0, this.instances.length())
+					.forEach(replica -> registerStandalone(this.instances.get(replica),replica));
+		this.componentInstances.values()
+					.forEach(ignitable -> registerStandalone(ignitable,0));
 		
 		return reply;
 	}
+	private void registerStandalone(final Ignitable _ignitable,final int _replica){
+		Optional.of(_ignitable)
+				.filter(ignitable -> IgnitableAdapter.class.isAssignableFrom(ignitable.getClass()))
+				.map(ignitable -> (IgnitableAdapter)ignitable)
+				.ifPresent(ignitable -> {
+					ignitable.setStandalone(this);
+					ignitable.setReplica(_replica);
+				});
+	}
+
+	/**
+	 * Executes the given lifecycle step recording it into the lifecycle report
+	 * @param _phase phase name
+	 * @param _step lifecycle step to execute
+	 * @return The same instance provided
+	 * @see LifecycleReport#measure(java.lang.String, java.util.function.Supplier) 
+	 * @since 2.1.0
+	 */
+	protected Standalone measure(final String _phase,final Function<Standalone,Standalone> _step){
+		return phase(_phase, () -> _step.apply(this));
+	}
+
+	/**
+	 * Executes the given action as a lifecycle phase, recording it into the lifecycle report and watching its deadline if configured
+	 * @param <T> action result type
+	 * @param _phase phase name
+	 * @param _action action to execute
+	 * @return the action result
+	 */
+	private <T> T phase(final String _phase,final Supplier<T> _action){
+		return this.watchdog.watch(_phase, () -> FlightRecorder.phase(this.name, _phase, () -> this.lifecycleReport.measure(_phase, _action)));
+	}
 	
+	/**
+	 * Executes the complete ignition sequence, when a mandatory parameter is not provided prints the error and the help before rethrowing it.
+	 * The sequence is executed only if this standalone has not been ignited nor shutdown before. 
+	 * The standalone is registered as live when the sequence starts and unregistered (with its management bean) if the sequence fails or once shutdown. 
+	 * If configured to shutdown after ignition, the shutdown is executed once the sequence returns (successfully or not)
+	 * @return The same instance provided
+	 * @throws MandatoryParameterNotProvided if any mandatory parameter has not been provided
+	 * @since 2.1.0
+	 */
+	protected Standalone ignition(){
+		
+		final Standalone reply=this;
+		
+		if(!this.state.compareAndSet(LifecycleState.NEW, LifecycleState.STARTING)){
+			this.console.verbose("Ignition ignored, standalone is already {}",this.state.get());
+			return reply;
+		}
+		final Long outer=IGNITING.get();
+		this.igniter=outer;
+		IGNITING.set(this.sequence);
+		REGISTRY.register(this.sequence, this);
+		try{
+			startHealthEndpoint();
+			if(this.parallelBootstrap){
+				measure("ignition",standalone -> standalone.measure("bootstrap",Standalone::bootstrap)
+																.measure("addShutdownHook",Standalone::addShutdownHook)
+																.measure("registerStandalone",Standalone::registerStandalone)
+																.measure("registerManagement",Standalone::registerManagement)
+																.measure("startup",Standalone::startup));
+			}else{
+				measure("ignition",standalone -> standalone.measure("instantiate",Standalone::instantiate)
+																.measure("addShutdownHook",Standalone::addShutdownHook)
+																.measure("registerStandalone",Standalone::registerStandalone)
+																.measure("registerManagement",Standalone::registerManagement)
+																.measure("parseParameters",Standalone::parseParameters)
+																.measure("validateParameters",Standalone::validateParameters)
+																.measure("printBanner",Standalone::printBanner)
+																.measure("startup",Standalone::startup));
+			}
+			startMemoryPressure();
+			trapReloadSignal();
+			if(this.state.compareAndSet(LifecycleState.STARTING, LifecycleState.RUNNING)){
+				keepAlive();
+			}
+		}catch(MandatoryParameterNotProvided e){
+			this.console.error(e.getMessage());
+			this.console.error(Parameter.getHelp(this.parameters));
+			throw e;
+		}finally{
+			if(outer==null){
+				IGNITING.remove();
+			}else{
+				IGNITING.set(outer);
+			}
+			if(this.state.get()!=LifecycleState.RUNNING){
+				// Ignition failed or shutdown already started: the standalone is no longer live
+				REGISTRY.unregister(this.sequence, this);
+				Optional.ofNullable(this.management)
+						.ifPresent(StandaloneManagement::close);
+			}
+			this.console.verbose("Ignition lifecycle report:");
+			this.lifecycleReport.print(this.console);
+			if(this.shutdownAfterIgnition){
+				shutdown();
+			}
+		}
+		
+		return reply;
+	}
+
 	/**
 	 * Call this method to ignite the standalone application this method will:
 	 * <ul>
@@ -407,21 +1433,41 @@ public class Standalone{
 		final Standalone reply=this;
 		
 		try{
-			instantiate()
-				.addShutdownHook()
-				.registerStandalone()
-				.parseParameters()
-				.validateParameters()
-				.printBanner()
-				.startup();
+			ignition();
 		}catch(MandatoryParameterNotProvided e){
-			this.console.error(e.getMessage());
-			this.console.error(Parameter.getHelp(this.parameters));
+			// Error and help already printed to console during ignition
 		}
 		
 		return reply;
 	}
 
+	/**
+	 * Call this method to ignite the standalone application asynchronously. The same ignition sequence than ignite() is executed with the given executor,
+	 * the returned future completes after Ignitable#afterStartup() with this instance or exceptionally with any failure raised during ignition
+	 * (including the ones rethrown by Ignitable#startupException(java.lang.Exception) and Ignitable#parameterProcessingException(org.bytemechanics.standalone.ignite.exceptions.ParameterException))
+	 * Note: Runnable ignitables complete the future only when run() returns
+	 * @param _executor executor where run the ignition sequence
+	 * @return future of this instance completed once the ignition sequence finishes
+	 * @see Standalone#ignite()
+	 * @since 2.1.0
+	 */
+	public CompletableFuture<Standalone> igniteAsync(final Executor _executor){
+		return CompletableFuture.supplyAsync(this::ignition,_executor);
+	}
+
+	/**
+	 * Blocks until the shutdown has finished or the timeout elapses, whichever happens first. 
+	 * Intended for daemon mode to wait from the main thread instead of sleeping or polling
+	 * @param _timeout maximum time to wait
+	 * @return true if the shutdown has finished and false if the timeout elapsed before
+	 * @throws InterruptedException if the current thread is interrupted while waiting
+	 * @see StandaloneBuilder#daemon(boolean) 
+	 * @since 2.1.0
+	 */
+	public boolean awaitTermination(final Duration _timeout) throws InterruptedException{
+		return this.terminated.await(_timeout.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
 	/**
 	 * Call this method to programatically shutdown() the application. 
 	 * @param _exitCode exit code to use when shutdown application this method force current jvm execution termination
@@ -438,10 +1484,32 @@ public class Standalone{
 	 * Standalone name. If present banner is printed at console. OPTIONAL
 	 * @return Standalone name. OPTIONAL
 	 */
-	protected String getName() {
+	public String getName() {
 		return this.name;
 	}
 
+	/**
+	 * Standalone unique id in this JVM, the name (or standalone if not informed) followed by the registration sequence
+	 * @return Standalone unique id
+	 * @see Standalone#lookup(java.lang.String) 
+	 * @since 2.1.0
+	 */
+	public String getId() {
+		return this.id;
+	}
+
+	/**
+	 * Return the live standalone that was igniting when this standalone was ignited (at the same thread or at a thread started during its ignition), 
+	 * at JVM exit this standalone is shutdown before its igniter
+	 * @return optional of the igniter standalone, empty if was ignited independently or the igniter is already shutdown
+	 * @see Standalone#addShutdownHook() 
+	 * @since 2.1.0
+	 */
+	public Optional<Standalone> getIgniter() {
+		return Optional.ofNullable(this.igniter)
+						.flatMap(REGISTRY::lookup);
+	}
+
 	/**
 	 * Standalone description. Description to show into help. OPTIONAL
 	 * @return Standalone description. OPTIONAL
@@ -481,11 +1549,195 @@ public class Standalone{
 		return this.arguments;
 	}
 	/**
-	 * Internal ignitable instance
+	 * Internal ignitable instance (the first replica if more than one replica is configured)
 	 * @return internal ignitable instance
 	 */
 	protected Ignitable getInstance() {
-		return this.instance;
+		return this.instances.get(0);
+	}
+
+	/**
+	 * Internal ignitable instances, one per replica
+	 * @return list with the current instance of every replica ordered by replica index
+	 * @since 2.1.0
+	 */
+	protected List<Ignitable> getReplicas() {
+		return IntStream.range(0, this.instances.length())
+							.mapToObj(this.instances::get)
+							.collect(Collectors.toList());
+	}
+
+	/**
+	 * Return the instance of the given component
+	 * @param _name component name
+	 * @return Optional of the component instance, empty if the component does not exist or is not instantiated yet
+	 * @since 2.1.0
+	 */
+	public Optional<Ignitable> getComponent(final String _name){
+		return Optional.ofNullable(_name)
+						.map(this.componentInstances::get);
+	}
+
+	/**
+	 * Return if the standalone is ready: ignition finished (after Ignitable#afterStartup()) and shutdown not started (before Ignitable#beforeShutdown())
+	 * @return true if the lifecycle state is RUNNING
+	 * @since 2.1.0
+	 */
+	public boolean isReady(){
+		return this.state.get()==LifecycleState.RUNNING;
+	}
+
+	/**
+	 * Return the address where the health endpoint is listening
+	 * @return optional of the health endpoint address, empty if the health endpoint is disabled or not started yet
+	 * @see StandaloneBuilder#healthEndpoint(java.net.InetSocketAddress) 
+	 * @since 2.1.0
+	 */
+	public Optional<InetSocketAddress> getHealthEndpointAddress(){
+		return Optional.ofNullable(this.healthEndpoint)
+						.map(HealthEndpoint::getAddress);
+	}
+
+	/**
+	 * Return the current memory pressure level
+	 * @return current memory pressure level, always NORMAL if the memory pressure monitor is disabled or not running
+	 * @see StandaloneBuilder#memoryPressure(org.bytemechanics.standalone.ignite.beans.MemoryPressurePolicy) 
+	 * @since 2.1.0
+	 */
+	public MemoryPressure getMemoryPressure(){
+		return Optional.ofNullable(this.memoryMonitor)
+						.map(MemoryPressureMonitor::getLevel)
+						.orElse(MemoryPressure.NORMAL);
+	}
+
+	/**
+	 * Return the metrics registry of this standalone, its summary is printed into the info console once all ignitables are shutdown
+	 * @return metrics registry
+	 * @since 2.1.0
+	 */
+	public MetricsRegistry getMetrics(){
+		return this.metrics;
+	}
+
+	/**
+	 * Return the object name where the standalone MXBean is registered
+	 * @return optional of the object name, empty if the standalone has not been ignited or the registration failed
+	 * @see StandaloneMXBean
+	 * @since 2.1.0
+	 */
+	public Optional<ObjectName> getManagementName(){
+		return Optional.ofNullable(this.management)
+						.map(StandaloneManagement::getObjectName);
+	}
+
+	/**
+	 * Return if replicas and executor tasks run at virtual threads
+	 * @return true if virtual threads has been requested and are supported by the running JVM
+	 * @see StandaloneBuilder#virtualThreads(boolean) 
+	 * @since 2.1.0
+	 */
+	public boolean isVirtualThreads(){
+		return this.virtualThreads;
+	}
+
+	/**
+	 * Return the executor for ignitable tasks, starts a new virtual thread per task if virtual threads are enabled and supported 
+	 * otherwise reuses idle daemon platform threads or starts new ones. The executor is shutdown at the end of the standalone shutdown
+	 * @return the ignitable tasks executor
+	 * @see StandaloneBuilder#virtualThreads(boolean) 
+	 * @since 2.1.0
+	 */
+	public ExecutorService getExecutor(){
+		return this.executor;
+	}
+
+	/**
+	 * Schedule a periodic task at the standalone scheduler, a pool of daemon threads (one per available core) shared by all the ignitables. 
+	 * The scheduled tasks are drained when the shutdown starts, before any Ignitable#beforeShutdown() call
+	 * @param _name task name, used also to publish its metrics
+	 * @param _schedule task schedule
+	 * @param _task task to execute
+	 * @return the scheduled task
+	 * @throws java.util.concurrent.RejectedExecutionException if the shutdown has already started
+	 * @see ScheduledTask
+	 * @see StandaloneBuilder#schedulerDrain(java.time.Duration) 
+	 * @since 2.1.0
+	 */
+	public ScheduledTask schedule(final String _name,final TaskSchedule _schedule,final Runnable _task){
+		return this.scheduler.schedule(_name, _schedule, _task);
+	}
+	/**
+	 * Return the managed worker pool with the given name, creating it with the given configuration if does not exist (the configuration is ignored otherwise). 
+	 * The pool threads are named after the standalone and the pool, its queue depth, active threads, queue wait and task latency are published at the metrics registry. 
+	 * At shutdown, once the ignitable beforeShutdown finishes, the intake of every pool is stopped and the queued and running tasks are drained 
+	 * (in reverse creation order and bounded by each pool drain timeout) before the ignitable shutdown starts
+	 * @param _name pool name
+	 * @param _config pool configuration
+	 * @return the managed worker pool
+	 * @throws NullPointerException if any argument is null
+	 * @throws java.util.concurrent.RejectedExecutionException if the shutdown has already started
+	 * @see ExecutorConfig
+	 * @since 2.1.0
+	 */
+	public ExecutorService executor(final String _name,final ExecutorConfig _config){
+		if(_name==null)
+			throw new NullPointerException("Mandatory \"name\" can not be null");
+		if(_config==null)
+			throw new NullPointerException("Mandatory \"config\" can not be null");
+		if(this.state.get().isTerminating())
+			throw new RejectedExecutionException(SimpleFormat.format("Executor {} rejected, shutdown already started",_name));
+		synchronized(this.executors){
+			if(this.executorsDrained)
+				throw new RejectedExecutionException(SimpleFormat.format("Executor {} rejected, shutdown already started",_name));
+			return this.executors.computeIfAbsent(_name, name -> new ManagedExecutor(SimpleFormat.format("{}-{}-",Optional.ofNullable(this.name).orElse("standalone"),name), name, _config, this.metrics));
+		}
+	}
+
+	/**
+	 * Return the scheduled tasks not cancelled
+	 * @return list of the scheduled tasks
+	 * @since 2.1.0
+	 */
+	public List<ScheduledTask> getScheduledTasks(){
+		return this.scheduler.getTasks();
+	}
+
+	/**
+	 * Enter a new unit of in-flight work (a request, a message, a command...), if accepted must be followed by an exit() call once finished. 
+	 * At shutdown, once the ignitable beforeShutdown finishes, new work is rejected and the in-flight work is waited (bounded by the drain timeout) before the ignitable shutdown starts
+	 * @return true if accepted, false if the drain has already started and the work must be rejected
+	 * @see Standalone#exit() 
+	 * @see StandaloneBuilder#drainTimeout(java.time.Duration) 
+	 * @since 2.1.0
+	 */
+	public boolean enter(){
+		return this.inFlight.enter();
+	}
+	/**
+	 * Exit a unit of in-flight work previously accepted by enter()
+	 * @see Standalone#enter() 
+	 * @since 2.1.0
+	 */
+	public void exit(){
+		this.inFlight.exit();
+	}
+	/**
+	 * Return the units of work in flight
+	 * @return units of work entered and not exited yet
+	 * @see Standalone#enter() 
+	 * @since 2.1.0
+	 */
+	public long getInFlight(){
+		return this.inFlight.getInFlight();
+	}
+	/**
+	 * Return if the in-flight work is being drained, any new work is rejected
+	 * @return true if the drain has started
+	 * @see Standalone#enter() 
+	 * @since 2.1.0
+	 */
+	public boolean isDraining(){
+		return this.inFlight.isDraining();
 	}
 
 	/**
@@ -496,6 +1748,24 @@ public class Standalone{
 		return this.console;
 	}
 
+	/**
+	 * Return the current lifecycle state without locking
+	 * @return the current lifecycle state
+	 * @since 2.1.0
+	 */
+	public LifecycleState getState(){
+		return this.state.get();
+	}
+
+	/**
+	 * Return the lifecycle report with the duration and loaded classes of every executed phase
+	 * @return the lifecycle report
+	 * @since 2.1.0
+	 */
+	public LifecycleReport getLifecycleReport(){
+		return this.lifecycleReport;
+	}
+
 	/** Standalone builder helper class */
 	@java.lang.SuppressWarnings("all")
 	public static class StandaloneBuilder {
@@ -511,10 +1781,28 @@ public class Standalone{
 		protected Consumer<String> console;
 		protected Console consoleInstance=null;
 		protected BiFunction<String,Object[],String> consoleFormat=((message,args) -> SimpleFormat.format(message,args));
+		protected final Map<String,IgnitableComponent> components;
+		protected final Map<String,Duration> deadlines;
+		protected DeadlineEscalation escalation;
+		protected boolean daemon=false;
+		protected SupervisionPolicy supervision;
+		protected int warmupIterations=0;
+		protected Duration warmupBudget;
+		protected int replicas=1;
+		protected boolean virtualThreads=false;
+		protected InetSocketAddress healthAddress;
+		protected MemoryPressurePolicy memoryPressure;
+		protected Duration schedulerDrain=TaskScheduler.DRAIN_TIMEOUT;
+		protected Supplier<String[]> reloadArguments;
+		protected Duration drainTimeout=InFlightTracker.DRAIN_TIMEOUT;
+		protected boolean parallelBootstrap;
+		protected boolean shutdownAfterIgnition;
 
 		StandaloneBuilder(final Supplier<Ignitable> _supplier){
 			this.supplier=_supplier;
 			this.parameters=new ArrayList<>();
+			this.components=new LinkedHashMap<>();
+			this.deadlines=new LinkedHashMap<>();
 		}
 		
 		/**
@@ -580,6 +1868,14 @@ public class Standalone{
 			this.parameters.add(_parameters);
 			return this;
 		}
+		/** 
+		* Get the current configured parameters 
+		* @return unmodifiable list of the current configured parameters 
+		* @since 2.1.0
+		*/
+		public List<Class<? extends Enum<? extends Parameter>>> getParameters() {
+			return Collections.unmodifiableList(this.parameters);
+		}
 		/**
 		* Arguments reveived to parse as parameters
 		* @param _arguments arguments passed to standalone
@@ -651,13 +1947,267 @@ public class Standalone{
 			return this;
 		}
 
+		/**
+		* Component to ignite together with the standalone ignitable. Can be invoked several times and will register every component requested.
+		* Components are started in topological waves (all components of a wave in parallel) before the standalone ignitable startup
+		* and shutdown in reverse waves after the standalone ignitable shutdown. Component names must be unique
+		* @param _name component name
+		* @param _supplier component ignitable supplier
+		* @param _dependsOn names of the components that must be started before this one
+		* @return StandaloneBuilder to chain other properties
+		* @throws NullPointerException if name or supplier are null
+		* @throws IllegalArgumentException if a component with the same name has already been registered
+		* @see IgnitableComponent
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder component(final String _name,final Supplier<Ignitable> _supplier,final String... _dependsOn) {
+			final IgnitableComponent component=new IgnitableComponent(_name, _supplier, _dependsOn);
+			if(this.components.putIfAbsent(_name,component)!=null)
+				throw new IllegalArgumentException(SimpleFormat.format("Component {} already registered",_name));
+			return this;
+		}
+
+		/**
+		* Maximum duration of the given lifecycle phase. If the phase overruns its deadline a watchdog thread prints a full thread dump to console error 
+		* and executes the configured escalation. Can be invoked several times to configure several phases.
+		* Phase names are the ones recorded at the lifecycle report, the complete ignite sequence is named "ignition" and the complete shutdown sequence "termination"
+		* @param _phase lifecycle phase name
+		* @param _deadline maximum duration of the phase
+		* @return StandaloneBuilder to chain other properties
+		* @see LifecycleReport
+		* @see StandaloneBuilder#escalation(org.bytemechanics.standalone.ignite.DeadlineEscalation) 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder deadline(final String _phase,final Duration _deadline) {
+			this.deadlines.put(_phase,_deadline);
+			return this;
+		}
+
+		/**
+		* Action to execute when a lifecycle phase exceeds its deadline once the thread dump has been printed (by default none)
+		* @param _escalation escalation action
+		* @return StandaloneBuilder to chain other properties
+		* @see DeadlineEscalation#interrupt() 
+		* @see DeadlineEscalation#halt(int) 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder escalation(final DeadlineEscalation _escalation) {
+			this.escalation = _escalation;
+			return this;
+		}
+
+		/**
+		* Daemon mode flag (default: false). In daemon mode ignite() returns after the ignition and a non daemon thread keeps the JVM alive
+		* until the shutdown finishes, so ignitables can start their own background threads without blocking at startup() 
+		* @param _daemon enable daemon mode
+		* @return StandaloneBuilder to chain other properties
+		* @see Standalone#awaitTermination(java.time.Duration) 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder daemon(final boolean _daemon) {
+			this.daemon = _daemon;
+			return this;
+		}
+
+		/**
+		* Supervision policy to restart the ignitable when fails during startup (or when a Runnable ignitable run() dies) instead of restarting the JVM.
+		* On every restart the failed instance is closed (if AutoCloseable), a new instance is provided by the supplier and the startup hooks are executed again.
+		* Once the policy restarts are exhausted the failure is handled by Ignitable#startupException(java.lang.Exception) as usual (by default no restarts)
+		* @param _supervision supervision policy
+		* @return StandaloneBuilder to chain other properties
+		* @see SupervisionPolicy
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder supervision(final SupervisionPolicy _supervision) {
+			this.supervision = _supervision;
+			return this;
+		}
+
+		/**
+		* Warm-up budget. If configured, Ignitable#warmup() is called repeatedly after startup and before afterStartup (and therefore before readiness)
+		* until it returns false, the iterations are exhausted or the time budget elapses, whichever happens first (by default disabled)
+		* @param _maxIterations maximum warm-up iterations, zero or negative for no iteration limit
+		* @param _budget maximum time to spend in warm-up, null for no time limit
+		* @return StandaloneBuilder to chain other properties
+		* @throws IllegalArgumentException if neither iteration limit nor time budget is provided or if the budget is not positive
+		* @see Ignitable#warmup() 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder warmup(final int _maxIterations,final Duration _budget) {
+			if((_maxIterations<=0)&&(_budget==null))
+				throw new IllegalArgumentException("Warm-up requires an iteration limit or a time budget");
+			if((_budget!=null)&&((_budget.isNegative())||(_budget.isZero())))
+				throw new IllegalArgumentException("Warm-up \"budget\" must be positive");
+			this.warmupIterations = Math.max(0, _maxIterations);
+			this.warmupBudget = _budget;
+			return this;
+		}
+
+		/**
+		* Number of ignitable replicas to run inside this JVM. The supplier is called once per replica and each replica runs its startup sequence at its own thread,
+		* the shutdown sequence is executed for all replicas in parallel. The replica index is available through IgnitableAdapter#getReplica() (by default 1 replica executed at the lifecycle thread)
+		* @param _replicas number of replicas (must be positive)
+		* @return StandaloneBuilder to chain other properties
+		* @throws IllegalArgumentException if replicas is not positive
+		* @see IgnitableAdapter#getReplica() 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder replicas(final int _replicas) {
+			if(_replicas<1)
+				throw new IllegalArgumentException("Mandatory \"replicas\" must be positive");
+			this.replicas = _replicas;
+			return this;
+		}
+		/**
+		* One ignitable replica per effective core (container limits included)
+		* @return StandaloneBuilder to chain other properties
+		* @see StandaloneBuilder#replicas(int) 
+		* @see Standalone#resources() 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder replicas() {
+			return replicas(resources().getCpus());
+		}
+
+		/**
+		* Virtual threads flag (default: false). If enabled and the JVM supports them (JDK 21 or later) the startup of every replica, 
+		* the shell command executions and the tasks submitted to Standalone#getExecutor() run at virtual threads, otherwise platform threads are used 
+		* @param _virtualThreads enable virtual threads
+		* @return StandaloneBuilder to chain other properties
+		* @see Standalone#getExecutor() 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder virtualThreads(final boolean _virtualThreads) {
+			this.virtualThreads = _virtualThreads;
+			return this;
+		}
+
+		/**
+		* Health endpoint at the given loopback port. Serves /health (200 until the shutdown finishes), /ready (200 from afterStartup completion until beforeShutdown) 
+		* and /metrics (Prometheus text format) using the JDK embedded http server (by default disabled)
+		* @param _port loopback port, 0 to use an ephemeral port
+		* @return StandaloneBuilder to chain other properties
+		* @see Standalone#getHealthEndpointAddress() 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder healthEndpoint(final int _port) {
+			return healthEndpoint(new InetSocketAddress(InetAddress.getLoopbackAddress(),_port));
+		}
+		/**
+		* Health endpoint at the given address. Serves /health (200 until the shutdown finishes), /ready (200 from afterStartup completion until beforeShutdown) 
+		* and /metrics (Prometheus text format) using the JDK embedded http server (by default disabled)
+		* @param _address address to bind
+		* @return StandaloneBuilder to chain other properties
+		* @see Standalone#getHealthEndpointAddress() 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder healthEndpoint(final InetSocketAddress _address) {
+			this.healthAddress = _address;
+			return this;
+		}
+		/**
+		* Memory pressure notifications with the given heap usage thresholds and a hysteresis of 5 percentage points (or warning threshold minus one if lower)
+		* @param _warningPercent heap usage percentage to notify the WARNING level
+		* @param _criticalPercent heap usage percentage to notify the CRITICAL level
+		* @return StandaloneBuilder to chain other properties
+		* @throws IllegalArgumentException if the thresholds are out of range
+		* @see StandaloneBuilder#memoryPressure(org.bytemechanics.standalone.ignite.beans.MemoryPressurePolicy) 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder memoryPressure(final int _warningPercent,final int _criticalPercent) {
+			return memoryPressure(new MemoryPressurePolicy(_warningPercent, _criticalPercent, Math.max(0,Math.min(5, _warningPercent-1))));
+		}
+		/**
+		* Memory pressure notifications, the heap pools usage and collection usage thresholds are armed and every level change is delivered 
+		* to Ignitable#onMemoryPressure(MemoryPressure) at a dedicated notifier thread (by default disabled)
+		* @param _policy memory pressure thresholds and hysteresis
+		* @return StandaloneBuilder to chain other properties
+		* @see Ignitable#onMemoryPressure(org.bytemechanics.standalone.ignite.MemoryPressure) 
+		* @see Standalone#getMemoryPressure() 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder memoryPressure(final MemoryPressurePolicy _policy) {
+			this.memoryPressure = _policy;
+			return this;
+		}
+		/**
+		* Maximum wait for the running scheduled tasks when the shutdown starts (default: 10 seconds), once elapsed the running tasks are interrupted
+		* @param _timeout maximum wait
+		* @return StandaloneBuilder to chain other properties
+		* @throws NullPointerException if timeout is null
+		* @throws IllegalArgumentException if timeout is negative
+		* @see Standalone#schedule(java.lang.String, org.bytemechanics.standalone.ignite.beans.TaskSchedule, java.lang.Runnable) 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder schedulerDrain(final Duration _timeout) {
+			if(_timeout==null)
+				throw new NullPointerException("Mandatory \"timeout\" can not be null");
+			if(_timeout.isNegative())
+				throw new IllegalArgumentException("Mandatory \"timeout\" can not be negative");
+			this.schedulerDrain = _timeout;
+			return this;
+		}
+		/**
+		* Parallel bootstrap flag (default: false). If enabled the parameters parsing and validation and the banner rendering run at the tasks executor 
+		* while the ignitable (and components) are instantiated, all of them joined before registering the standalone and the startup. 
+		* The supplier and the components must not read the parameters during instantiation, the parameter processing exceptions are delivered once instantiated
+		* @param _parallelBootstrap enable parallel bootstrap
+		* @return StandaloneBuilder to chain other properties
+		* @see Standalone#bootstrap() 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder parallelBootstrap(final boolean _parallelBootstrap) {
+			this.parallelBootstrap = _parallelBootstrap;
+			return this;
+		}
+		/**
+		* Shutdown after ignition flag (default: false). If enabled the standalone is shutdown as soon as its ignition returns (successfully or not), 
+		* releasing its shutdown hook registration, its registry entry and its management bean instead of keeping them until JVM exit. 
+		* Intended for short-lived standalones ignited by another one (as the ShellAdapter commands), the console is not closed since it is borrowed from the igniter
+		* @param _shutdownAfterIgnition enable the shutdown after ignition
+		* @return StandaloneBuilder to chain other properties
+		* @see Standalone#ignition() 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder shutdownAfterIgnition(final boolean _shutdownAfterIgnition) {
+			this.shutdownAfterIgnition = _shutdownAfterIgnition;
+			return this;
+		}
+		/**
+		* Maximum wait for the in-flight work at shutdown (default: 10 seconds). Once the ignitable beforeShutdown finishes the new work is rejected 
+		* and the ignitable shutdown does not start until the in-flight work finishes or this timeout expires
+		* @param _timeout maximum wait
+		* @return StandaloneBuilder to chain other properties
+		* @throws NullPointerException if timeout is null
+		* @throws IllegalArgumentException if timeout is negative
+		* @see Standalone#enter() 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder drainTimeout(final Duration _timeout) {
+			if(_timeout==null)
+				throw new NullPointerException("Mandatory \"timeout\" can not be null");
+			if(_timeout.isNegative())
+				throw new IllegalArgumentException("Mandatory \"timeout\" can not be negative");
+			this.drainTimeout = _timeout;
+			return this;
+		}
+		/**
+		* Reload the parameters every time a SIGHUP is received (by default SIGHUP is not trapped). The arguments to reload are requested to the given supplier, 
+		* for example reading them from a file, and if any of them is not valid the failure is printed and the current values are kept. 
+		* If the JVM can not trap signals (Windows or -Xrs) only Standalone#reload(String...) is available
+		* @param _arguments supplier of the arguments to reload
+		* @return StandaloneBuilder to chain other properties
+		* @see Standalone#reload(java.lang.String...) 
+		* @see Ignitable#onReload(java.util.List) 
+		* @since 2.1.0
+		*/
+		public StandaloneBuilder reloadOnHangup(final Supplier<String[]> _arguments) {
+			this.reloadArguments = _arguments;
+			return this;
+		}
+
 		public Standalone build() {
-			if(this.consoleInstance!=null){
-				Standalone.self=new Standalone(supplier,name,description,showBanner,bannerFont,Collections.unmodifiableList(parameters), arguments,consoleInstance);
-			}else{
-				Standalone.self=new Standalone(supplier,name,description,showBanner,bannerFont,Collections.unmodifiableList(parameters), arguments,console,consoleFormat,verbose);
-			}
-			return Standalone.self;
+			return new Standalone(this);
 		}
 	}
 
@@ -673,37 +2223,100 @@ public class Standalone{
 	}
 	
 	/**
-	 * Extinguish the <b>latest</b> Standalone instance created. 
-	 * If no instance exist or has been created no action is done.
+	 * Lookup a live standalone by id or by name, if more than one standalone is alive with the same name the latest built is returned.
+	 * Standalones are registered when ignited and unregistered if the ignition fails or once shutdown
+	 * @param _nameOrId standalone id or name
+	 * @return optional of the live standalone with the given id or name
+	 * @see Standalone#getId() 
+	 * @see Standalone#getName() 
+	 * @since 2.1.0
+	 */
+	public static Optional<Standalone> lookup(final String _nameOrId){
+		return REGISTRY.lookup(_nameOrId);
+	}
+
+	/**
+	 * Return all live standalones (ignited and not shutdown yet)
+	 * @return list of live standalones in build order
+	 * @since 2.1.0
+	 */
+	public static List<Standalone> getStandalones(){
+		return REGISTRY.getStandalones();
+	}
+
+	/**
+	 * Return the resources effectively available to this process: the JVM values bounded by the container (cgroup v1 or v2) limits. 
+	 * Detected once and used as default size of the pools created by the library (replicas, scheduler and bounded executors)
+	 * @return the detected resource limits
+	 * @see CgroupResources
+	 * @since 2.1.0
+	 */
+	public static ResourceLimits resources(){
+		return CgroupResources.current();
+	}
+
+	/**
+	 * Extinguish the <b>primary</b> Standalone instance: the first registered standalone still starting or running, resolved at call time. 
+	 * Standalones ignited later (as the ShellAdapter commands) do not replace the primary one, use lookup to extinguish them.
+	 * If no standalone is starting or running no action is done.
 	 * @param _returnCode return code to pass to extinguish method
 	 * @see Standalone#extinguish(int) 
 	 */
 	public static void selfExtinguish(final int _returnCode){
-		Optional.ofNullable(Standalone.self)
+		REGISTRY.primary()
 				.ifPresent(standaloneInstance -> standaloneInstance.extinguish(_returnCode));
 	}
 
 	/**
-	 * Return the list of parameter classes provided during creation of the <b>latest</b> standalone instantiation or empty list if no parameters added or no standalone instantiated
-	 * @return list of parameter classes provided during creation or empty list if no parameters added or no standalone instantiated
+	 * Return the list of parameter classes provided during creation of the <b>primary</b> standalone or empty list if no parameters added or no standalone starting or running
+	 * @return list of parameter classes provided during creation or empty list if no parameters added or no standalone starting or running
 	 * @see Standalone#getParameters()
 	 */
 	public static List<Class<? extends Enum<? extends Parameter>>> getParametersClasses(){
-		return Optional.ofNullable(Standalone.self)
+		return REGISTRY.primary()
+						.map(Standalone::getParameters)
+						.orElse(Collections.emptyList());
+	}
+
+	/**
+	 * Return the list of parameter classes provided during creation of the live standalone with the given id or name or empty list if no parameters added or no standalone found
+	 * @param _nameOrId standalone id or name
+	 * @return list of parameter classes provided during creation or empty list if no parameters added or no standalone found
+	 * @see Standalone#lookup(java.lang.String) 
+	 * @since 2.1.0
+	 */
+	public static List<Class<? extends Enum<? extends Parameter>>> getParametersClasses(final String _nameOrId){
+		return lookup(_nameOrId)
 						.map(Standalone::getParameters)
 						.orElse(Collections.emptyList());
 	}
 
 	/**
-	 * Return the help for the <b>latest</b> standalone instantiation or empty string if no parameters added or no standalone instantiated
+	 * Return the help for the <b>primary</b> standalone or empty string if no parameters added or no standalone starting or running
 	 * @return string representing the help for the given parameters or empty string
 	 * @see Parameter#getHelp(java.util.List) 
 	 */
 	public static String getHelp(){
-		return Optional.of(getParametersClasses())
+		return getHelp(REGISTRY.primary());
+	}
+
+	/**
+	 * Return the help for the live standalone with the given id or name or empty string if no parameters added or no standalone found
+	 * @param _nameOrId standalone id or name
+	 * @return string representing the help for the given parameters or empty string
+	 * @see Standalone#lookup(java.lang.String) 
+	 * @since 2.1.0
+	 */
+	public static String getHelp(final String _nameOrId){
+		return getHelp(lookup(_nameOrId));
+	}
+
+	private static String getHelp(final Optional<Standalone> _standalone){
+		return _standalone
+						.map(Standalone::getParameters)
 						.filter(parameters -> !parameters.isEmpty())
 						.map(Parameter::getHelp)
-						.map(params -> String.join("",Optional.ofNullable(Standalone.self)
+						.map(params -> String.join("",_standalone
 																.map(Standalone::getDescription)
 																.map(desc -> desc+"\n")
 																.orElse("")
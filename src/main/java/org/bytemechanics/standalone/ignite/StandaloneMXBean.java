@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite;
+
+import java.util.Map;
+
+/**
+ * Management interface registered at the platform MBean server for every ignited standalone
+ * @author afarre
+ * @since 2.1.0
+ */
+public interface StandaloneMXBean {
+
+	/**
+	 * Standalone name
+	 * @return standalone name or null if not informed
+	 */
+	public String getName();
+
+	/**
+	 * Current lifecycle state
+	 * @return lifecycle state name
+	 * @see LifecycleState
+	 */
+	public String getState();
+
+	/**
+	 * Readiness
+	 * @return true if the ignition has finished and the shutdown has not started
+	 * @see Standalone#isReady() 
+	 */
+	public boolean isReady();
+
+	/**
+	 * Duration of every recorded lifecycle phase
+	 * @return map with the phase name as key and its latest duration in milliseconds as value
+	 * @see LifecycleReport
+	 */
+	public Map<String,Long> getPhaseDurations();
+
+	/**
+	 * Current value of every parameter
+	 * @return map with the parameter (enumeration simple name and constant name separated by dot) as key and its current value as value (empty if has no value)
+	 * @see Standalone#getParameters() 
+	 */
+	public Map<String,String> getParameters();
+
+	/**
+	 * Shutdown the standalone and terminate the JVM with the given exit code. The extinction is executed asynchronously to be able to reply to the caller
+	 * @param _exitCode exit code
+	 * @see Standalone#extinguish(int) 
+	 */
+	public void extinguish(final int _exitCode);
+}
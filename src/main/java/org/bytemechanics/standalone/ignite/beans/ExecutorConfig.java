@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+import java.time.Duration;
+import org.bytemechanics.standalone.ignite.internal.CgroupResources;
+
+/**
+ * Configuration of a bounded worker pool managed by the standalone
+ * @see org.bytemechanics.standalone.ignite.Standalone#executor(java.lang.String, org.bytemechanics.standalone.ignite.beans.ExecutorConfig) 
+ * @author afarre
+ * @since 2.1.0
+ */
+public class ExecutorConfig {
+
+	/** Default maximum wait for the queued and running tasks when draining */
+	public static final Duration DRAIN_TIMEOUT=Duration.ofSeconds(10);
+
+	/**
+	 * Policy to apply when the pool queue is full
+	 */
+	public enum Rejection{
+		/** Throw a RejectedExecutionException to the submitter */
+		ABORT,
+		/** Run the task at the submitter thread, slowing it down */
+		CALLER_RUNS,
+		/** Discard the submitted task */
+		DISCARD,
+		/** Discard the oldest queued task and retry the submission (requires a queue, not available with zero queue capacity) */
+		DISCARD_OLDEST,
+	}
+	
+	private final int threads;
+	private final int queueCapacity;
+	private final Rejection rejection;
+	private final Duration drainTimeout;
+	
+	/**
+	 * Executor configuration constructor
+	 * @param _threads number of worker threads (must be positive)
+	 * @param _queueCapacity maximum queued tasks waiting for a worker, 0 to hand-off directly to an idle worker (must be zero or positive)
+	 * @param _rejection policy to apply when the queue is full (mandatory, DISCARD_OLDEST requires a positive queue capacity)
+	 * @param _drainTimeout maximum wait for the queued and running tasks at shutdown, once elapsed the running tasks are interrupted (mandatory, zero or positive)
+	 */
+	public ExecutorConfig(final int _threads,final int _queueCapacity,final Rejection _rejection,final Duration _drainTimeout){
+		if(_threads<1)
+			throw new IllegalArgumentException("Mandatory \"threads\" must be positive");
+		if(_queueCapacity<0)
+			throw new IllegalArgumentException("Mandatory \"queueCapacity\" can not be negative");
+		if(_rejection==null)
+			throw new NullPointerException("Mandatory \"rejection\" can not be null");
+		if((_rejection==Rejection.DISCARD_OLDEST)&&(_queueCapacity==0))
+			throw new IllegalArgumentException("Mandatory \"rejection\" can not be DISCARD_OLDEST without queue capacity");
+		if(_drainTimeout==null)
+			throw new NullPointerException("Mandatory \"drainTimeout\" can not be null");
+		if(_drainTimeout.isNegative())
+			throw new IllegalArgumentException("Mandatory \"drainTimeout\" can not be negative");
+		this.threads=_threads;
+		this.queueCapacity=_queueCapacity;
+		this.rejection=_rejection;
+		this.drainTimeout=_drainTimeout;
+	}
+
+	/**
+	 * Bounded pool with one worker per effective core (container limits included), aborting the submissions once the queue is full and the default drain timeout
+	 * @param _queueCapacity maximum queued tasks waiting for a worker
+	 * @return new executor configuration
+	 * @see CgroupResources#current() 
+	 */
+	public static ExecutorConfig bounded(final int _queueCapacity){
+		return new ExecutorConfig(CgroupResources.current().getCpus(), _queueCapacity, Rejection.ABORT, DRAIN_TIMEOUT);
+	}
+
+	/**
+	 * Copy of this configuration with the given number of worker threads
+	 * @param _threads number of worker threads
+	 * @return new configuration with the given number of worker threads
+	 */
+	public ExecutorConfig threads(final int _threads){
+		return new ExecutorConfig(_threads, this.queueCapacity, this.rejection, this.drainTimeout);
+	}
+	/**
+	 * Copy of this configuration with the given rejection policy
+	 * @param _rejection policy to apply when the queue is full
+	 * @return new configuration with the given rejection policy
+	 */
+	public ExecutorConfig rejection(final Rejection _rejection){
+		return new ExecutorConfig(this.threads, this.queueCapacity, _rejection, this.drainTimeout);
+	}
+	/**
+	 * Copy of this configuration with the given drain timeout
+	 * @param _drainTimeout maximum wait for the queued and running tasks at shutdown
+	 * @return new configuration with the given drain timeout
+	 */
+	public ExecutorConfig drainTimeout(final Duration _drainTimeout){
+		return new ExecutorConfig(this.threads, this.queueCapacity, this.rejection, _drainTimeout);
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+	public Rejection getRejection() {
+		return rejection;
+	}
+	public Duration getDrainTimeout() {
+		return drainTimeout;
+	}
+
+	@Override
+	public String toString() {
+		return "ExecutorConfig{" + "threads=" + threads + ", queueCapacity=" + queueCapacity + ", rejection=" + rejection + ", drainTimeout=" + drainTimeout + '}';
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.bytemechanics.standalone.ignite.Ignitable;
+
+/**
+ * Named ignitable component definition with its dependencies
+ * @author afarre
+ * @since 2.1.0
+ */
+public class IgnitableComponent {
+	
+	private final String name;
+	private final Supplier<Ignitable> supplier;
+	private final List<String> dependsOn;
+	
+	/**
+	 * Ignitable component constructor
+	 * @param _name component name (mandatory)
+	 * @param _supplier component ignitable supplier (mandatory)
+	 * @param _dependsOn names of the components that must be started before this one
+	 */
+	public IgnitableComponent(final String _name,final Supplier<Ignitable> _supplier,final String... _dependsOn){
+		if(_name==null)
+			throw new NullPointerException("Mandatory \"name\" can not be null");
+		if(_supplier==null)
+			throw new NullPointerException("Mandatory \"supplier\" can not be null");
+		this.name=_name;
+		this.supplier=_supplier;
+		this.dependsOn=Optional.ofNullable(_dependsOn)
+								.map(Arrays::asList)
+								.map(Collections::unmodifiableList)
+								.orElseGet(Collections::emptyList);
+	}
+
+	public String getName() {
+		return name;
+	}
+	public Supplier<Ignitable> getSupplier() {
+		return supplier;
+	}
+	public List<String> getDependsOn() {
+		return dependsOn;
+	}
+
+	@Override
+	public String toString() {
+		return "IgnitableComponent{" + "name=" + name + ", dependsOn=" + dependsOn + '}';
+	}
+}
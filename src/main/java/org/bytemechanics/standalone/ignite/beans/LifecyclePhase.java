@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure of a single lifecycle phase
+ * @author afarre
+ * @since 2.1.0
+ */
+public class LifecyclePhase {
+	
+	private final String name;
+	private final long startNanos;
+	private final long durationNanos;
+	private final long loadedClasses;
+	private final long threadId;
+	private final String threadName;
+	
+	/**
+	 * Lifecycle phase constructor
+	 * @param _name phase name
+	 * @param _startNanos monotonic start instant (System.nanoTime())
+	 * @param _durationNanos phase duration in nanoseconds
+	 * @param _loadedClasses classes loaded during the phase
+	 * @param _threadId id of the thread that executed the phase
+	 * @param _threadName name of the thread that executed the phase
+	 */
+	public LifecyclePhase(final String _name,final long _startNanos,final long _durationNanos,final long _loadedClasses,final long _threadId,final String _threadName){
+		this.name=_name;
+		this.startNanos=_startNanos;
+		this.durationNanos=_durationNanos;
+		this.loadedClasses=_loadedClasses;
+		this.threadId=_threadId;
+		this.threadName=_threadName;
+	}
+
+	public String getName() {
+		return name;
+	}
+	public long getStartNanos() {
+		return startNanos;
+	}
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+	public long getDurationMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+	}
+	public long getLoadedClasses() {
+		return loadedClasses;
+	}
+	public long getThreadId() {
+		return threadId;
+	}
+	public String getThreadName() {
+		return threadName;
+	}
+
+	@Override
+	public String toString() {
+		return "LifecyclePhase{" + "name=" + name + ", startNanos=" + startNanos + ", durationNanos=" + durationNanos + ", loadedClasses=" + loadedClasses + ", threadId=" + threadId + ", threadName=" + threadName + '}';
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+/**
+ * Memory pressure policy with the heap usage thresholds (in percentage of the maximum heap pool size) for every memory pressure level. 
+ * A level is raised when the usage reaches its threshold and is only lowered when the usage falls under its threshold minus the hysteresis
+ * @see org.bytemechanics.standalone.ignite.MemoryPressure
+ * @author afarre
+ * @since 2.1.0
+ */
+public class MemoryPressurePolicy {
+	
+	private final int warningPercent;
+	private final int criticalPercent;
+	private final int hysteresisPercent;
+	
+	/**
+	 * Memory pressure policy constructor
+	 * @param _warningPercent heap usage percentage to raise the WARNING level (between 1 and 100)
+	 * @param _criticalPercent heap usage percentage to raise the CRITICAL level (between the warning percentage and 100)
+	 * @param _hysteresisPercent percentage points under the threshold the usage must fall to lower the level (zero or positive and lower than the warning percentage)
+	 */
+	public MemoryPressurePolicy(final int _warningPercent,final int _criticalPercent,final int _hysteresisPercent){
+		if((_warningPercent<1)||(_warningPercent>100))
+			throw new IllegalArgumentException("Mandatory \"warningPercent\" must be between 1 and 100");
+		if((_criticalPercent<_warningPercent)||(_criticalPercent>100))
+			throw new IllegalArgumentException("Mandatory \"criticalPercent\" must be between warningPercent and 100");
+		if((_hysteresisPercent<0)||(_hysteresisPercent>=_warningPercent))
+			throw new IllegalArgumentException("Mandatory \"hysteresisPercent\" must be zero or positive and lower than warningPercent");
+		this.warningPercent=_warningPercent;
+		this.criticalPercent=_criticalPercent;
+		this.hysteresisPercent=_hysteresisPercent;
+	}
+
+	public int getWarningPercent() {
+		return warningPercent;
+	}
+	public int getCriticalPercent() {
+		return criticalPercent;
+	}
+	public int getHysteresisPercent() {
+		return hysteresisPercent;
+	}
+
+	@Override
+	public String toString() {
+		return "MemoryPressurePolicy{" + "warningPercent=" + warningPercent + ", criticalPercent=" + criticalPercent + ", hysteresisPercent=" + hysteresisPercent + '}';
+	}
+}
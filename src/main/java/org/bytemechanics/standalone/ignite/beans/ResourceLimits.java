@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Effective resources available to the running JVM, taking into account the container (cgroup) limits when present. 
+ * Used to report the deployment sizing at the banner and as the default size of the pools created by the library
+ * @see org.bytemechanics.standalone.ignite.Standalone#resources() 
+ * @author afarre
+ * @since 2.1.0
+ */
+public class ResourceLimits {
+
+	/** Value reported when no limit applies */
+	public static final long UNLIMITED=-1;
+	
+	private final int cgroupVersion;
+	private final int cpus;
+	private final long memoryLimit;
+	private final long directMemoryLimit;
+	private final List<String> garbageCollectors;
+	
+	/**
+	 * Resource limits constructor
+	 * @param _cgroupVersion cgroup version detected (1 or 2) or 0 if none
+	 * @param _cpus effective cpus (at least 1)
+	 * @param _memoryLimit memory limit in bytes or UNLIMITED
+	 * @param _directMemoryLimit direct memory limit in bytes
+	 * @param _garbageCollectors names of the garbage collectors in use
+	 */
+	public ResourceLimits(final int _cgroupVersion,final int _cpus,final long _memoryLimit,final long _directMemoryLimit,final List<String> _garbageCollectors){
+		if((_cgroupVersion<0)||(_cgroupVersion>2))
+			throw new IllegalArgumentException("Mandatory \"cgroupVersion\" must be 0, 1 or 2");
+		if(_cpus<1)
+			throw new IllegalArgumentException("Mandatory \"cpus\" must be positive");
+		if((_memoryLimit<1)&&(_memoryLimit!=UNLIMITED))
+			throw new IllegalArgumentException("Mandatory \"memoryLimit\" must be positive or UNLIMITED");
+		if(_directMemoryLimit<0)
+			throw new IllegalArgumentException("Mandatory \"directMemoryLimit\" can not be negative");
+		if(_garbageCollectors==null)
+			throw new NullPointerException("Mandatory \"garbageCollectors\" can not be null");
+		this.cgroupVersion=_cgroupVersion;
+		this.cpus=_cpus;
+		this.memoryLimit=_memoryLimit;
+		this.directMemoryLimit=_directMemoryLimit;
+		this.garbageCollectors=Collections.unmodifiableList(new ArrayList<>(_garbageCollectors));
+	}
+
+	public int getCgroupVersion() {
+		return cgroupVersion;
+	}
+	public int getCpus() {
+		return cpus;
+	}
+	public long getMemoryLimit() {
+		return memoryLimit;
+	}
+	public long getDirectMemoryLimit() {
+		return directMemoryLimit;
+	}
+	public List<String> getGarbageCollectors() {
+		return garbageCollectors;
+	}
+
+	/**
+	 * Container detection
+	 * @return true if a cgroup hierarchy has been detected
+	 */
+	public boolean isContainerized(){
+		return this.cgroupVersion>0;
+	}
+	/**
+	 * Memory limit presence
+	 * @return true if the memory is limited
+	 */
+	public boolean isMemoryLimited(){
+		return this.memoryLimit!=UNLIMITED;
+	}
+
+	@Override
+	public String toString() {
+		return "ResourceLimits{" + "cgroupVersion=" + cgroupVersion + ", cpus=" + cpus + ", memoryLimit=" + memoryLimit + ", directMemoryLimit=" + directMemoryLimit + ", garbageCollectors=" + garbageCollectors + '}';
+	}
+}
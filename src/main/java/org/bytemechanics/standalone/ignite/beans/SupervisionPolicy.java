@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+import java.time.Duration;
+
+/**
+ * Supervision policy to restart the standalone ignitable when it fails during startup (or when a Runnable ignitable run() dies)
+ * @author afarre
+ * @since 2.1.0
+ */
+public class SupervisionPolicy {
+	
+	private final int maxRestarts;
+	private final Duration initialBackoff;
+	private final Duration maxBackoff;
+	private final double jitter;
+	private final Duration resetWindow;
+	
+	/**
+	 * Supervision policy constructor
+	 * @param _maxRestarts maximum consecutive restarts before giving up (must be zero or positive)
+	 * @param _initialBackoff wait before the first restart, doubled on every consecutive restart (mandatory)
+	 * @param _maxBackoff maximum wait between restarts (mandatory)
+	 * @param _jitter random factor between 0 and 1 applied to every wait, 0.2 means the wait can vary up to &plusmn;20%
+	 * @param _resetWindow time the ignitable must run after a restart to reset the consecutive restarts count (mandatory)
+	 */
+	public SupervisionPolicy(final int _maxRestarts,final Duration _initialBackoff,final Duration _maxBackoff,final double _jitter,final Duration _resetWindow){
+		if(_maxRestarts<0)
+			throw new IllegalArgumentException("Mandatory \"maxRestarts\" can not be negative");
+		if(_initialBackoff==null)
+			throw new NullPointerException("Mandatory \"initialBackoff\" can not be null");
+		if(_maxBackoff==null)
+			throw new NullPointerException("Mandatory \"maxBackoff\" can not be null");
+		if((_jitter<0.0d)||(_jitter>1.0d))
+			throw new IllegalArgumentException("Mandatory \"jitter\" must be between 0 and 1");
+		if(_resetWindow==null)
+			throw new NullPointerException("Mandatory \"resetWindow\" can not be null");
+		this.maxRestarts=_maxRestarts;
+		this.initialBackoff=_initialBackoff;
+		this.maxBackoff=_maxBackoff;
+		this.jitter=_jitter;
+		this.resetWindow=_resetWindow;
+	}
+
+	public int getMaxRestarts() {
+		return maxRestarts;
+	}
+	public Duration getInitialBackoff() {
+		return initialBackoff;
+	}
+	public Duration getMaxBackoff() {
+		return maxBackoff;
+	}
+	public double getJitter() {
+		return jitter;
+	}
+	public Duration getResetWindow() {
+		return resetWindow;
+	}
+
+	@Override
+	public String toString() {
+		return "SupervisionPolicy{" + "maxRestarts=" + maxRestarts + ", initialBackoff=" + initialBackoff + ", maxBackoff=" + maxBackoff + ", jitter=" + jitter + ", resetWindow=" + resetWindow + '}';
+	}
+}
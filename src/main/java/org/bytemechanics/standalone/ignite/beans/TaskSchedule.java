@@ -0,0 +1,124 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+import java.time.Duration;
+
+/**
+ * Schedule of a periodic task run by the standalone scheduler. The next execution is never started before the previous one finishes, 
+ * at fixed rate the executions missed by an overrun are skipped (never executed in burst) and at fixed delay the delay starts once the previous execution finishes. 
+ * A random jitter between zero and the configured jitter is added to every delay to spread the executions of tasks with the same period
+ * @see org.bytemechanics.standalone.ignite.ScheduledTask
+ * @author afarre
+ * @since 2.1.0
+ */
+public class TaskSchedule {
+
+	/**
+	 * Schedule modes
+	 */
+	public enum Mode{
+		/** Executions start at every period from the initial delay */
+		FIXED_RATE,
+		/** Executions start once the period has elapsed since the previous execution finished */
+		FIXED_DELAY,
+	}
+	
+	private final Mode mode;
+	private final Duration initialDelay;
+	private final Duration period;
+	private final Duration jitter;
+	
+	/**
+	 * Task schedule constructor
+	 * @param _mode schedule mode (mandatory)
+	 * @param _initialDelay wait before the first execution (mandatory, zero or positive)
+	 * @param _period period (fixed rate) or delay (fixed delay) between executions (mandatory, positive)
+	 * @param _jitter maximum random wait added to every delay (mandatory, zero or positive)
+	 */
+	public TaskSchedule(final Mode _mode,final Duration _initialDelay,final Duration _period,final Duration _jitter){
+		if(_mode==null)
+			throw new NullPointerException("Mandatory \"mode\" can not be null");
+		if(_initialDelay==null)
+			throw new NullPointerException("Mandatory \"initialDelay\" can not be null");
+		if(_initialDelay.isNegative())
+			throw new IllegalArgumentException("Mandatory \"initialDelay\" can not be negative");
+		if(_period==null)
+			throw new NullPointerException("Mandatory \"period\" can not be null");
+		if((_period.isNegative())||(_period.isZero()))
+			throw new IllegalArgumentException("Mandatory \"period\" must be positive");
+		if(_jitter==null)
+			throw new NullPointerException("Mandatory \"jitter\" can not be null");
+		if(_jitter.isNegative())
+			throw new IllegalArgumentException("Mandatory \"jitter\" can not be negative");
+		this.mode=_mode;
+		this.initialDelay=_initialDelay;
+		this.period=_period;
+		this.jitter=_jitter;
+	}
+
+	/**
+	 * Fixed rate schedule without initial delay nor jitter
+	 * @param _period period between executions
+	 * @return new fixed rate schedule
+	 */
+	public static TaskSchedule atFixedRate(final Duration _period){
+		return new TaskSchedule(Mode.FIXED_RATE, Duration.ZERO, _period, Duration.ZERO);
+	}
+	/**
+	 * Fixed delay schedule without initial delay nor jitter
+	 * @param _delay delay between the end of an execution and the start of the next one
+	 * @return new fixed delay schedule
+	 */
+	public static TaskSchedule withFixedDelay(final Duration _delay){
+		return new TaskSchedule(Mode.FIXED_DELAY, Duration.ZERO, _delay, Duration.ZERO);
+	}
+
+	/**
+	 * Copy of this schedule with the given initial delay
+	 * @param _initialDelay wait before the first execution
+	 * @return new schedule with the given initial delay
+	 */
+	public TaskSchedule initialDelay(final Duration _initialDelay){
+		return new TaskSchedule(this.mode, _initialDelay, this.period, this.jitter);
+	}
+	/**
+	 * Copy of this schedule with the given jitter
+	 * @param _jitter maximum random wait added to every delay
+	 * @return new schedule with the given jitter
+	 */
+	public TaskSchedule jitter(final Duration _jitter){
+		return new TaskSchedule(this.mode, this.initialDelay, this.period, _jitter);
+	}
+
+	public Mode getMode() {
+		return mode;
+	}
+	public Duration getInitialDelay() {
+		return initialDelay;
+	}
+	public Duration getPeriod() {
+		return period;
+	}
+	public Duration getJitter() {
+		return jitter;
+	}
+
+	@Override
+	public String toString() {
+		return "TaskSchedule{" + "mode=" + mode + ", initialDelay=" + initialDelay + ", period=" + period + ", jitter=" + jitter + '}';
+	}
+}
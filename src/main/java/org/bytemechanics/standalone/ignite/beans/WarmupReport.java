@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure of the ignitable warm-up phase
+ * @author afarre
+ * @since 2.1.0
+ */
+public class WarmupReport {
+	
+	private final int iterations;
+	private final long durationNanos;
+	private final long compilationMillis;
+	
+	/**
+	 * Warm-up report constructor
+	 * @param _iterations warm-up iterations executed
+	 * @param _durationNanos warm-up duration in nanoseconds
+	 * @param _compilationMillis JIT compilation time spent during the warm-up in milliseconds (-1 if the JVM does not support compilation time monitoring)
+	 */
+	public WarmupReport(final int _iterations,final long _durationNanos,final long _compilationMillis){
+		this.iterations=_iterations;
+		this.durationNanos=_durationNanos;
+		this.compilationMillis=_compilationMillis;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+	public long getDurationMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+	}
+	public long getCompilationMillis() {
+		return compilationMillis;
+	}
+
+	@Override
+	public String toString() {
+		return "WarmupReport{" + "iterations=" + iterations + ", durationNanos=" + durationNanos + ", compilationMillis=" + compilationMillis + '}';
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.exceptions;
+
+import java.util.Collection;
+import org.bytemechanics.standalone.ignite.internal.commons.string.SimpleFormat;
+
+/**
+ * Exception to report that components dependencies contains a cycle
+ * @author afarre
+ * @since 2.1.0
+ */
+public class CyclicComponentDependency extends RuntimeException{
+	
+	protected static final String MESSAGE="Cyclic dependency between components {}";
+	
+	/**
+	 * Cyclic component dependency exception constructor
+	 * @param _components names of the components that can not be ordered
+	 */
+	public CyclicComponentDependency(final Collection<String> _components) {
+		super(SimpleFormat.format(MESSAGE, _components));	
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.exceptions;
+
+import java.net.InetSocketAddress;
+import org.bytemechanics.standalone.ignite.internal.commons.string.SimpleFormat;
+
+/**
+ * Exception to report that the health endpoint can not be bound to the given address
+ * @author afarre
+ * @since 2.1.0
+ */
+public class HealthEndpointNotBindable extends RuntimeException{
+	
+	protected static final String MESSAGE="Health endpoint can not be bound to {}";
+	
+	/**
+	 * Health endpoint not bindable exception constructor
+	 * @param _address address to bind
+	 * @param _cause exception cause
+	 */
+	public HealthEndpointNotBindable(final InetSocketAddress _address,final Throwable _cause) {
+		super(SimpleFormat.format(MESSAGE, _address),_cause);	
+	}
+}
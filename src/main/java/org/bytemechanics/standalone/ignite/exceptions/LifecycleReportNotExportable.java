@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.exceptions;
+
+import java.nio.file.Path;
+import org.bytemechanics.standalone.ignite.internal.commons.string.SimpleFormat;
+
+/**
+ * Exception to report that the lifecycle report can not be exported to the given file
+ * @author afarre
+ * @since 2.1.0
+ */
+public class LifecycleReportNotExportable extends RuntimeException{
+	
+	protected static final String MESSAGE="Lifecycle report can not be exported to {}";
+	
+	/**
+	 * Lifecycle report not exportable exception constructor
+	 * @param _file destination file
+	 * @param _cause exception cause
+	 */
+	public LifecycleReportNotExportable(final Path _file,final Throwable _cause) {
+		super(SimpleFormat.format(MESSAGE, _file),_cause);	
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.exceptions;
+
+import org.bytemechanics.standalone.ignite.internal.commons.string.SimpleFormat;
+
+/**
+ * Exception to report that a component depends on a component not registered
+ * @author afarre
+ * @since 2.1.0
+ */
+public class UnknownComponentDependency extends RuntimeException{
+	
+	protected static final String MESSAGE="Component {} depends on unknown component {}";
+	
+	/**
+	 * Unknown component dependency exception constructor
+	 * @param _component component name
+	 * @param _dependency unknown dependency name
+	 */
+	public UnknownComponentDependency(final String _component,final String _dependency) {
+		super(SimpleFormat.format(MESSAGE, _component,_dependency));	
+	}
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.bytemechanics.standalone.ignite.beans.ResourceLimits;
+
+/**
+ * Container aware resources detector. Reads the cgroup v2 (cpu.max, cpuset.cpus.effective, memory.max) or cgroup v1 (cpu.cfs_quota_us, cpu.cfs_period_us, cpuset.cpus, memory.limit_in_bytes) 
+ * limits of the current process from the cgroup hierarchy, walking up from the process cgroup to the mount root and keeping the most restrictive limit found. 
+ * Limits never exceed the values reported by the JVM, so outside a container the JVM values are reported
+ * @see ResourceLimits
+ * @author afarre
+ * @since 2.1.0
+ */
+public class CgroupResources {
+
+	/** Default cgroup filesystem mount */
+	public static final Path CGROUP_ROOT=Paths.get("/sys/fs/cgroup");
+	/** Default cgroup membership of the current process */
+	public static final Path PROC_SELF_CGROUP=Paths.get("/proc/self/cgroup");
+
+	private static final Pattern DIRECT_MEMORY=Pattern.compile("-XX:MaxDirectMemorySize=(\\d+)([kKmMgGtT]?)");
+	/** cgroup v1 reports "no limit" as a page aligned Long.MAX_VALUE */
+	private static final long V1_UNLIMITED=Long.MAX_VALUE/2;
+	
+	private static volatile ResourceLimits current=null;
+
+	private final Path root;
+	private final Path membership;
+	
+	/**
+	 * Detector constructor over the default cgroup locations
+	 */
+	public CgroupResources(){
+		this(CGROUP_ROOT, PROC_SELF_CGROUP);
+	}
+	/**
+	 * Detector constructor
+	 * @param _root cgroup filesystem mount
+	 * @param _membership cgroup membership file of the process (/proc/self/cgroup format)
+	 */
+	public CgroupResources(final Path _root,final Path _membership){
+		if(_root==null)
+			throw new NullPointerException("Mandatory \"root\" can not be null");
+		if(_membership==null)
+			throw new NullPointerException("Mandatory \"membership\" can not be null");
+		this.root=_root;
+		this.membership=_membership;
+	}
+
+	/**
+	 * Resources of the running process, detected once and cached
+	 * @return the detected resource limits
+	 */
+	public static ResourceLimits current(){
+		
+		ResourceLimits reply=current;
+		
+		if(reply==null){
+			reply=new CgroupResources().detect();
+			current=reply;
+		}
+		
+		return reply;
+	}
+
+	/**
+	 * Detect the resource limits
+	 * @return the detected resource limits
+	 */
+	public ResourceLimits detect(){
+		return new ResourceLimits(getVersion()
+									, cpus(Runtime.getRuntime().availableProcessors())
+									, memoryLimit().orElse(ResourceLimits.UNLIMITED)
+									, directMemoryLimit(ManagementFactory.getRuntimeMXBean().getInputArguments(), Runtime.getRuntime().maxMemory())
+									, ManagementFactory.getGarbageCollectorMXBeans().stream()
+																					.map(GarbageCollectorMXBean::getName)
+																					.collect(Collectors.toList()));
+	}
+	
+	/**
+	 * Detected cgroup version
+	 * @return 2 for the unified hierarchy, 1 for the legacy (or hybrid) hierarchy and 0 if no cgroup has been found
+	 */
+	public int getVersion(){
+		
+		final int reply;
+		
+		if(Files.exists(this.root.resolve("cgroup.controllers"))){
+			reply=2;
+		}else if(!controllers().isEmpty()){
+			reply=1;
+		}else{
+			reply=0;
+		}
+		
+		return reply;
+	}
+	
+	/**
+	 * Effective cpus: the JVM available processors bounded by the cpu quota (rounded up) and the cpuset size
+	 * @param _available JVM available processors
+	 * @return effective cpus (at least 1)
+	 */
+	public int cpus(final int _available){
+		
+		final Stream<OptionalLong> limits;
+		
+		switch(getVersion()){
+			case 2:
+				limits=Stream.of(mostRestrictive(this.root, unified(), directory -> read(directory.resolve("cpu.max"), CgroupResources::quota))
+								,mostRestrictive(this.root, unified(), directory -> read(directory.resolve("cpuset.cpus.effective"), CgroupResources::cpuset)));
+				break;
+			case 1:
+				final Map<String,Path[]> controllers=controllers();
+				limits=Stream.of(mostRestrictive(controllers.get("cpu"), directory -> quota(read(directory.resolve("cpu.cfs_quota_us"), CgroupResources::positive)
+																								, read(directory.resolve("cpu.cfs_period_us"), CgroupResources::positive)))
+								,mostRestrictive(controllers.get("cpuset"), directory -> read(directory.resolve("cpuset.cpus"), CgroupResources::cpuset)));
+				break;
+			default:
+				limits=Stream.empty();
+		}
+		
+		return (int)Math.max(1, limits.filter(OptionalLong::isPresent)
+										.mapToLong(OptionalLong::getAsLong)
+										.reduce(_available, Math::min));
+	}
+
+	/**
+	 * Memory limit of the process cgroup
+	 * @return optional of the memory limit in bytes, empty if unlimited
+	 */
+	public OptionalLong memoryLimit(){
+		
+		final OptionalLong reply;
+		
+		switch(getVersion()){
+			case 2:
+				reply=mostRestrictive(this.root, unified(), directory -> read(directory.resolve("memory.max"), CgroupResources::positive));
+				break;
+			case 1:
+				reply=mostRestrictive(controllers().get("memory"), directory -> read(directory.resolve("memory.limit_in_bytes"), CgroupResources::positive));
+				break;
+			default:
+				reply=OptionalLong.empty();
+		}
+		
+		return reply;
+	}
+	
+	/**
+	 * Direct memory limit: the -XX:MaxDirectMemorySize argument if present or the maximum heap size otherwise (JVM default)
+	 * @param _arguments JVM input arguments
+	 * @param _maxHeap maximum heap size in bytes
+	 * @return direct memory limit in bytes
+	 */
+	public static long directMemoryLimit(final List<String> _arguments,final long _maxHeap){
+		return _arguments.stream()
+							.map(DIRECT_MEMORY::matcher)
+							.filter(Matcher::matches)
+							.reduce((previous,latest) -> latest)
+							.map(matcher -> Long.parseLong(matcher.group(1))<<(10*"BKMGT".indexOf(matcher.group(2).isEmpty()? "B" : matcher.group(2).toUpperCase())))
+							.orElse(_maxHeap);
+	}
+
+	
+	/**
+	 * Controllers of the cgroup v1 membership
+	 * @return map with the controller name as key and its mount and process cgroup directory as value
+	 */
+	private Map<String,Path[]> controllers(){
+		
+		Map<String,Path[]> reply=Collections.emptyMap();
+		
+		try(Stream<String> lines=Files.lines(this.membership, StandardCharsets.UTF_8)){
+			reply=lines.map(line -> line.split(":",3))
+						.filter(fields -> fields.length==3)
+						.filter(fields -> !fields[1].isEmpty())
+						.flatMap(fields -> Stream.of(fields[1].split(","))
+													.map(controller -> Stream.of(this.root.resolve(fields[1]),this.root.resolve(controller))
+																				.filter(Files::isDirectory)
+																				.findFirst()
+																				.map(mount -> new Object[]{controller, mount, mount.resolve(fields[2].substring(1))}))
+													.filter(Optional::isPresent)
+													.map(Optional::get))
+						.collect(Collectors.toMap(fields -> (String)fields[0]
+												, fields -> new Path[]{(Path)fields[1],(Path)fields[2]}
+												, (previous,latest) -> previous));
+		}catch(IOException|RuntimeException e){
+			// no membership available: not containerized
+		}
+		
+		return reply;
+	}
+	
+	/**
+	 * Process cgroup directory of the unified hierarchy
+	 */
+	private Path unified(){
+		
+		Path reply=this.root;
+		
+		try(Stream<String> lines=Files.lines(this.membership, StandardCharsets.UTF_8)){
+			reply=lines.filter(line -> line.startsWith("0::/"))
+						.findFirst()
+						.map(line -> this.root.resolve(line.substring(4)))
+						.orElse(this.root);
+		}catch(IOException|RuntimeException e){
+			// no membership available: use the root
+		}
+		
+		return reply;
+	}
+
+	private static OptionalLong mostRestrictive(final Path[] _controller,final Function<Path,OptionalLong> _limit){
+		return (_controller==null)? OptionalLong.empty() : mostRestrictive(_controller[0], _controller[1], _limit);
+	}
+	
+	/**
+	 * Most restrictive limit found from the process cgroup directory up to the mount
+	 */
+	private static OptionalLong mostRestrictive(final Path _mount,final Path _start,final Function<Path,OptionalLong> _limit){
+		
+		final List<Path> directories=new ArrayList<>();
+		
+		Path directory=_start.normalize();
+		while((directory!=null)&&(directory.startsWith(_mount))){
+			directories.add(directory);
+			directory=directory.getParent();
+		}
+		
+		return directories.stream()
+							.filter(Files::isDirectory)
+							.map(_limit)
+							.filter(OptionalLong::isPresent)
+							.mapToLong(OptionalLong::getAsLong)
+							.min();
+	}
+	
+	private static OptionalLong read(final Path _file,final Function<String,OptionalLong> _parser){
+		
+		OptionalLong reply=OptionalLong.empty();
+		
+		if(Files.isReadable(_file)){
+			try{
+				reply=_parser.apply(new String(Files.readAllBytes(_file), StandardCharsets.UTF_8).trim());
+			}catch(IOException|RuntimeException e){
+				// unreadable or unexpected content: no limit
+			}
+		}
+		
+		return reply;
+	}
+	
+	private static OptionalLong positive(final String _value){
+		return Optional.of(_value)
+						.filter(value -> value.matches("\\d+"))
+						.map(Long::parseLong)
+						.filter(value -> value>0)
+						.filter(value -> value<V1_UNLIMITED)
+						.map(OptionalLong::of)
+						.orElse(OptionalLong.empty());
+	}
+	
+	private static OptionalLong quota(final String _value){
+		
+		final String[] fields=_value.split("\\s+");
+		
+		return (fields.length==2)? quota(positive(fields[0]), positive(fields[1])) : OptionalLong.empty();
+	}
+	
+	private static OptionalLong quota(final OptionalLong _quota,final OptionalLong _period){
+		return ((_quota.isPresent())&&(_period.isPresent()))? 
+						OptionalLong.of((_quota.getAsLong()+_period.getAsLong()-1)/_period.getAsLong())
+						: OptionalLong.empty();
+	}
+	
+	private static OptionalLong cpuset(final String _value){
+		return (_value.isEmpty())? 
+						OptionalLong.empty()
+						: OptionalLong.of(Stream.of(_value.split(","))
+													.map(range -> range.split("-"))
+													.flatMapToLong(range -> LongStream.rangeClosed(Long.parseLong(range[0].trim()), Long.parseLong(range[range.length-1].trim())))
+													.count());
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.bytemechanics.standalone.ignite.beans.IgnitableComponent;
+import org.bytemechanics.standalone.ignite.exceptions.CyclicComponentDependency;
+import org.bytemechanics.standalone.ignite.exceptions.UnknownComponentDependency;
+
+/**
+ * Component dependency graph helper
+ * @author afarre
+ * @since 2.1.0
+ */
+public final class ComponentGraph {
+
+	private ComponentGraph(){}
+	
+	/**
+	 * Split the given components in topological waves, every component of a wave only depends on components of the previous waves
+	 * @param _components components to sort
+	 * @return list of waves in startup order
+	 * @throws UnknownComponentDependency if any component depends on a not provided component
+	 * @throws CyclicComponentDependency if the dependencies contains a cycle
+	 */
+	public static List<List<IgnitableComponent>> waves(final Collection<IgnitableComponent> _components){
+		
+		final List<List<IgnitableComponent>> reply=new ArrayList<>();
+		final Set<String> names=_components.stream()
+												.map(IgnitableComponent::getName)
+												.collect(Collectors.toSet());
+		_components.forEach(component -> component.getDependsOn()
+														.stream()
+															.filter(dependency -> !names.contains(dependency))
+															.findFirst()
+															.ifPresent(dependency -> { throw new UnknownComponentDependency(component.getName(), dependency); }));
+		
+		final Set<String> resolved=new HashSet<>();
+		final List<IgnitableComponent> pending=new ArrayList<>(_components);
+		while(!pending.isEmpty()){
+			final List<IgnitableComponent> wave=pending.stream()
+															.filter(component -> resolved.containsAll(component.getDependsOn()))
+															.collect(Collectors.toList());
+			if(wave.isEmpty()){
+				throw new CyclicComponentDependency(pending.stream()
+																.map(IgnitableComponent::getName)
+																.collect(Collectors.toList()));
+			}
+			wave.stream()
+					.map(IgnitableComponent::getName)
+					.forEach(resolved::add);
+			pending.removeAll(wave);
+			reply.add(Collections.unmodifiableList(wave));
+		}
+		
+		return Collections.unmodifiableList(reply);
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.util.function.Supplier;
+import org.bytemechanics.standalone.ignite.Parameter;
+
+/**
+ * Java Flight Recorder events helper. This is the JDK 8 implementation that executes the actions without emitting any event, 
+ * the multi-release JAR overlay at META-INF/versions/11 replaces it with the implementation emitting custom JFR events
+ * @author afarre
+ * @since 2.1.0
+ */
+public final class FlightRecorder {
+
+	private FlightRecorder(){}
+
+	/**
+	 * Check if the running JVM supports custom flight recorder events
+	 * @return always false for this implementation
+	 */
+	public static boolean isSupported(){
+		return false;
+	}
+
+	/**
+	 * Execute the given lifecycle phase action
+	 * @param <T> action result type
+	 * @param _standalone standalone name (can be null)
+	 * @param _phase phase name
+	 * @param _action action to execute
+	 * @return the action result
+	 */
+	public static <T> T phase(final String _standalone,final String _phase,final Supplier<T> _action){
+		return _action.get();
+	}
+
+	/**
+	 * Execute the given parameter operation action
+	 * @param _operation parameter operation (load or validate)
+	 * @param _parameter parameter
+	 * @param _action action to execute
+	 */
+	public static void parameter(final String _operation,final Parameter _parameter,final Runnable _action){
+		_action.run();
+	}
+
+	/**
+	 * Execute the given shell command action
+	 * @param _command command name
+	 * @param _action action to execute
+	 */
+	public static void command(final String _command,final Runnable _action){
+		_action.run();
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import org.bytemechanics.standalone.ignite.LifecycleState;
+import org.bytemechanics.standalone.ignite.Standalone;
+import org.bytemechanics.standalone.ignite.exceptions.HealthEndpointNotBindable;
+import org.bytemechanics.standalone.ignite.metrics.MetricsRegistry;
+
+/**
+ * Embedded http endpoint serving the standalone liveness (/health), readiness (/ready) and metrics (/metrics) in plain text.
+ * Handlers only read the lock-free standalone state and are executed at the server dispatcher thread, never at the lifecycle thread
+ * @author afarre
+ * @since 2.1.0
+ */
+public class HealthEndpoint implements AutoCloseable {
+
+	private static final byte[] UP="UP\n".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] DOWN="DOWN\n".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] READY="READY\n".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] NOT_READY="NOT READY\n".getBytes(StandardCharsets.UTF_8);
+	private static final String CONTENT_TYPE="text/plain; charset=utf-8";
+	private static final String METRICS_CONTENT_TYPE="text/plain; version=0.0.4; charset=utf-8";
+	private static final double[] QUANTILES={0.5,0.99,0.999};
+	
+	private final Standalone standalone;
+	private final HttpServer server;
+
+	/**
+	 * Health endpoint constructor, binds the server without starting it
+	 * @param _standalone standalone to expose
+	 * @param _address address to bind
+	 * @throws HealthEndpointNotBindable if the address can not be bound
+	 */
+	public HealthEndpoint(final Standalone _standalone,final InetSocketAddress _address){
+		this.standalone=_standalone;
+		try{
+			this.server=HttpServer.create(_address, 0);
+		}catch(IOException e){
+			throw new HealthEndpointNotBindable(_address, e);
+		}
+		this.server.createContext("/health", exchange -> respond(exchange, CONTENT_TYPE, (this.standalone.getState()!=LifecycleState.STOPPED)? 200 : 503
+																					, (this.standalone.getState()!=LifecycleState.STOPPED)? UP : DOWN));
+		this.server.createContext("/ready", exchange -> respond(exchange, CONTENT_TYPE, (this.standalone.isReady())? 200 : 503
+																					, (this.standalone.isReady())? READY : NOT_READY));
+		this.server.createContext("/metrics", exchange -> respond(exchange, METRICS_CONTENT_TYPE, 200, metrics().getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Starts the server. The server dispatcher thread inherits the daemon flag from the thread that starts it, 
+	 * so it is started from a daemon thread to never keep the JVM alive
+	 * @return this instance
+	 */
+	public HealthEndpoint start(){
+		
+		final Thread starter=new Thread(this.server::start,"standalone-health");
+		starter.setDaemon(true);
+		starter.start();
+		try{
+			starter.join();
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+		
+		return this;
+	}
+
+	/**
+	 * Bound address
+	 * @return the address where the server is bound (with the actual port if an ephemeral port was requested)
+	 */
+	public InetSocketAddress getAddress(){
+		return this.server.getAddress();
+	}
+
+	/**
+	 * Render the standalone metrics in Prometheus text exposition format
+	 * @return metrics text
+	 */
+	protected String metrics(){
+		
+		final StringBuilder reply=new StringBuilder(512);
+		final LifecycleState state=this.standalone.getState();
+		
+		reply.append("# TYPE standalone_up gauge\nstandalone_up ").append((state!=LifecycleState.STOPPED)? 1 : 0).append('\n')
+				.append("# TYPE standalone_ready gauge\nstandalone_ready ").append((this.standalone.isReady())? 1 : 0).append('\n')
+				.append("# TYPE standalone_state gauge\n");
+		for(LifecycleState current : LifecycleState.values()){
+			reply.append("standalone_state{state=\"").append(current.name()).append("\"} ").append((current==state)? 1 : 0).append('\n');
+		}
+		reply.append("# TYPE standalone_uptime_seconds gauge\nstandalone_uptime_seconds ")
+					.append((System.nanoTime()-this.standalone.getLifecycleReport().getOrigin())/1e9d).append('\n')
+				.append("# TYPE standalone_phase_duration_seconds gauge\n");
+		this.standalone.getLifecycleReport()
+							.getPhases()
+							.forEach(phase -> reply.append("standalone_phase_duration_seconds{phase=\"").append(escape(phase.getName())).append("\"} ")
+													.append(phase.getDurationNanos()/1e9d).append('\n'));
+		final MetricsRegistry registry=this.standalone.getMetrics();
+		registry.getCounters()
+					.forEach((name,counter) -> reply.append("# TYPE ").append(metricName(name)).append("_total counter\n")
+														.append(metricName(name)).append("_total ").append(counter.get()).append('\n'));
+		registry.getGauges()
+					.forEach((name,gauge) -> reply.append("# TYPE ").append(metricName(name)).append(" gauge\n")
+														.append(metricName(name)).append(' ').append(gauge.getAsDouble()).append('\n'));
+		registry.getHistograms()
+					.forEach((name,histogram) -> {
+						reply.append("# TYPE ").append(metricName(name)).append("_seconds summary\n");
+						for(double quantile : QUANTILES){
+							reply.append(metricName(name)).append("_seconds{quantile=\"").append(quantile).append("\"} ")
+									.append(histogram.getPercentile(quantile*100)/1e9d).append('\n');
+						}
+						reply.append(metricName(name)).append("_seconds_count ").append(histogram.getCount()).append('\n');
+					});
+		
+		return reply.toString();
+	}
+
+	private static String metricName(final String _name){
+		return _name.replaceAll("[^a-zA-Z0-9_:]", "_");
+	}
+
+	private static String escape(final String _value){
+		return _value.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+	private static void respond(final HttpExchange _exchange,final String _contentType,final int _status,final byte[] _body) throws IOException{
+		try{
+			_exchange.getResponseHeaders().set("Content-Type", _contentType);
+			if("HEAD".equals(_exchange.getRequestMethod())){
+				_exchange.sendResponseHeaders(_status, -1);
+			}else{
+				_exchange.sendResponseHeaders(_status, _body.length);
+				try(OutputStream body=_exchange.getResponseBody()){
+					body.write(_body);
+				}
+			}
+		}finally{
+			_exchange.close();
+		}
+	}
+
+	/**
+	 * Stops the server immediately
+	 */
+	@Override
+	public void close() {
+		this.server.stop(0);
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-flight work tracker. Every unit of work enters before starting and exits once finished, the counter is a LongAdder so concurrent entries do not contend. 
+ * Once the drain starts, new entries are rejected and the drain waits until the in-flight work finishes or the timeout expires. 
+ * The entries held by the draining thread itself are not waited (a tracked work triggering the shutdown can not wait for itself)
+ * @author afarre
+ * @since 2.1.0
+ */
+public class InFlightTracker {
+
+	/** Default drain timeout */
+	public static final Duration DRAIN_TIMEOUT=Duration.ofSeconds(10);
+
+	private final LongAdder inFlight;
+	private final ThreadLocal<int[]> held;
+	private final Object signal;
+	private volatile boolean used;
+	private volatile boolean draining;
+
+	/**
+	 * In-flight work tracker constructor
+	 */
+	public InFlightTracker(){
+		this.inFlight=new LongAdder();
+		this.held=ThreadLocal.withInitial(() -> new int[1]);
+		this.signal=new Object();
+		this.used=false;
+		this.draining=false;
+	}
+
+	/**
+	 * Enter a new unit of work, must be followed by an exit() call once finished if accepted
+	 * @return true if accepted, false if the drain has already started
+	 */
+	public boolean enter(){
+		
+		boolean reply=false;
+		
+		this.inFlight.increment();
+		if(this.draining){
+			release();
+		}else{
+			this.held.get()[0]++;
+			if(!this.used){
+				this.used=true;
+			}
+			reply=true;
+		}
+		
+		return reply;
+	}
+
+	/**
+	 * Exit a unit of work previously accepted by enter()
+	 */
+	public void exit(){
+		this.held.get()[0]--;
+		release();
+	}
+	private void release(){
+		this.inFlight.decrement();
+		if(this.draining){
+			synchronized(this.signal){
+				this.signal.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Units of work in flight
+	 * @return units of work in flight
+	 */
+	public long getInFlight(){
+		return Math.max(0l, this.inFlight.sum());
+	}
+	/**
+	 * Return if any unit of work has ever been accepted
+	 * @return true if any unit of work has ever been accepted
+	 */
+	public boolean isUsed(){
+		return this.used;
+	}
+	/**
+	 * Return if the drain has started
+	 * @return true if the new units of work are rejected
+	 */
+	public boolean isDraining(){
+		return this.draining;
+	}
+
+	/**
+	 * Reject any new unit of work and wait until the units of work in flight (not held by the current thread) finish
+	 * @param _timeout maximum wait
+	 * @return true if all the units of work finished, false if the timeout expired or the current thread has been interrupted
+	 */
+	public boolean drain(final Duration _timeout){
+		
+		final long own=this.held.get()[0];
+		final long deadline=System.nanoTime()+_timeout.toNanos();
+		boolean reply=true;
+		
+		this.draining=true;
+		synchronized(this.signal){
+			long remaining=deadline-System.nanoTime();
+			while((reply)&&(this.inFlight.sum()>own)){
+				if(remaining<=0){
+					reply=false;
+				}else{
+					try{
+						TimeUnit.NANOSECONDS.timedWait(this.signal, remaining);
+						remaining=deadline-System.nanoTime();
+					}catch(InterruptedException e){
+						Thread.currentThread().interrupt();
+						reply=false;
+					}
+				}
+			}
+		}
+		
+		return reply;
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bytemechanics.standalone.ignite.beans.ExecutorConfig;
+import org.bytemechanics.standalone.ignite.internal.commons.string.SimpleFormat;
+import org.bytemechanics.standalone.ignite.metrics.Counter;
+import org.bytemechanics.standalone.ignite.metrics.Histogram;
+import org.bytemechanics.standalone.ignite.metrics.MetricsRegistry;
+
+/**
+ * Bounded worker pool managed by the standalone. Publishes at the metrics registry the queue depth ("executor.{name}.queue") 
+ * and active workers ("executor.{name}.active") gauges, the rejected submissions counter ("executor.{name}.rejected") and 
+ * the queue wait ("executor.{name}.wait") and submission to completion latency ("executor.{name}.latency") histograms. 
+ * Once the intake is stopped every submission is rejected whatever the rejection policy, while the queued tasks are still executed until drained
+ * @see ExecutorConfig
+ * @author afarre
+ * @since 2.1.0
+ */
+public class ManagedExecutor extends ThreadPoolExecutor {
+
+	private static final long KEEP_ALIVE_SECONDS=60;
+
+	private final String name;
+	private final ExecutorConfig config;
+	private final Histogram wait;
+	private final Histogram latency;
+
+	/**
+	 * Managed executor constructor
+	 * @param _prefix thread name prefix
+	 * @param _name pool name, used to publish its metrics
+	 * @param _config pool configuration
+	 * @param _metrics registry where to publish the pool metrics
+	 */
+	public ManagedExecutor(final String _prefix,final String _name,final ExecutorConfig _config,final MetricsRegistry _metrics){
+		super(_config.getThreads()
+				, _config.getThreads()
+				, KEEP_ALIVE_SECONDS
+				, TimeUnit.SECONDS
+				, queue(_config.getQueueCapacity())
+				, factory(_prefix)
+				, rejection(_config.getRejection(), _metrics.counter(SimpleFormat.format("executor.{}.rejected",_name))));
+		allowCoreThreadTimeOut(true);
+		this.name=_name;
+		this.config=_config;
+		this.wait=_metrics.histogram(SimpleFormat.format("executor.{}.wait",_name));
+		this.latency=_metrics.histogram(SimpleFormat.format("executor.{}.latency",_name));
+		_metrics.gauge(SimpleFormat.format("executor.{}.queue",_name), () -> getQueue().size())
+				.gauge(SimpleFormat.format("executor.{}.active",_name), this::getActiveCount);
+	}
+
+	private static BlockingQueue<Runnable> queue(final int _capacity){
+		return (_capacity==0)? new SynchronousQueue<>() : new ArrayBlockingQueue<>(_capacity);
+	}
+
+	private static ThreadFactory factory(final String _prefix){
+		
+		final AtomicLong counter=new AtomicLong(0);
+		
+		return task -> {
+			final Thread reply=new Thread(task,_prefix+counter.getAndIncrement());
+			reply.setDaemon(true);
+			return reply;
+		};
+	}
+
+	private static RejectedExecutionHandler rejection(final ExecutorConfig.Rejection _rejection,final Counter _rejected){
+		
+		final RejectedExecutionHandler policy;
+		
+		switch(_rejection){
+			case CALLER_RUNS:
+				policy=new ThreadPoolExecutor.CallerRunsPolicy();
+				break;
+			case DISCARD:
+				policy=new ThreadPoolExecutor.DiscardPolicy();
+				break;
+			case DISCARD_OLDEST:
+				policy=(task,executor) -> ((ManagedExecutor)executor).discardOldest(task);
+				break;
+			default:
+				policy=new ThreadPoolExecutor.AbortPolicy();
+		}
+		
+		return (task,executor) -> {
+			_rejected.increment();
+			policy.rejectedExecution(task, executor);
+		};
+	}
+
+	/**
+	 * Discard the oldest queued tasks until the given already wrapped task is queued, retrying at the submitter thread without submitting it again 
+	 * so the task is neither wrapped nor counted as rejected twice. Nothing is done once the intake is stopped
+	 * @param _task already wrapped task to queue
+	 */
+	private void discardOldest(final Runnable _task){
+		
+		final BlockingQueue<Runnable> queue=getQueue();
+		
+		while(!isShutdown()){
+			queue.poll();
+			if(queue.offer(_task)){
+				// The workers may have timed out since the rejection
+				prestartCoreThread();
+				return;
+			}
+		}
+	}
+
+	@Override
+	public void execute(final Runnable _command) {
+		if(_command==null)
+			throw new NullPointerException("Mandatory \"command\" can not be null");
+		if(isShutdown())
+			throw new RejectedExecutionException(SimpleFormat.format("Executor {} intake stopped",this.name));
+		
+		final long submitted=System.nanoTime();
+		
+		super.execute(() -> {
+			this.wait.recordSince(submitted);
+			try{
+				_command.run();
+			}finally{
+				this.latency.recordSince(submitted);
+			}
+		});
+	}
+
+	/**
+	 * Pool name
+	 * @return pool name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Pool configuration
+	 * @return pool configuration
+	 */
+	public ExecutorConfig getConfig() {
+		return this.config;
+	}
+
+	/**
+	 * Stop accepting new tasks, the queued ones are still executed
+	 * @return this instance
+	 */
+	public ManagedExecutor stopIntake(){
+		
+		final ManagedExecutor reply=this;
+		
+		shutdown();
+		
+		return reply;
+	}
+
+	/**
+	 * Stop accepting new tasks and wait until the queued and running ones finish, at most the configured drain timeout. 
+	 * If the timeout expires the queued tasks are discarded and the running ones interrupted
+	 * @return true if all the tasks finished in time
+	 */
+	public boolean drain(){
+		
+		shutdown();
+		try{
+			if(awaitTermination(this.config.getDrainTimeout().toNanos(), TimeUnit.NANOSECONDS)){
+				return true;
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+		shutdownNow();
+		
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return "ManagedExecutor{" + "name=" + name + ", config=" + config + ", queued=" + getQueue().size() + ", active=" + getActiveCount() + '}';
+	}
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+import java.util.stream.Collectors;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationFilter;
+import javax.management.NotificationListener;
+import org.bytemechanics.standalone.ignite.MemoryPressure;
+import org.bytemechanics.standalone.ignite.beans.MemoryPressurePolicy;
+
+/**
+ * Heap memory pressure monitor. Arms the usage and collection usage thresholds of the heap memory pools at the warning percentage and evaluates the memory pressure level 
+ * at a dedicated notifier thread every time a threshold notification is received or the poll interval expires (to detect the recovery, notified only upwards by the JVM).
+ * Level changes are delivered to the listener at the notifier thread, never at the JMX notification thread
+ * @see MemoryPressurePolicy
+ * @author afarre
+ * @since 2.1.0
+ */
+public class MemoryPressureMonitor implements NotificationListener,AutoCloseable {
+
+	/** Default poll interval */
+	public static final Duration POLL_INTERVAL=Duration.ofSeconds(1);
+
+	private static final NotificationFilter THRESHOLDS=notification -> MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED.equals(notification.getType())
+																		||MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType());
+
+	private final MemoryPressurePolicy policy;
+	private final Consumer<MemoryPressure> listener;
+	private final DoubleSupplier usage;
+	private final Duration pollInterval;
+	private final Semaphore signal;
+	private final Map<MemoryPoolMXBean,long[]> armedPools;
+	private final Thread notifier;
+	private volatile MemoryPressure level;
+	private volatile boolean running;
+
+	/**
+	 * Heap memory pressure monitor constructor
+	 * @param _policy memory pressure thresholds
+	 * @param _listener level changes listener
+	 */
+	public MemoryPressureMonitor(final MemoryPressurePolicy _policy,final Consumer<MemoryPressure> _listener){
+		this(_policy, _listener, MemoryPressureMonitor::heapUsage, POLL_INTERVAL);
+	}
+
+	/**
+	 * Memory pressure monitor constructor
+	 * @param _policy memory pressure thresholds
+	 * @param _listener level changes listener
+	 * @param _usage used memory percentage supplier
+	 * @param _pollInterval maximum wait between evaluations
+	 */
+	protected MemoryPressureMonitor(final MemoryPressurePolicy _policy,final Consumer<MemoryPressure> _listener,final DoubleSupplier _usage,final Duration _pollInterval){
+		this.policy=_policy;
+		this.listener=_listener;
+		this.usage=_usage;
+		this.pollInterval=_pollInterval;
+		this.signal=new Semaphore(0);
+		this.armedPools=new ConcurrentHashMap<>();
+		this.level=MemoryPressure.NORMAL;
+		this.running=false;
+		this.notifier=new Thread(this::notifierLoop,"standalone-memory-pressure");
+		this.notifier.setDaemon(true);
+	}
+
+	private static List<MemoryPoolMXBean> heapPools(){
+		return ManagementFactory.getMemoryPoolMXBeans()
+									.stream()
+										.filter(pool -> pool.getType()==MemoryType.HEAP)
+										.filter(MemoryPoolMXBean::isValid)
+										.filter(pool -> pool.getUsage().getMax()>0)
+										.collect(Collectors.toList());
+	}
+
+	/**
+	 * Highest used percentage of the heap memory pools with usage threshold support (the ones holding long lived objects). 
+	 * The usage after the latest collection is used if the pool has been collected, otherwise the current usage
+	 * @return highest used percentage or 0 if no pool can be measured
+	 */
+	protected static double heapUsage(){
+		return heapPools().stream()
+								.filter(MemoryPoolMXBean::isUsageThresholdSupported)
+								.mapToDouble(pool -> {
+									final MemoryUsage collected=(pool.isCollectionUsageThresholdSupported())? pool.getCollectionUsage() : null;
+									final MemoryUsage current=((collected!=null)&&(collected.getUsed()>0))? collected : pool.getUsage();
+									return (current.getMax()>0)? current.getUsed()*100d/current.getMax() : 0d;
+								})
+								.max()
+								.orElse(0d);
+	}
+
+	/**
+	 * Evaluate the memory pressure level for the given usage with hysteresis: a higher level is raised as soon as the usage reaches its threshold, 
+	 * but the current level is kept until the usage falls under its threshold minus the hysteresis
+	 * @param _current current level
+	 * @param _usedPercent used memory percentage
+	 * @param _policy memory pressure thresholds
+	 * @return the new level
+	 */
+	public static MemoryPressure evaluate(final MemoryPressure _current,final double _usedPercent,final MemoryPressurePolicy _policy){
+		
+		final MemoryPressure raised=level(_usedPercent, _policy.getWarningPercent(), _policy.getCriticalPercent());
+		
+		if(raised.compareTo(_current)>=0){
+			return raised;
+		}
+		final MemoryPressure lowered=level(_usedPercent, _policy.getWarningPercent()-_policy.getHysteresisPercent(), _policy.getCriticalPercent()-_policy.getHysteresisPercent());
+		
+		return (lowered.compareTo(_current)<0)? lowered : _current;
+	}
+
+	private static MemoryPressure level(final double _usedPercent,final double _warning,final double _critical){
+		return (_usedPercent>=_critical)? MemoryPressure.CRITICAL : (_usedPercent>=_warning)? MemoryPressure.WARNING : MemoryPressure.NORMAL;
+	}
+
+	/**
+	 * Arm the heap pools thresholds, subscribe to the threshold notifications and start the notifier thread
+	 * @return this instance
+	 */
+	public MemoryPressureMonitor start(){
+		
+		final MemoryPressureMonitor reply=this;
+		
+		this.running=true;
+		heapPools().forEach(this::arm);
+		((NotificationEmitter)ManagementFactory.getMemoryMXBean()).addNotificationListener(this, THRESHOLDS, null);
+		this.notifier.start();
+		
+		return reply;
+	}
+
+	private void arm(final MemoryPoolMXBean _pool){
+		
+		final long threshold=_pool.getUsage().getMax()*this.policy.getWarningPercent()/100;
+		final long[] previous=new long[]{-1,-1};
+		
+		if(_pool.isUsageThresholdSupported()){
+			previous[0]=_pool.getUsageThreshold();
+			_pool.setUsageThreshold(threshold);
+		}
+		if(_pool.isCollectionUsageThresholdSupported()){
+			previous[1]=_pool.getCollectionUsageThreshold();
+			_pool.setCollectionUsageThreshold(threshold);
+		}
+		this.armedPools.put(_pool, previous);
+	}
+
+	@Override
+	public void handleNotification(final Notification _notification,final Object _handback) {
+		this.signal.release();
+	}
+
+	private void notifierLoop(){
+		
+		while(this.running){
+			try{
+				this.signal.tryAcquire(this.pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+				this.signal.drainPermits();
+			}catch(InterruptedException e){
+				return;
+			}
+			if(this.running){
+				final MemoryPressure next=evaluate(this.level, this.usage.getAsDouble(), this.policy);
+				if(next!=this.level){
+					this.level=next;
+					this.listener.accept(next);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Current memory pressure level
+	 * @return current memory pressure level
+	 */
+	public MemoryPressure getLevel() {
+		return this.level;
+	}
+
+	/**
+	 * Stop the notifier thread, unsubscribe from the threshold notifications and restore the previous heap pools thresholds
+	 */
+	@Override
+	public void close() {
+		this.running=false;
+		this.signal.release();
+		try{
+			((NotificationEmitter)ManagementFactory.getMemoryMXBean()).removeNotificationListener(this, THRESHOLDS, null);
+		}catch(ListenerNotFoundException e){
+			// Never started, nothing to unsubscribe
+		}
+		this.armedPools.forEach((pool,previous) -> {
+			if(previous[0]>=0){
+				pool.setUsageThreshold(previous[0]);
+			}
+			if(previous[1]>=0){
+				pool.setCollectionUsageThreshold(previous[1]);
+			}
+		});
+		this.armedPools.clear();
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.bytemechanics.standalone.ignite.Console;
+import org.bytemechanics.standalone.ignite.DeadlineEscalation;
+
+/**
+ * Watchdog that prints a thread dump and escalates when a lifecycle phase exceeds its deadline
+ * @author afarre
+ * @since 2.1.0
+ */
+public class PhaseWatchdog implements AutoCloseable{
+
+	private final Map<String,Duration> deadlines;
+	private final DeadlineEscalation escalation;
+	private final Console console;
+	private ScheduledExecutorService timer;
+
+	/**
+	 * Phase watchdog constructor
+	 * @param _deadlines deadline per phase name
+	 * @param _escalation escalation to execute on overrun (by default none)
+	 * @param _console console where to print the overruns
+	 */
+	public PhaseWatchdog(final Map<String,Duration> _deadlines,final DeadlineEscalation _escalation,final Console _console){
+		this.deadlines=(_deadlines!=null)? _deadlines : Collections.emptyMap();
+		this.escalation=(_escalation!=null)? _escalation : DeadlineEscalation.none();
+		this.console=_console;
+		this.timer=null;
+	}
+
+	/**
+	 * Lazy creation of the watchdog daemon thread, only created if any deadlined phase is executed
+	 * @return watchdog timer
+	 */
+	private synchronized ScheduledExecutorService getTimer(){
+		if(this.timer==null){
+			this.timer=Executors.newSingleThreadScheduledExecutor(runnable -> {
+																		final Thread reply=new Thread(runnable,"standalone-watchdog");
+																		reply.setDaemon(true);
+																		return reply;
+																	});
+		}
+		return this.timer;
+	}
+	
+	/**
+	 * Execute the given action watching its deadline if the phase has one configured
+	 * @param <T> action result type
+	 * @param _phase phase name
+	 * @param _action action to execute
+	 * @return the action result
+	 */
+	public <T> T watch(final String _phase,final Supplier<T> _action){
+		
+		final Duration deadline=this.deadlines.get(_phase);
+		if(deadline==null){
+			return _action.get();
+		}
+		
+		final Thread lifecycleThread=Thread.currentThread();
+		final ScheduledFuture<?> alarm=getTimer().schedule(() -> overrun(_phase, deadline, lifecycleThread), deadline.toNanos(), TimeUnit.NANOSECONDS);
+		try{
+			return _action.get();
+		}finally{
+			alarm.cancel(false);
+		}
+	}
+
+	/**
+	 * Prints the overrun and the thread dump to console error and executes the escalation
+	 * @param _phase phase name
+	 * @param _deadline phase deadline
+	 * @param _lifecycleThread thread executing the phase
+	 */
+	protected void overrun(final String _phase,final Duration _deadline,final Thread _lifecycleThread){
+		this.console.error("Lifecycle phase {} exceeded its deadline of {}ms executing at thread {}, thread dump:",_phase,_deadline.toMillis(),_lifecycleThread.getName());
+		this.console.error(threadDump());
+		this.escalation.escalate(_phase, _lifecycleThread);
+	}
+
+	/**
+	 * Full thread dump of the current JVM including locked monitors and synchronizers when supported
+	 * @return thread dump
+	 */
+	public static String threadDump(){
+		
+		final ThreadMXBean threads=ManagementFactory.getThreadMXBean();
+		
+		return Stream.of(threads.dumpAllThreads(threads.isObjectMonitorUsageSupported(), threads.isSynchronizerUsageSupported()))
+						.map(PhaseWatchdog::threadDump)
+						.collect(Collectors.joining("\n"));
+	}
+	
+	private static String threadDump(final ThreadInfo _thread){
+		
+		final StringBuilder reply=new StringBuilder();
+		
+		reply.append('"').append(_thread.getThreadName()).append("\" Id=").append(_thread.getThreadId()).append(' ').append(_thread.getThreadState());
+		Optional.ofNullable(_thread.getLockName())
+				.ifPresent(lock -> reply.append(" on ").append(lock));
+		Optional.ofNullable(_thread.getLockOwnerName())
+				.ifPresent(owner -> reply.append(" owned by \"").append(owner).append("\" Id=").append(_thread.getLockOwnerId()));
+		reply.append('\n');
+		final StackTraceElement[] stack=_thread.getStackTrace();
+		for(int i=0;i<stack.length;i++){
+			reply.append("\tat ").append(stack[i]).append('\n');
+			for(MonitorInfo monitor:_thread.getLockedMonitors()){
+				if(monitor.getLockedStackDepth()==i){
+					reply.append("\t-  locked ").append(monitor).append('\n');
+				}
+			}
+		}
+		for(LockInfo synchronizer:_thread.getLockedSynchronizers()){
+			reply.append("\t-  locked synchronizer ").append(synchronizer).append('\n');
+		}
+		
+		return reply.toString();
+	}
+
+	@Override
+	public synchronized void close(){
+		Optional.ofNullable(this.timer)
+				.ifPresent(ScheduledExecutorService::shutdownNow);
+		this.timer=null;
+	}
+}
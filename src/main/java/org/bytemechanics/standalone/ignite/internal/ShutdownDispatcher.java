@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Single JVM shutdown hook dispatching the shutdown of every registered standalone. Standalones deregister themselves once shutdown, 
+ * so no hook thread nor standalone graph is pinned until JVM exit. At JVM exit the standalones ignited during the ignition of another one (as the ShellAdapter commands) 
+ * are shutdown before it, in reverse ignition order, while independent standalones are shutdown in parallel
+ * @author afarre
+ * @since 2.1.0
+ */
+public class ShutdownDispatcher {
+
+	private final ConcurrentMap<Long,Registration> registrations;
+	private final AtomicBoolean installed;
+
+	private static final class Registration{
+		private final long sequence;
+		private final Long parent;
+		private final Runnable shutdown;
+
+		private Registration(final long _sequence,final Long _parent,final Runnable _shutdown){
+			this.sequence=_sequence;
+			this.parent=_parent;
+			this.shutdown=_shutdown;
+		}
+	}
+
+	/**
+	 * Empty dispatcher constructor, the JVM shutdown hook is installed on first registration
+	 */
+	public ShutdownDispatcher(){
+		this.registrations=new ConcurrentHashMap<>();
+		this.installed=new AtomicBoolean(false);
+	}
+
+	/**
+	 * Register the shutdown of a standalone, installing the JVM shutdown hook if not installed yet
+	 * @param _sequence standalone registration sequence
+	 * @param _parent registration sequence of the standalone that was igniting when this one was ignited (null if none)
+	 * @param _shutdown standalone shutdown action
+	 * @throws IllegalStateException if the JVM is already shutting down when the hook is installed
+	 */
+	public void register(final long _sequence,final Long _parent,final Runnable _shutdown){
+		if(this.installed.compareAndSet(false, true)){
+			install();
+		}
+		this.registrations.put(_sequence,new Registration(_sequence, _parent, _shutdown));
+	}
+
+	/**
+	 * Install the JVM shutdown hook
+	 */
+	protected void install(){
+		Runtime.getRuntime()
+					.addShutdownHook(new Thread(this::dispatch,"standalone-shutdown"));
+	}
+
+	/**
+	 * Deregister the shutdown of a standalone
+	 * @param _sequence standalone registration sequence
+	 * @return true if was registered
+	 */
+	public boolean deregister(final long _sequence){
+		return this.registrations.remove(_sequence)!=null;
+	}
+
+	/**
+	 * Registered standalones count
+	 * @return registered standalones count
+	 */
+	public int size(){
+		return this.registrations.size();
+	}
+
+	/**
+	 * Shutdown all registered standalones, each one once all the standalones ignited during its ignition are down. 
+	 * Independent standalones are shutdown in parallel, failures of one shutdown do not stop the others
+	 */
+	protected void dispatch(){
+		
+		final List<Registration> pending=new ArrayList<>(this.registrations.values());
+		final Set<Long> sequences=pending.stream()
+											.map(registration -> registration.sequence)
+											.collect(Collectors.toSet());
+		final Map<Long,List<Registration>> children=pending.stream()
+																.filter(registration -> registration.parent!=null)
+																.filter(registration -> sequences.contains(registration.parent))
+																.collect(Collectors.groupingBy(registration -> registration.parent));
+		final ExecutorService executor=VirtualThreads.newThreadPerTaskExecutor(false, "standalone-shutdown-");
+		try{
+			CompletableFuture.allOf(pending.stream()
+												.filter(registration -> (registration.parent==null)||(!sequences.contains(registration.parent)))
+												.map(registration -> shutdown(registration, children, executor))
+												.toArray(CompletableFuture[]::new))
+								.join();
+		}finally{
+			executor.shutdown();
+		}
+	}
+
+	private CompletableFuture<Void> shutdown(final Registration _registration,final Map<Long,List<Registration>> _children,final ExecutorService _executor){
+		return CompletableFuture.allOf(_children.getOrDefault(_registration.sequence, Collections.emptyList())
+													.stream()
+														.map(child -> shutdown(child, _children, _executor))
+														.toArray(CompletableFuture[]::new))
+								.handle((result,failure) -> null)
+								.thenRunAsync(_registration.shutdown, _executor)
+								.handle((result,failure) -> null);
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+/**
+ * Operating system signal trap. Uses sun.misc.Signal through reflection (available from JDK 8 to 21 at the jdk.unsupported module) 
+ * so the trap is silently disabled if the JVM does not provide it or the signal is not supported (Windows or -Xrs). 
+ * The previous handler is restored on close and chained only if it is another signal trap, never the JVM one (that for SIGHUP starts the JVM shutdown)
+ * @author afarre
+ * @since 2.1.0
+ */
+public class SignalTrap implements AutoCloseable {
+
+	private final String signal;
+	private final Runnable action;
+	private volatile Object previous;
+	private volatile Object installed;
+
+	/**
+	 * Signal trap constructor
+	 * @param _signal signal name without SIG prefix (for example HUP)
+	 * @param _action action to execute every time the signal is received, at the JVM signal dispatcher thread
+	 */
+	public SignalTrap(final String _signal,final Runnable _action){
+		if(_signal==null)
+			throw new NullPointerException("Mandatory \"signal\" can not be null");
+		if(_action==null)
+			throw new NullPointerException("Mandatory \"action\" can not be null");
+		this.signal=_signal;
+		this.action=_action;
+		this.previous=null;
+		this.installed=null;
+	}
+
+	/**
+	 * Install the signal handler
+	 * @return true if the handler has been installed and false if signals are not supported
+	 */
+	public boolean install(){
+		try{
+			final Class<?> signalClass=Class.forName("sun.misc.Signal");
+			final Class<?> handlerClass=Class.forName("sun.misc.SignalHandler");
+			final Object handler=Proxy.newProxyInstance(handlerClass.getClassLoader(), new Class<?>[]{handlerClass}, new TrapHandler(handlerClass));
+			final Object signalInstance=signalClass.getConstructor(String.class).newInstance(this.signal);
+			this.previous=signalClass.getMethod("handle", signalClass, handlerClass).invoke(null, signalInstance, handler);
+			this.installed=handler;
+			return true;
+		}catch(ReflectiveOperationException|RuntimeException|LinkageError e){
+			return false;
+		}
+	}
+
+	private class TrapHandler implements InvocationHandler{
+
+		private final Class<?> handlerClass;
+
+		TrapHandler(final Class<?> _handlerClass){
+			this.handlerClass=_handlerClass;
+		}
+
+		@Override
+		public Object invoke(final Object _proxy,final Method _method,final Object[] _args) throws Throwable {
+			switch(_method.getName()){
+				case "handle":
+					if(SignalTrap.this.installed!=null){
+						SignalTrap.this.action.run();
+					}
+					chain(_args[0]);
+					return null;
+				case "hashCode":
+					return System.identityHashCode(_proxy);
+				case "equals":
+					return _proxy==_args[0];
+				default:
+					return "SignalTrap{signal=" + SignalTrap.this.signal + '}';
+			}
+		}
+
+		private void chain(final Object _signal) throws ReflectiveOperationException{
+			
+			final Object current=SignalTrap.this.previous;
+			
+			if((current!=null)
+					&&(Proxy.isProxyClass(current.getClass()))
+					&&(Proxy.getInvocationHandler(current) instanceof TrapHandler)){
+				this.handlerClass.getMethod("handle", _signal.getClass()).invoke(current, _signal);
+			}
+		}
+	}
+
+	/**
+	 * Check if the handler is installed
+	 * @return true if installed and not closed
+	 */
+	public boolean isInstalled(){
+		return this.installed!=null;
+	}
+
+	/**
+	 * Restore the previous handler if this handler is still the installed one, otherwise this handler only chains to the previous one
+	 */
+	@Override
+	public void close() {
+		Optional.ofNullable(this.installed)
+				.ifPresent(handler -> {
+					this.installed=null;
+					try{
+						final Class<?> signalClass=Class.forName("sun.misc.Signal");
+						final Class<?> handlerClass=Class.forName("sun.misc.SignalHandler");
+						final Object signalInstance=signalClass.getConstructor(String.class).newInstance(this.signal);
+						final Method handle=signalClass.getMethod("handle", signalClass, handlerClass);
+						final Object replaced=handle.invoke(null, signalInstance, this.previous);
+						if(replaced!=handler){
+							// Another handler was installed after this one, keep it
+							handle.invoke(null, signalInstance, replaced);
+						}
+					}catch(ReflectiveOperationException|RuntimeException|LinkageError e){
+						// Signals not supported, nothing to restore
+					}
+				});
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.bytemechanics.standalone.ignite.ParameterSchema;
+import org.bytemechanics.standalone.ignite.Standalone;
+import org.bytemechanics.standalone.ignite.StandaloneMXBean;
+import org.bytemechanics.standalone.ignite.beans.LifecyclePhase;
+import org.bytemechanics.standalone.ignite.internal.commons.string.SimpleFormat;
+
+/**
+ * Standalone MXBean implementation, registers itself at the platform MBean server
+ * @author afarre
+ * @since 2.1.0
+ */
+public class StandaloneManagement implements StandaloneMXBean,AutoCloseable {
+
+	private static final String OBJECT_NAME="org.bytemechanics.standalone.ignite:type=Standalone,name={},id={}";
+
+	private final Standalone standalone;
+	private final ObjectName objectName;
+	private final MBeanServer server;
+
+	/**
+	 * Standalone management constructor
+	 * @param _standalone standalone to manage
+	 * @throws JMException if the object name can not be created
+	 */
+	public StandaloneManagement(final Standalone _standalone) throws JMException{
+		this.standalone=_standalone;
+		this.objectName=new ObjectName(SimpleFormat.format(OBJECT_NAME, ObjectName.quote(Optional.ofNullable(_standalone.getName()).orElse("standalone")), ObjectName.quote(_standalone.getId())));
+		this.server=ManagementFactory.getPlatformMBeanServer();
+	}
+
+	/**
+	 * Register this MXBean at the platform MBean server
+	 * @return this instance
+	 * @throws JMException if the registration fails
+	 */
+	public StandaloneManagement register() throws JMException{
+		this.server.registerMBean(this, this.objectName);
+		return this;
+	}
+
+	/**
+	 * Registered object name
+	 * @return object name
+	 */
+	public ObjectName getObjectName() {
+		return this.objectName;
+	}
+
+	@Override
+	public String getName() {
+		return this.standalone.getName();
+	}
+
+	@Override
+	public String getState() {
+		return this.standalone.getState().name();
+	}
+
+	@Override
+	public boolean isReady() {
+		return this.standalone.isReady();
+	}
+
+	@Override
+	public Map<String, Long> getPhaseDurations() {
+		return this.standalone.getLifecycleReport()
+									.getPhases()
+										.stream()
+											.collect(Collectors.toMap(LifecyclePhase::getName
+																		, LifecyclePhase::getDurationMillis
+																		, (previous,latest) -> latest
+																		, LinkedHashMap::new));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<String, String> getParameters() {
+		return Optional.ofNullable(this.standalone.getParameters())
+							.map(parameters -> parameters.stream())
+							.orElseGet(Stream::empty)
+								.filter(parameterClass -> parameterClass!=null)
+								.flatMap(parameterClass -> ParameterSchema.of(parameterClass)
+																	.getValues()
+																	.entrySet()
+																	.stream()
+																	.map(entry -> new String[]{parameterClass.getSimpleName()+"."+entry.getKey().name()
+																									, Optional.ofNullable(entry.getValue())
+																													.map(String::valueOf)
+																													.orElse("")}))
+								.collect(Collectors.toMap(entry -> entry[0]
+															, entry -> entry[1]
+															, (previous,latest) -> latest
+															, LinkedHashMap::new));
+	}
+
+	@Override
+	public void extinguish(final int _exitCode) {
+		new Thread(() -> this.standalone.extinguish(_exitCode),"standalone-extinguish").start();
+	}
+
+	/**
+	 * Unregister this MXBean from the platform MBean server if registered
+	 */
+	@Override
+	public void close() {
+		try{
+			if(this.server.isRegistered(this.objectName)){
+				this.server.unregisterMBean(this.objectName);
+			}
+		}catch(JMException e){
+			// Already unregistered concurrently, nothing to do
+		}
+	}
+}
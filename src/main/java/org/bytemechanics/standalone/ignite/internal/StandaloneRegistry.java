@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bytemechanics.standalone.ignite.LifecycleState;
+import org.bytemechanics.standalone.ignite.Standalone;
+
+/**
+ * Concurrent registry of the live standalones of the JVM kept in registration order. 
+ * Registration and lookup are lock-free and the registered instances are safely published to any thread
+ * @author afarre
+ * @since 2.1.0
+ */
+public class StandaloneRegistry {
+
+	private final AtomicLong sequence;
+	private final ConcurrentNavigableMap<Long,Standalone> standalones;
+
+	/**
+	 * Empty registry constructor
+	 */
+	public StandaloneRegistry(){
+		this.sequence=new AtomicLong(0);
+		this.standalones=new ConcurrentSkipListMap<>();
+	}
+
+	/**
+	 * Reserve the next registration sequence
+	 * @return next registration sequence
+	 */
+	public long nextSequence(){
+		return this.sequence.incrementAndGet();
+	}
+
+	/**
+	 * Register the given standalone with the given sequence
+	 * @param _sequence registration sequence
+	 * @param _standalone standalone to register
+	 * @return the given standalone
+	 * @throws NullPointerException if the standalone is null
+	 */
+	public Standalone register(final long _sequence,final Standalone _standalone){
+		this.standalones.put(_sequence,_standalone);
+		return _standalone;
+	}
+
+	/**
+	 * Unregister the given standalone only if is still registered with the given sequence
+	 * @param _sequence registration sequence
+	 * @param _standalone standalone to unregister
+	 * @return true if has been unregistered
+	 */
+	public boolean unregister(final long _sequence,final Standalone _standalone){
+		return this.standalones.remove(_sequence,_standalone);
+	}
+
+	/**
+	 * Lookup a registered standalone by its registration sequence
+	 * @param _sequence registration sequence
+	 * @return optional of the registered standalone, empty if no standalone is registered with the given sequence
+	 */
+	public Optional<Standalone> lookup(final long _sequence){
+		return Optional.ofNullable(this.standalones.get(_sequence));
+	}
+
+	/**
+	 * Lookup a registered standalone by id or by name, if more than one standalone is registered with the same name the latest registered is returned
+	 * @param _nameOrId standalone id or name
+	 * @return optional of the registered standalone, empty if no standalone is registered with the given id or name
+	 * @see Standalone#getId() 
+	 * @see Standalone#getName() 
+	 */
+	public Optional<Standalone> lookup(final String _nameOrId){
+		
+		final Optional<Standalone> reply=this.standalones.descendingMap()
+																.values()
+																	.stream()
+																		.filter(standalone -> standalone.getId().equals(_nameOrId))
+																		.findFirst();
+		
+		return (reply.isPresent())? reply : this.standalones.descendingMap()
+																.values()
+																	.stream()
+																		.filter(standalone -> _nameOrId!=null)
+																		.filter(standalone -> _nameOrId.equals(standalone.getName()))
+																		.findFirst();
+	}
+
+	/**
+	 * Lookup the primary standalone: the first registered standalone still starting or running
+	 * @return optional of the primary standalone, empty if no registered standalone is starting or running
+	 * @see Standalone#getState() 
+	 */
+	public Optional<Standalone> primary(){
+		return this.standalones.values()
+									.stream()
+										.filter(standalone -> (standalone.getState()==LifecycleState.STARTING)||(standalone.getState()==LifecycleState.RUNNING))
+										.findFirst();
+	}
+
+	/**
+	 * Registered standalones
+	 * @return a copy of the registered standalones in registration order
+	 */
+	public List<Standalone> getStandalones(){
+		return new ArrayList<>(this.standalones.values());
+	}
+}
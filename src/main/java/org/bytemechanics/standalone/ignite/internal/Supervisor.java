@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import org.bytemechanics.standalone.ignite.beans.SupervisionPolicy;
+
+/**
+ * Supervisor restart accounting, computes the exponential backoff with jitter for every consecutive restart
+ * Not thread safe, intended to be used by the lifecycle thread only
+ * @author afarre
+ * @since 2.1.0
+ */
+public class Supervisor {
+
+	private final SupervisionPolicy policy;
+	private int restarts;
+	private long lastRestart;
+
+	/**
+	 * Supervisor constructor
+	 * @param _policy supervision policy, if null no restart is allowed
+	 */
+	public Supervisor(final SupervisionPolicy _policy){
+		this.policy=_policy;
+		this.restarts=0;
+		this.lastRestart=System.nanoTime();
+	}
+
+	/**
+	 * Consecutive restarts done
+	 * @return consecutive restarts done since the last reset
+	 */
+	public int getRestarts() {
+		return restarts;
+	}
+
+	/**
+	 * Register a new failure and compute the wait before the next restart. If the ignitable has been running longer than the reset window since the last restart the count is reset
+	 * @return optional with the wait before restarting or empty if no more restarts are allowed
+	 */
+	public Optional<Duration> nextBackoff(){
+
+		if(this.policy==null){
+			return Optional.empty();
+		}
+		final long now=System.nanoTime();
+		if(now-this.lastRestart>=this.policy.getResetWindow().toNanos()){
+			this.restarts=0;
+		}
+		if(this.restarts>=this.policy.getMaxRestarts()){
+			return Optional.empty();
+		}
+		final long backoff=backoff(this.restarts++);
+		this.lastRestart=now+backoff;
+		
+		return Optional.of(Duration.ofNanos(backoff));
+	}
+
+	/**
+	 * Compute the wait for the given restart
+	 * @param _restart consecutive restart index starting at 0
+	 * @return wait in nanoseconds
+	 */
+	protected long backoff(final int _restart){
+		
+		final long initial=this.policy.getInitialBackoff().toNanos();
+		final long max=this.policy.getMaxBackoff().toNanos();
+		final long exponential=(_restart>=Long.numberOfLeadingZeros(Math.max(initial,1L))-1)? max : Math.min(max,initial<<_restart);
+		final double factor=1.0d+this.policy.getJitter()*(2.0d*ThreadLocalRandom.current().nextDouble()-1.0d);
+		
+		return Math.max(0L,(long)(exponential*factor));
+	}
+}
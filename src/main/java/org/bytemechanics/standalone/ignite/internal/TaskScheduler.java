@@ -0,0 +1,279 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bytemechanics.standalone.ignite.Console;
+import org.bytemechanics.standalone.ignite.ScheduledTask;
+import org.bytemechanics.standalone.ignite.beans.TaskSchedule;
+import org.bytemechanics.standalone.ignite.internal.commons.string.SimpleFormat;
+import org.bytemechanics.standalone.ignite.metrics.Counter;
+import org.bytemechanics.standalone.ignite.metrics.Histogram;
+import org.bytemechanics.standalone.ignite.metrics.MetricsRegistry;
+
+/**
+ * Standalone periodic tasks scheduler backed by a fixed size pool of daemon threads. 
+ * Every task is rescheduled as a one-shot delayed task once its execution finishes, so the executions of the same task never overlap, 
+ * the jitter can be applied to every delay and a failed execution does not cancel the next ones
+ * @author afarre
+ * @since 2.1.0
+ */
+public class TaskScheduler implements AutoCloseable {
+
+	/** Default maximum wait for the running executions when draining */
+	public static final Duration DRAIN_TIMEOUT=Duration.ofSeconds(10);
+
+	private final ScheduledThreadPoolExecutor executor;
+	private final MetricsRegistry metrics;
+	private final Console console;
+	private final Set<Task> tasks;
+
+	/**
+	 * Task scheduler constructor, the threads are only started once the first task is scheduled
+	 * @param _prefix thread name prefix
+	 * @param _threads number of scheduler threads
+	 * @param _metrics registry where to publish the tasks metrics
+	 * @param _console console where to print the tasks failures
+	 */
+	public TaskScheduler(final String _prefix,final int _threads,final MetricsRegistry _metrics,final Console _console){
+		
+		final AtomicLong counter=new AtomicLong(0);
+		
+		this.executor=new ScheduledThreadPoolExecutor(Math.max(1,_threads), task -> {
+																					final Thread reply=new Thread(task,_prefix+counter.getAndIncrement());
+																					reply.setDaemon(true);
+																					return reply;
+																				});
+		this.executor.setRemoveOnCancelPolicy(true);
+		this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		this.executor.setContinueExistingPeriodicTasksAfterShutdownPolicy(false);
+		this.metrics=_metrics;
+		this.console=_console;
+		this.tasks=ConcurrentHashMap.newKeySet();
+	}
+
+	/**
+	 * Schedule the given task
+	 * @param _name task name
+	 * @param _schedule task schedule
+	 * @param _task task to execute
+	 * @return scheduled task
+	 * @throws NullPointerException if any argument is null
+	 * @throws RejectedExecutionException if the scheduler has been drained or closed
+	 */
+	public ScheduledTask schedule(final String _name,final TaskSchedule _schedule,final Runnable _task){
+		if(_name==null)
+			throw new NullPointerException("Mandatory \"name\" can not be null");
+		if(_schedule==null)
+			throw new NullPointerException("Mandatory \"schedule\" can not be null");
+		if(_task==null)
+			throw new NullPointerException("Mandatory \"task\" can not be null");
+		if(this.executor.isShutdown())
+			throw new RejectedExecutionException(SimpleFormat.format("Task {} rejected, scheduler already drained",_name));
+		
+		final Task reply=new Task(_name, _schedule, _task);
+		
+		this.tasks.add(reply);
+		reply.start();
+		
+		return reply;
+	}
+
+	/**
+	 * Scheduled tasks not cancelled
+	 * @return list of the scheduled tasks
+	 */
+	public List<ScheduledTask> getTasks(){
+		return new ArrayList<>(this.tasks);
+	}
+
+	/**
+	 * Check if any task has ever been scheduled
+	 * @return true if any task has been scheduled
+	 */
+	public boolean isUsed(){
+		return this.executor.getTaskCount()>0;
+	}
+
+	/**
+	 * Cancel all the tasks next executions and wait until the running ones finish, at most the given timeout. 
+	 * If the timeout expires the running executions are interrupted
+	 * @param _timeout maximum wait for the running executions
+	 * @return true if all the running executions finished in time
+	 */
+	public boolean drain(final Duration _timeout){
+		
+		this.tasks.forEach(Task::cancel);
+		this.executor.shutdown();
+		try{
+			if(this.executor.awaitTermination(_timeout.toNanos(), TimeUnit.NANOSECONDS)){
+				return true;
+			}
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+		this.executor.shutdownNow();
+		
+		return false;
+	}
+
+	/**
+	 * Cancel all the tasks and interrupt the running executions without waiting
+	 */
+	@Override
+	public void close() {
+		this.tasks.forEach(Task::cancel);
+		this.executor.shutdownNow();
+	}
+
+	private static long jitter(final Duration _jitter){
+		return (_jitter.isZero())? 0 : ThreadLocalRandom.current().nextLong(_jitter.toNanos()+1);
+	}
+
+	private class Task implements ScheduledTask,Runnable{
+
+		private final String name;
+		private final TaskSchedule schedule;
+		private final Runnable command;
+		private final long period;
+		private final Histogram runtime;
+		private final Counter overruns;
+		private final Counter failures;
+		private volatile ScheduledFuture<?> future;
+		private volatile boolean cancelled;
+		private long nominal;
+
+		Task(final String _name,final TaskSchedule _schedule,final Runnable _command){
+			this.name=_name;
+			this.schedule=_schedule;
+			this.command=_command;
+			this.period=_schedule.getPeriod().toNanos();
+			this.runtime=TaskScheduler.this.metrics.histogram(SimpleFormat.format("scheduler.{}.runtime",_name));
+			this.overruns=TaskScheduler.this.metrics.counter(SimpleFormat.format("scheduler.{}.overruns",_name));
+			this.failures=TaskScheduler.this.metrics.counter(SimpleFormat.format("scheduler.{}.failures",_name));
+			this.future=null;
+			this.cancelled=false;
+			this.nominal=0;
+		}
+
+		void start(){
+			
+			final long delay=this.schedule.getInitialDelay().toNanos();
+			
+			this.nominal=System.nanoTime()+delay;
+			next(delay);
+		}
+
+		private void next(final long _delay){
+			try{
+				this.future=TaskScheduler.this.executor.schedule(this, _delay+jitter(this.schedule.getJitter()), TimeUnit.NANOSECONDS);
+				if(this.cancelled){
+					this.future.cancel(false);
+				}
+			}catch(RejectedExecutionException e){
+				// Scheduler drained, no more executions
+				cancel();
+			}
+		}
+
+		@Override
+		public void run() {
+			
+			if(this.cancelled){
+				return;
+			}
+			final long start=System.nanoTime();
+			try{
+				this.command.run();
+			}catch(Exception e){
+				this.failures.increment();
+				TaskScheduler.this.console.error("Scheduled task {} failure: {}",this.name,e.getMessage());
+			}finally{
+				this.runtime.recordSince(start);
+			}
+			if(!this.cancelled){
+				next(nextDelay(System.nanoTime()));
+			}
+		}
+
+		private long nextDelay(final long _now){
+			
+			if(this.schedule.getMode()==TaskSchedule.Mode.FIXED_DELAY){
+				return this.period;
+			}
+			this.nominal+=this.period;
+			if(_now>this.nominal){
+				this.overruns.increment();
+				this.nominal+=((_now-this.nominal)/this.period+1)*this.period;
+			}
+			
+			return this.nominal-_now;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+		@Override
+		public TaskSchedule getSchedule() {
+			return this.schedule;
+		}
+		@Override
+		public long getExecutions() {
+			return this.runtime.getCount();
+		}
+		@Override
+		public long getOverruns() {
+			return this.overruns.get();
+		}
+		@Override
+		public long getFailures() {
+			return this.failures.get();
+		}
+		@Override
+		public Histogram getRuntime() {
+			return this.runtime;
+		}
+		@Override
+		public void cancel() {
+			this.cancelled=true;
+			TaskScheduler.this.tasks.remove(this);
+			final ScheduledFuture<?> current=this.future;
+			if(current!=null){
+				current.cancel(false);
+			}
+		}
+		@Override
+		public boolean isCancelled() {
+			return this.cancelled;
+		}
+
+		@Override
+		public String toString() {
+			return "ScheduledTask{" + "name=" + name + ", schedule=" + schedule + ", executions=" + getExecutions() + ", overruns=" + getOverruns() + ", failures=" + getFailures() + ", cancelled=" + cancelled + '}';
+		}
+	}
+}
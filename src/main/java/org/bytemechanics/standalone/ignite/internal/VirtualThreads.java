@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Virtual threads helper. This is the JDK 8 implementation that always falls back to platform threads, 
+ * the multi-release JAR overlay at META-INF/versions/21 replaces it with the virtual threads implementation
+ * @author afarre
+ * @since 2.1.0
+ */
+public final class VirtualThreads {
+
+	private VirtualThreads(){}
+
+	/**
+	 * Check if the running JVM supports virtual threads
+	 * @return always false for this implementation
+	 */
+	public static boolean isSupported(){
+		return false;
+	}
+
+	/**
+	 * Create a new unstarted thread
+	 * @param _virtual true to request a virtual thread (ignored for this implementation)
+	 * @param _name thread name
+	 * @param _task task to execute
+	 * @return new unstarted platform thread
+	 */
+	public static Thread newThread(final boolean _virtual,final String _name,final Runnable _task){
+		return new Thread(_task,_name);
+	}
+
+	/**
+	 * Create an executor that starts a new thread per task or reuses idle ones
+	 * @param _virtual true to request virtual threads (ignored for this implementation)
+	 * @param _prefix thread name prefix
+	 * @return new cached thread pool of daemon platform threads
+	 */
+	public static ExecutorService newThreadPerTaskExecutor(final boolean _virtual,final String _prefix){
+		return Executors.newCachedThreadPool(factory(_prefix));
+	}
+
+	private static ThreadFactory factory(final String _prefix){
+		
+		final AtomicLong counter=new AtomicLong(0);
+		
+		return task -> {
+			final Thread reply=new Thread(task,_prefix+counter.getAndIncrement());
+			reply.setDaemon(true);
+			return reply;
+		};
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic counter backed by a LongAdder, increments are lock-free, allocation-free and do not contend across writer threads
+ * @see MetricsRegistry#counter(java.lang.String) 
+ * @author afarre
+ * @since 2.1.0
+ */
+public class Counter {
+
+	private final String name;
+	private final LongAdder adder;
+
+	/**
+	 * Counter constructor
+	 * @param _name counter name
+	 */
+	public Counter(final String _name){
+		this.name=_name;
+		this.adder=new LongAdder();
+	}
+
+	/**
+	 * Counter name
+	 * @return counter name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Increment the counter by one
+	 */
+	public void increment(){
+		this.adder.increment();
+	}
+
+	/**
+	 * Increment the counter by the given amount
+	 * @param _amount amount to add
+	 */
+	public void add(final long _amount){
+		this.adder.add(_amount);
+	}
+
+	/**
+	 * Current counter value, not an atomic snapshot if there are concurrent increments
+	 * @return current counter value
+	 */
+	public long get(){
+		return this.adder.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "Counter{" + "name=" + name + ", value=" + get() + '}';
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-bucketed latency histogram in nanoseconds. Each power of two range is split in 16 linear sub-buckets (relative error lower than 6.25%), 
+ * every bucket is a LongAdder so recording is lock-free, allocation-free and does not contend across writer threads
+ * @see MetricsRegistry#histogram(java.lang.String) 
+ * @author afarre
+ * @since 2.1.0
+ */
+public class Histogram {
+
+	private static final int SUB_BUCKET_BITS=4;
+	private static final int SUB_BUCKETS=1<<SUB_BUCKET_BITS;
+	private static final int BUCKETS=(Long.SIZE-SUB_BUCKET_BITS)*SUB_BUCKETS;
+
+	private final String name;
+	private final LongAdder[] buckets;
+	private final LongAdder sum;
+	private final LongAccumulator max;
+
+	/**
+	 * Histogram constructor
+	 * @param _name histogram name
+	 */
+	public Histogram(final String _name){
+		this.name=_name;
+		this.buckets=new LongAdder[BUCKETS];
+		for(int bucket=0;bucket<BUCKETS;bucket++){
+			this.buckets[bucket]=new LongAdder();
+		}
+		this.sum=new LongAdder();
+		this.max=new LongAccumulator(Math::max, 0);
+	}
+
+	/**
+	 * Histogram name
+	 * @return histogram name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Bucket index of the given value
+	 * @param _value value (negative values are recorded as zero)
+	 * @return bucket index
+	 */
+	protected static int bucket(final long _value){
+		
+		if(_value<SUB_BUCKETS){
+			return (_value<0)? 0 : (int)_value;
+		}
+		final int exponent=Long.SIZE-1-Long.numberOfLeadingZeros(_value);
+		final int shift=exponent-SUB_BUCKET_BITS;
+		
+		return (shift+1)*SUB_BUCKETS+(int)((_value>>>shift)&(SUB_BUCKETS-1));
+	}
+
+	/**
+	 * Highest value that falls into the given bucket
+	 * @param _bucket bucket index
+	 * @return highest bucket value
+	 */
+	protected static long bucketUpperBound(final int _bucket){
+		
+		if(_bucket<SUB_BUCKETS){
+			return _bucket;
+		}
+		final int shift=_bucket/SUB_BUCKETS-1;
+		final long lower=((long)(SUB_BUCKETS+_bucket%SUB_BUCKETS))<<shift;
+		
+		return lower+(1L<<shift)-1;
+	}
+
+	/**
+	 * Record the given latency
+	 * @param _nanos latency in nanoseconds
+	 */
+	public void record(final long _nanos){
+		this.buckets[bucket(_nanos)].increment();
+		this.sum.add(Math.max(0,_nanos));
+		this.max.accumulate(_nanos);
+	}
+
+	/**
+	 * Record the latency elapsed since the given start
+	 * @param _startNanos start in nanoseconds (System.nanoTime())
+	 */
+	public void recordSince(final long _startNanos){
+		record(System.nanoTime()-_startNanos);
+	}
+
+	/**
+	 * Recorded values count
+	 * @return recorded values count
+	 */
+	public long getCount(){
+		
+		long reply=0;
+		
+		for(LongAdder bucket : this.buckets){
+			reply+=bucket.sum();
+		}
+		
+		return reply;
+	}
+
+	/**
+	 * Highest recorded value
+	 * @return highest recorded value in nanoseconds or 0 if nothing has been recorded
+	 */
+	public long getMax(){
+		return this.max.get();
+	}
+
+	/**
+	 * Mean of the recorded values
+	 * @return mean in nanoseconds or 0 if nothing has been recorded
+	 */
+	public double getMean(){
+		
+		final long count=getCount();
+		
+		return (count==0)? 0 : (double)this.sum.sum()/count;
+	}
+
+	/**
+	 * Value at the given percentile, the upper bound of the bucket where the percentile falls (never greater than the highest recorded value)
+	 * @param _percentile percentile between 0 and 100
+	 * @return value at the given percentile in nanoseconds or 0 if nothing has been recorded
+	 * @throws IllegalArgumentException if the percentile is out of range
+	 */
+	public long getPercentile(final double _percentile){
+		
+		if((_percentile<0)||(_percentile>100)){
+			throw new IllegalArgumentException("Percentile must be between 0 and 100");
+		}
+		final long[] counts=new long[BUCKETS];
+		long total=0;
+		for(int bucket=0;bucket<BUCKETS;bucket++){
+			counts[bucket]=this.buckets[bucket].sum();
+			total+=counts[bucket];
+		}
+		if(total==0){
+			return 0;
+		}
+		final long rank=Math.max(1,(long)Math.ceil(_percentile*total/100d));
+		long accumulated=0;
+		for(int bucket=0;bucket<BUCKETS;bucket++){
+			accumulated+=counts[bucket];
+			if(accumulated>=rank){
+				return Math.min(bucketUpperBound(bucket),getMax());
+			}
+		}
+		
+		return getMax();
+	}
+
+	/**
+	 * One line summary with count, mean, p50, p99, p999 and max in microseconds
+	 * @return summary
+	 */
+	public String summary(){
+		return String.format(Locale.ROOT,"count=%d mean=%.1fus p50=%dus p99=%dus p999=%dus max=%dus"
+									, getCount()
+									, getMean()/1000d
+									, TimeUnit.NANOSECONDS.toMicros(getPercentile(50))
+									, TimeUnit.NANOSECONDS.toMicros(getPercentile(99))
+									, TimeUnit.NANOSECONDS.toMicros(getPercentile(99.9))
+									, TimeUnit.NANOSECONDS.toMicros(getMax()));
+	}
+
+	@Override
+	public String toString() {
+		return "Histogram{" + "name=" + name + ", " + summary() + '}';
+	}
+}
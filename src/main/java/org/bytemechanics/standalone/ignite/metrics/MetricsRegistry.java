@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.DoubleSupplier;
+import org.bytemechanics.standalone.ignite.Console;
+
+/**
+ * Metrics registry owned by the standalone with counters, gauges and latency histograms. 
+ * Metric lookup is a concurrent map access, so the returned metric should be kept and reused at the hot path where recording is allocation-free
+ * @see org.bytemechanics.standalone.ignite.Standalone#getMetrics() 
+ * @author afarre
+ * @since 2.1.0
+ */
+public class MetricsRegistry {
+
+	private final ConcurrentMap<String,Counter> counters;
+	private final ConcurrentMap<String,DoubleSupplier> gauges;
+	private final ConcurrentMap<String,Histogram> histograms;
+
+	/**
+	 * Empty metrics registry constructor
+	 */
+	public MetricsRegistry(){
+		this.counters=new ConcurrentHashMap<>();
+		this.gauges=new ConcurrentHashMap<>();
+		this.histograms=new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Retrieve the counter with the given name creating it if not exist
+	 * @param _name counter name
+	 * @return the counter with the given name
+	 * @throws NullPointerException if the name is null
+	 */
+	public Counter counter(final String _name){
+		return this.counters.computeIfAbsent(_name,Counter::new);
+	}
+
+	/**
+	 * Register (or replace) the gauge with the given name, the supplier is called only when reading the gauge
+	 * @param _name gauge name
+	 * @param _gauge gauge value supplier
+	 * @return itself
+	 * @throws NullPointerException if the name or the supplier are null
+	 */
+	public MetricsRegistry gauge(final String _name,final DoubleSupplier _gauge){
+		
+		final MetricsRegistry reply=this;
+		
+		this.gauges.put(_name,_gauge);
+		
+		return reply;
+	}
+
+	/**
+	 * Retrieve the latency histogram with the given name creating it if not exist
+	 * @param _name histogram name
+	 * @return the histogram with the given name
+	 * @throws NullPointerException if the name is null
+	 */
+	public Histogram histogram(final String _name){
+		return this.histograms.computeIfAbsent(_name,Histogram::new);
+	}
+
+	/**
+	 * Registered counters sorted by name
+	 * @return unmodifiable map of registered counters
+	 */
+	public Map<String,Counter> getCounters(){
+		return Collections.unmodifiableMap(new TreeMap<>(this.counters));
+	}
+
+	/**
+	 * Registered gauges sorted by name
+	 * @return unmodifiable map of registered gauges
+	 */
+	public Map<String,DoubleSupplier> getGauges(){
+		return Collections.unmodifiableMap(new TreeMap<>(this.gauges));
+	}
+
+	/**
+	 * Registered histograms sorted by name
+	 * @return unmodifiable map of registered histograms
+	 */
+	public Map<String,Histogram> getHistograms(){
+		return Collections.unmodifiableMap(new TreeMap<>(this.histograms));
+	}
+
+	/**
+	 * Check if any metric has been registered
+	 * @return true if no metric has been registered
+	 */
+	public boolean isEmpty(){
+		return this.counters.isEmpty()&&this.gauges.isEmpty()&&this.histograms.isEmpty();
+	}
+
+	/**
+	 * Print the summary of all registered metrics into the info console channel
+	 * @param _console console where to print
+	 * @see Console#info(java.lang.String, java.lang.Object...)
+	 */
+	public void print(final Console _console){
+		getCounters()
+				.forEach((name,counter) -> _console.info("\tCounter {}: {}",name,counter.get()));
+		getGauges()
+				.forEach((name,gauge) -> _console.info("\tGauge {}: {}",name,gauge.getAsDouble()));
+		getHistograms()
+				.forEach((name,histogram) -> _console.info("\tHistogram {}: {}",name,histogram.summary()));
+	}
+}
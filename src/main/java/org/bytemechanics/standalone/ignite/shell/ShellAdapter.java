@@ -21,12 +21,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.bytemechanics.standalone.ignite.Ignitable;
 import org.bytemechanics.standalone.ignite.IgnitableAdapter;
+import org.bytemechanics.standalone.ignite.ParameterSchema;
 import org.bytemechanics.standalone.ignite.Standalone;
+import org.bytemechanics.standalone.ignite.internal.FlightRecorder;
 import org.bytemechanics.standalone.ignite.internal.commons.functional.Tuple;
 import org.bytemechanics.standalone.ignite.internal.commons.string.SimpleFormat;
 import org.bytemechanics.standalone.ignite.shell.beans.CommandExecution;
@@ -78,9 +83,12 @@ public abstract class ShellAdapter extends IgnitableAdapter {
 	}
 	
 	/**
-	 * Return a map with the available commands provided by getIgnitableShellCommands() and the standard commands: help and exit
+	 * Return a map with the available commands provided by getIgnitableShellCommands() and the standard commands: help and exit. 
+	 * The parameter schemas of every command are compiled here, so the command executions do not repeat any reflective work. 
+	 * Every command standalone is shutdown as soon as its ignition returns, so no command keeps any registration once executed
 	 * @return map with the command name as key and a biconsumer of arguments and shellConsole as value
 	 * @see ShellAdapter#getIgnitableShellCommands() 
+	 * @see ParameterSchema
 	 */
 	protected Map<String,BiConsumer<String[],ShellConsole>> getAvailableCommands(){
 		
@@ -92,7 +100,8 @@ public abstract class ShellAdapter extends IgnitableAdapter {
 						.map(entry -> Tuple.of(entry.getKey(), entry.getValue()))
 						.map(tuple -> tuple.left(tuple.left().getSimpleName()))
 						.map(tuple -> tuple.left(tuple.left().toLowerCase()))
-						.map(tuple -> tuple.right(tuple.right().showBanner(false)))
+						.map(tuple -> tuple.right(tuple.right().showBanner(false).shutdownAfterIgnition(true)))
+						.peek(tuple -> tuple.right().getParameters().forEach(ParameterSchema::of))
 						.map(tuple -> tuple.right((BiConsumer<String[],ShellConsole>)
 														(args,console) -> {
 																		tuple.right()
@@ -170,22 +179,55 @@ public abstract class ShellAdapter extends IgnitableAdapter {
 																									.toArray(new String[0])));
 	}
 	/**
-	 * Execute the single command provided and given the available commands
+	 * Execute the single command provided and given the available commands. The execution is tracked as in-flight work of the standalone, 
+	 * so the shutdown waits for it, and once the standalone is draining the command is rejected
 	 * @param _availableCommands commands available for this shell
 	 * @param _command command to execute (with the command name)
 	 * @throws UnknownCommand if the command is unknown
+	 * @see Standalone#enter() 
 	 */
 	protected void executeCommand(final Map<String,BiConsumer<String[],ShellConsole>> _availableCommands,final String _command){
 		
 		buildCommand(_command)
 				.ifPresent(command -> {
-					Optional.of(command.getName())
-								.map(String::toLowerCase)
-								.map(_availableCommands::get)
-								.orElseThrow(() -> new UnknownCommand(command.getName(), getCommandList()))
-									.accept(command.getArguments(), getShell());
+					final BiConsumer<String[],ShellConsole> action=Optional.of(command.getName())
+																			.map(String::toLowerCase)
+																			.map(_availableCommands::get)
+																			.orElseThrow(() -> new UnknownCommand(command.getName(), getCommandList()));
+					if(enter()){
+						try{
+							FlightRecorder.command(command.getName(), () -> executeAction(() -> action.accept(command.getArguments(), getShell())));
+						}finally{
+							exit();
+						}
+					}else{
+						getShell().error("Command {} rejected, shutdown in progress",command.getName());
+					}
 				});
 	}
+
+	/**
+	 * Execute the given command action, if the standalone has virtual threads enabled the action is executed at a new virtual thread waiting for its completion
+	 * @param _action command action to execute
+	 * @see Standalone#isVirtualThreads() 
+	 * @since 2.1.0
+	 */
+	protected void executeAction(final Runnable _action){
+		
+		final Optional<ExecutorService> executor=getStandalone()
+															.filter(Standalone::isVirtualThreads)
+															.map(Standalone::getExecutor);
+		if(executor.isPresent()){
+			try{
+				CompletableFuture.runAsync(_action, executor.get())
+									.join();
+			}catch(CompletionException e){
+				throw (e.getCause() instanceof RuntimeException)? (RuntimeException)e.getCause() : e;
+			}
+		}else{
+			_action.run();
+		}
+	}
 	
 	/**
 	 * Start batch execution of the given list of commands with the available commands provided
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.util.function.Supplier;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.bytemechanics.standalone.ignite.Parameter;
+
+/**
+ * Java Flight Recorder custom events holder (multi-release JAR overlay at META-INF/versions/11). 
+ * Only loaded by FlightRecorder when the jdk.jfr module is present at the running JVM, so the jdk.jfr classes are never linked otherwise. 
+ * Events are only allocated, populated and committed when enabled at the running recording, otherwise the action is executed directly
+ * @author afarre
+ * @since 2.1.0
+ * @see FlightRecorder
+ */
+final class FlightRecorderEvents {
+
+	private static final String CATEGORY="Standalone Ignite";
+
+	private FlightRecorderEvents(){}
+
+	@Name("org.bytemechanics.standalone.ignite.LifecyclePhase")
+	@Label("Lifecycle Phase")
+	@Category(CATEGORY)
+	@Description("Standalone lifecycle phase execution")
+	static final class LifecyclePhaseEvent extends Event{
+		@Label("Standalone")
+		String standalone;
+		@Label("Phase")
+		String phase;
+		@Label("Failed")
+		boolean failed;
+	}
+
+	@Name("org.bytemechanics.standalone.ignite.Parameter")
+	@Label("Parameter")
+	@Category(CATEGORY)
+	@Description("Parameter load or validation")
+	static final class ParameterEvent extends Event{
+		@Label("Operation")
+		String operation;
+		@Label("Parameter")
+		String parameter;
+		@Label("Type")
+		Class<?> type;
+		@Label("Failed")
+		boolean failed;
+	}
+
+	@Name("org.bytemechanics.standalone.ignite.ShellCommand")
+	@Label("Shell Command")
+	@Category(CATEGORY)
+	@Description("Shell command execution")
+	static final class ShellCommandEvent extends Event{
+		@Label("Command")
+		String command;
+		@Label("Failed")
+		boolean failed;
+	}
+
+	private static final EventType PHASE=EventType.getEventType(LifecyclePhaseEvent.class);
+	private static final EventType PARAMETER=EventType.getEventType(ParameterEvent.class);
+	private static final EventType COMMAND=EventType.getEventType(ShellCommandEvent.class);
+
+	/**
+	 * Execute the given lifecycle phase action emitting a lifecycle phase event if enabled
+	 * @param <T> action result type
+	 * @param _standalone standalone name (can be null)
+	 * @param _phase phase name
+	 * @param _action action to execute
+	 * @return the action result
+	 */
+	static <T> T phase(final String _standalone,final String _phase,final Supplier<T> _action){
+		
+		if(!PHASE.isEnabled()){
+			return _action.get();
+		}
+		final LifecyclePhaseEvent event=new LifecyclePhaseEvent();
+		boolean failed=true;
+		event.begin();
+		try{
+			final T reply=_action.get();
+			failed=false;
+			return reply;
+		}finally{
+			event.end();
+			if(event.shouldCommit()){
+				event.standalone=_standalone;
+				event.phase=_phase;
+				event.failed=failed;
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * Execute the given parameter operation action emitting a parameter event if enabled
+	 * @param _operation parameter operation (load or validate)
+	 * @param _parameter parameter
+	 * @param _action action to execute
+	 */
+	static void parameter(final String _operation,final Parameter _parameter,final Runnable _action){
+		
+		if(!PARAMETER.isEnabled()){
+			_action.run();
+			return;
+		}
+		final ParameterEvent event=new ParameterEvent();
+		boolean failed=true;
+		event.begin();
+		try{
+			_action.run();
+			failed=false;
+		}finally{
+			event.end();
+			if(event.shouldCommit()){
+				event.operation=_operation;
+				event.parameter=_parameter.name();
+				event.type=_parameter.getType();
+				event.failed=failed;
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * Execute the given shell command action emitting a shell command event if enabled
+	 * @param _command command name
+	 * @param _action action to execute
+	 */
+	static void command(final String _command,final Runnable _action){
+		
+		if(!COMMAND.isEnabled()){
+			_action.run();
+			return;
+		}
+		final ShellCommandEvent event=new ShellCommandEvent();
+		boolean failed=true;
+		event.begin();
+		try{
+			_action.run();
+			failed=false;
+		}finally{
+			event.end();
+			if(event.shouldCommit()){
+				event.command=_command;
+				event.failed=failed;
+				event.commit();
+			}
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual threads helper. JDK 21 implementation packaged at META-INF/versions/21 of the multi-release JAR
+ * @author afarre
+ * @since 2.1.0
+ */
+public final class VirtualThreads {
+
+	private VirtualThreads(){}
+
+	/**
+	 * Check if the running JVM supports virtual threads
+	 * @return always true for this implementation
+	 */
+	public static boolean isSupported(){
+		return true;
+	}
+
+	/**
+	 * Create a new unstarted thread
+	 * @param _virtual true to create a virtual thread, false to create a platform thread
+	 * @param _name thread name
+	 * @param _task task to execute
+	 * @return new unstarted thread
+	 */
+	public static Thread newThread(final boolean _virtual,final String _name,final Runnable _task){
+		return (_virtual)? Thread.ofVirtual().name(_name).unstarted(_task) : Thread.ofPlatform().name(_name).unstarted(_task);
+	}
+
+	/**
+	 * Create an executor that starts a new thread per task or reuses idle ones
+	 * @param _virtual true to start a new virtual thread per task, false to use a cached pool of daemon platform threads
+	 * @param _prefix thread name prefix
+	 * @return new executor
+	 */
+	public static ExecutorService newThreadPerTaskExecutor(final boolean _virtual,final String _prefix){
+		return (_virtual)? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(_prefix, 0).factory()) 
+							: Executors.newCachedThreadPool(Thread.ofPlatform().name(_prefix, 0).daemon(true).factory());
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class ArgumentIndexTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> ArgumentIndexTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("Find should return the trimmed value after the first separator of the argument with the given prefix")
+	public void find() {
+		final ArgumentIndex instance=new ArgumentIndex("-server:other.com","-url:http://host:80"," -spaced: value ","flag");
+		Assertions.assertAll(() -> Assertions.assertEquals(Optional.of("other.com"), instance.find("-server"))
+							,() -> Assertions.assertEquals(Optional.of("http://host:80"), instance.find("-url"))
+							,() -> Assertions.assertEquals(Optional.of("value"), instance.find(" -spaced"))
+							,() -> Assertions.assertEquals(Optional.empty(), instance.find("flag"))
+							,() -> Assertions.assertEquals(Optional.empty(), instance.find("-missing"))
+							,() -> Assertions.assertEquals(3, instance.size()));
+	}
+
+	@Test
+	@DisplayName("Prefixes should be matched exactly so a shorter prefix never shadows a longer one")
+	public void exactPrefix() {
+		final ArgumentIndex instance=new ArgumentIndex("-a:1","-ab:2");
+		final ArgumentIndex reversed=new ArgumentIndex("-ab:2","-a:1");
+		Assertions.assertAll(() -> Assertions.assertEquals(Optional.of("1"), instance.find("-a"))
+							,() -> Assertions.assertEquals(Optional.of("2"), instance.find("-ab"))
+							,() -> Assertions.assertEquals(Optional.of("1"), reversed.find("-a"))
+							,() -> Assertions.assertEquals(Optional.of("2"), reversed.find("-ab"))
+							,() -> Assertions.assertTrue(instance.contains("-a"))
+							,() -> Assertions.assertFalse(instance.contains("-abc")));
+	}
+
+	@Test
+	@DisplayName("Find with several prefixes should return the first argument in arguments order and repeated arguments should keep the first occurrence")
+	public void firstOccurrence() {
+		final ArgumentIndex instance=new ArgumentIndex("-name:second","-n:first","-name:third");
+		Assertions.assertAll(() -> Assertions.assertEquals(Optional.of("second"), instance.find("-n","-name"))
+							,() -> Assertions.assertEquals(Optional.of("second"), instance.find("-name"))
+							,() -> Assertions.assertEquals(Optional.of("first"), instance.find("-n")));
+	}
+
+	@Test
+	@DisplayName("Null arguments should be indexed as an empty argument list")
+	public void nullArguments() {
+		final ArgumentIndex instance=new ArgumentIndex((String[])null);
+		final ArgumentIndex withNulls=new ArgumentIndex(null,"-a:1");
+		Assertions.assertAll(() -> Assertions.assertEquals(0, instance.getArguments().length)
+							,() -> Assertions.assertEquals(Optional.empty(), instance.find("-a"))
+							,() -> Assertions.assertEquals(Optional.of("1"), withNulls.find("-a")));
+	}
+}
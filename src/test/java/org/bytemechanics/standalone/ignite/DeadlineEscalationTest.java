@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class DeadlineEscalationTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> DeadlineEscalationTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("None escalation should do nothing")
+	public void none() {
+		final Thread thread=new Thread(() -> {});
+		DeadlineEscalation.none().escalate("my-phase", thread);
+		Assertions.assertFalse(thread.isInterrupted());
+	}
+
+	@Test
+	@DisplayName("Interrupt escalation should interrupt the lifecycle thread")
+	public void interrupt() {
+		try{
+			DeadlineEscalation.interrupt().escalate("my-phase", Thread.currentThread());
+			Assertions.assertTrue(Thread.currentThread().isInterrupted());
+		}finally{
+			Thread.interrupted();
+		}
+	}
+
+	@Test
+	@DisplayName("Halt escalation should be provided")
+	public void halt() {
+		Assertions.assertNotNull(DeadlineEscalation.halt(1));
+	}
+}
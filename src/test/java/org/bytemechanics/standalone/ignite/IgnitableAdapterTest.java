@@ -18,12 +18,19 @@ package org.bytemechanics.standalone.ignite;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 import mockit.Expectations;
 import mockit.Mocked;
+import org.bytemechanics.standalone.ignite.beans.ExecutorConfig;
+import org.bytemechanics.standalone.ignite.beans.TaskSchedule;
 import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.standalone.ignite.metrics.MetricsRegistry;
+import org.bytemechanics.standalone.ignite.mocks.MockedIgnitableAdapter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -91,6 +98,145 @@ public class IgnitableAdapterTest {
 		Assertions.assertEquals(false, actual.isPresent());
 	}
 
+	@Test
+	@DisplayName("Recover lifecycle report when standalone is informed should return the standalone lifecycle report")
+	public void getLifecycleReportSetted(final @Mocked Standalone _standalone){
+
+		final LifecycleReport report=new LifecycleReport();
+		IgnitableAdapter mock=new IgnitableAdapter() {};
+		mock.standalone=_standalone;
+		
+		new Expectations() {{
+			_standalone.getLifecycleReport(); times=1; result=report;
+		}};
+		
+		Optional<LifecycleReport> actual=mock.getLifecycleReport();
+		
+		Assertions.assertEquals(true, actual.isPresent());
+		Assertions.assertSame(report, actual.get());
+	}
+	@Test
+	@DisplayName("Recover lifecycle report when standalone is not informed should return an empty optional")
+	public void getLifecycleReportNotSetted(){
+
+		IgnitableAdapter mock=new IgnitableAdapter() {};
+		
+		Optional<LifecycleReport> actual=mock.getLifecycleReport();
+		
+		Assertions.assertEquals(false, actual.isPresent());
+	}
+
+	@Test
+	@DisplayName("Recover executor when standalone is not informed should return an empty optional")
+	public void getExecutorNotSetted(){
+
+		IgnitableAdapter mock=new IgnitableAdapter() {};
+		
+		Assertions.assertEquals(false, mock.getExecutor().isPresent());
+	}
+
+	@Test
+	@DisplayName("Recover metrics when standalone is informed should return the standalone metrics registry")
+	public void getMetricsSetted(){
+
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new).build();
+		IgnitableAdapter mock=new IgnitableAdapter() {};
+		mock.standalone=standalone;
+		
+		Optional<MetricsRegistry> actual=mock.getMetrics();
+		
+		Assertions.assertEquals(true, actual.isPresent());
+		Assertions.assertSame(standalone.getMetrics(), actual.get());
+	}
+	@Test
+	@DisplayName("Recover metrics when standalone is not informed should return an empty optional")
+	public void getMetricsNotSetted(){
+
+		IgnitableAdapter mock=new IgnitableAdapter() {};
+		
+		Assertions.assertEquals(false, mock.getMetrics().isPresent());
+	}
+
+	@Test
+	@DisplayName("Executor when standalone is informed should return the standalone managed pool with the given name")
+	public void executorSetted(){
+
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new).build();
+		IgnitableAdapter mock=new IgnitableAdapter() {};
+		mock.standalone=standalone;
+		
+		Optional<ExecutorService> actual=mock.executor("io", ExecutorConfig.bounded(10));
+		
+		Assertions.assertEquals(true, actual.isPresent());
+		Assertions.assertSame(standalone.executor("io", ExecutorConfig.bounded(20)), actual.get());
+		actual.get().shutdownNow();
+	}
+	@Test
+	@DisplayName("Executor when standalone is not informed should return an empty optional")
+	public void executorNotSetted(){
+
+		IgnitableAdapter mock=new IgnitableAdapter() {};
+		
+		Assertions.assertEquals(false, mock.executor("io", ExecutorConfig.bounded(10)).isPresent());
+	}
+	@Test
+	@DisplayName("Enter and exit when standalone is informed should track the in-flight work at the standalone")
+	public void enterExitSetted(){
+
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new).build();
+		IgnitableAdapter mock=new IgnitableAdapter() {};
+		mock.standalone=standalone;
+		
+		Assertions.assertEquals(true, mock.enter());
+		Assertions.assertEquals(1, standalone.getInFlight());
+		mock.exit();
+		Assertions.assertEquals(0, standalone.getInFlight());
+	}
+	@Test
+	@DisplayName("Enter when standalone is not informed should accept the work")
+	public void enterExitNotSetted(){
+
+		IgnitableAdapter mock=new IgnitableAdapter() {};
+		
+		Assertions.assertEquals(true, mock.enter());
+		mock.exit();
+	}
+	@Test
+	@DisplayName("Schedule when standalone is informed should schedule the task at the standalone scheduler")
+	public void scheduleSetted(){
+
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new).build();
+		IgnitableAdapter mock=new IgnitableAdapter() {};
+		mock.standalone=standalone;
+		
+		Optional<ScheduledTask> actual=mock.schedule("task", TaskSchedule.atFixedRate(Duration.ofHours(1)).initialDelay(Duration.ofHours(1)), () -> {});
+		
+		Assertions.assertEquals(true, actual.isPresent());
+		Assertions.assertEquals(Collections.singletonList(actual.get()), standalone.getScheduledTasks());
+		actual.get().cancel();
+		Assertions.assertTrue(standalone.getScheduledTasks().isEmpty());
+	}
+	@Test
+	@DisplayName("Schedule when standalone is not informed should return an empty optional")
+	public void scheduleNotSetted(){
+
+		IgnitableAdapter mock=new IgnitableAdapter() {};
+		
+		Assertions.assertEquals(false, mock.schedule("task", TaskSchedule.atFixedRate(Duration.ofHours(1)), () -> {}).isPresent());
+	}
+
+	@Test
+	@DisplayName("Replica index should be 0 by default and return the assigned one")
+	public void getReplica(){
+
+		IgnitableAdapter mock=new IgnitableAdapter() {};
+		Assertions.assertEquals(0, mock.getReplica());
+		
+		mock.setReplica(3);
+		
+		Assertions.assertEquals(3, mock.getReplica());
+	}
+
 	@Test
 	@DisplayName("Recover console when is informed should return the console filled")
 	public void getConsoleSetted(final @Mocked Standalone _standalone,final @Mocked OutConsole _console){
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.beans.LifecyclePhase;
+import org.bytemechanics.standalone.ignite.beans.WarmupReport;
+import org.bytemechanics.standalone.ignite.exceptions.LifecycleReportNotExportable;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.standalone.ignite.internal.commons.string.SimpleFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class LifecycleReportTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> LifecycleReportTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("Measure should return the action result and record the phase")
+	public void measure() {
+
+		final LifecycleReport report=new LifecycleReport();
+		
+		final String actual=report.measure("my-phase", () -> "my-result");
+		
+		Assertions.assertEquals("my-result", actual);
+		Assertions.assertEquals(1, report.getPhases().size());
+		final LifecyclePhase phase=report.getPhases().get(0);
+		Assertions.assertEquals("my-phase", phase.getName());
+		Assertions.assertTrue(phase.getStartNanos()>=report.getOrigin());
+		Assertions.assertTrue(phase.getDurationNanos()>=0);
+		Assertions.assertTrue(phase.getLoadedClasses()>=0);
+		Assertions.assertEquals(Thread.currentThread().getId(), phase.getThreadId());
+		Assertions.assertEquals(Thread.currentThread().getName(), phase.getThreadName());
+	}
+
+	@Test
+	@DisplayName("Measure should record the phase even if the action fails")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void measureFailure() {
+
+		final LifecycleReport report=new LifecycleReport();
+		
+		Assertions.assertThrows(IllegalStateException.class
+									, () -> report.measure("my-failed-phase", () -> {throw new IllegalStateException("ouch");}));
+		Assertions.assertTrue(report.getPhase("my-failed-phase").isPresent());
+	}
+
+	@Test
+	@DisplayName("Get phase should return the latest record of the phase")
+	public void getPhase() {
+
+		final LifecycleReport report=new LifecycleReport();
+		report.measure("phase-1", () -> 1);
+		report.measure("phase-2", () -> 2);
+		report.measure("phase-1", () -> 3);
+		
+		final List<LifecyclePhase> phases=report.getPhases();
+		
+		Assertions.assertEquals(3, phases.size());
+		Assertions.assertSame(phases.get(2), report.getPhase("phase-1").get());
+		Assertions.assertSame(phases.get(1), report.getPhase("phase-2").get());
+		Assertions.assertFalse(report.getPhase("phase-3").isPresent());
+	}
+
+	@Test
+	@DisplayName("Print should write every phase to the verbose console")
+	@SuppressWarnings("unchecked")
+	public void print() {
+
+		final Queue console=new LinkedList();
+		final LifecycleReport report=new LifecycleReport();
+		report.measure("phase-1", () -> 1);
+		report.measure("phase-2", () -> 2);
+		
+		report.print(new OutConsole(message -> console.add(message),(message,args) -> SimpleFormat.format(message,args),true));
+		
+		Assertions.assertEquals(2, console.size());
+		Assertions.assertTrue(((String)console.poll()).startsWith("\tPhase phase-1: "));
+		Assertions.assertTrue(((String)console.poll()).startsWith("\tPhase phase-2: "));
+	}
+
+	@Test
+	@DisplayName("Print should not write anything if verbose is disabled")
+	@SuppressWarnings("unchecked")
+	public void printNotVerbose() {
+
+		final Queue console=new LinkedList();
+		final LifecycleReport report=new LifecycleReport();
+		report.measure("phase-1", () -> 1);
+		
+		report.print(new OutConsole(message -> console.add(message),(message,args) -> SimpleFormat.format(message,args),false));
+		
+		Assertions.assertTrue(console.isEmpty());
+	}
+
+	@Test
+	@DisplayName("Warmup should iterate until the iteration returns false")
+	public void warmupUntilFalse() {
+
+		final LifecycleReport report=new LifecycleReport();
+		final AtomicInteger calls=new AtomicInteger(0);
+		
+		final WarmupReport actual=report.warmup(() -> calls.incrementAndGet()<3, 100, Duration.ofMinutes(1));
+		
+		Assertions.assertEquals(3, actual.getIterations());
+		Assertions.assertEquals(3, calls.get());
+		Assertions.assertSame(actual, report.getWarmup().get());
+	}
+
+	@Test
+	@DisplayName("Warmup should stop once the iterations are exhausted")
+	public void warmupIterations() {
+
+		final LifecycleReport report=new LifecycleReport();
+		
+		final WarmupReport actual=report.warmup(() -> true, 10, Duration.ofMinutes(1));
+		
+		Assertions.assertEquals(10, actual.getIterations());
+		Assertions.assertTrue(actual.getCompilationMillis()>=-1);
+	}
+
+	@Test
+	@DisplayName("Warmup should stop once the time budget is exhausted")
+	public void warmupBudget() {
+
+		final LifecycleReport report=new LifecycleReport();
+		
+		final WarmupReport actual=report.warmup(() -> {
+														LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+														return true;
+													}, Integer.MAX_VALUE, Duration.ofMillis(20));
+		
+		Assertions.assertTrue(actual.getIterations()>0);
+		Assertions.assertTrue(actual.getIterations()<Integer.MAX_VALUE);
+		Assertions.assertTrue(actual.getDurationMillis()>=20);
+	}
+
+	@Test
+	@DisplayName("Warmup without time budget should stop only once the iterations are exhausted")
+	public void warmupIterationsOnly() {
+
+		final LifecycleReport report=new LifecycleReport();
+		
+		final WarmupReport actual=report.warmup(() -> true, 10_000, null);
+		
+		Assertions.assertEquals(10_000, actual.getIterations());
+	}
+
+	@Test
+	@DisplayName("Warmup without iteration limit should stop only once the time budget is exhausted")
+	public void warmupBudgetOnly() {
+
+		final LifecycleReport report=new LifecycleReport();
+		
+		final WarmupReport actual=report.warmup(() -> {
+														LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+														return true;
+													}, 0, Duration.ofMillis(20));
+		
+		Assertions.assertTrue(actual.getIterations()>0);
+		Assertions.assertTrue(actual.getDurationMillis()>=20);
+	}
+
+	@Test
+	@DisplayName("Warmup should fail without iteration limit and without time budget")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void warmupUnbounded() {
+
+		final LifecycleReport report=new LifecycleReport();
+		
+		Assertions.assertThrows(IllegalArgumentException.class, () -> report.warmup(() -> true, 0, null));
+		Assertions.assertFalse(report.getWarmup().isPresent());
+	}
+
+	@Test
+	@DisplayName("Warmup should be recorded even if the iteration fails")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void warmupFailure() {
+
+		final LifecycleReport report=new LifecycleReport();
+		
+		Assertions.assertThrows(IllegalStateException.class, () -> report.warmup(() -> { throw new IllegalStateException("my-failure"); }, 10, Duration.ofMinutes(1)));
+		Assertions.assertEquals(1, report.getWarmup().get().getIterations());
+	}
+
+	@Test
+	@DisplayName("Print should write the warmup measure after the phases if verbose is enabled")
+	@SuppressWarnings("unchecked")
+	public void printWarmup() {
+
+		final Queue console=new LinkedList();
+		final LifecycleReport report=new LifecycleReport();
+		report.measure("phase-1", () -> 1);
+		report.warmup(() -> false, 10, Duration.ofMinutes(1));
+		
+		report.print(new OutConsole(message -> console.add(message),(message,args) -> SimpleFormat.format(message,args),true));
+		
+		Assertions.assertEquals(2, console.size());
+		Assertions.assertTrue(((String)console.poll()).startsWith("\tPhase phase-1: "));
+		Assertions.assertTrue(((String)console.poll()).startsWith("\tWarmup: 1 iterations in "));
+	}
+
+	@Test
+	@DisplayName("Trace events should render one complete event per phase")
+	public void toTraceEvents() {
+
+		final LifecycleReport report=new LifecycleReport();
+		report.measure("phase-1", () -> 1);
+		report.measure("phase-\"2\"", () -> 2);
+		
+		final String actual=report.toTraceEvents();
+		
+		Assertions.assertTrue(actual.startsWith("{\"traceEvents\":["));
+		Assertions.assertTrue(actual.endsWith("],\"displayTimeUnit\":\"ms\"}"));
+		Assertions.assertTrue(actual.contains("\"name\":\"phase-1\",\"cat\":\"lifecycle\",\"ph\":\"X\""));
+		Assertions.assertTrue(actual.contains("\"name\":\"phase-\\\"2\\\"\""));
+	}
+
+	@Test
+	@DisplayName("Export trace events should write the trace events into the given file")
+	public void exportTraceEvents() throws IOException {
+
+		final LifecycleReport report=new LifecycleReport();
+		report.measure("phase-1", () -> 1);
+		final Path file=Files.createTempFile("lifecycle", ".json");
+		try{
+			report.exportTraceEvents(file);
+			Assertions.assertEquals(report.toTraceEvents(), new String(Files.readAllBytes(file),StandardCharsets.UTF_8));
+		}finally{
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	@DisplayName("Export trace events to a not writable file should raise LifecycleReportNotExportable")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void exportTraceEventsFailure() {
+
+		final LifecycleReport report=new LifecycleReport();
+		
+		Assertions.assertThrows(LifecycleReportNotExportable.class
+									, () -> report.exportTraceEvents(Paths.get("./not-existent-folder/lifecycle.json")));
+	}
+}
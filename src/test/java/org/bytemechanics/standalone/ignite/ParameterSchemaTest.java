@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.bytemechanics.standalone.ignite.beans.DefaultParameterContainer;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.standalone.ignite.mocks.StandaloneAppTestParameter;
+import org.bytemechanics.standalone.ignite.mocks.StandaloneAppTestParameter2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class ParameterSchemaTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> ParameterSchemaTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("Schema is compiled once per enumeration and cached")
+	public void cached() {
+		Assertions.assertSame(ParameterSchema.of(StandaloneAppTestParameter.class),ParameterSchema.of(StandaloneAppTestParameter.class));
+		Assertions.assertNotSame(ParameterSchema.of(StandaloneAppTestParameter.class),ParameterSchema.of(StandaloneAppTestParameter2.class));
+		Assertions.assertEquals(StandaloneAppTestParameter.class,ParameterSchema.of(StandaloneAppTestParameter.class).getType());
+	}
+
+	@Test
+	@DisplayName("Schema parameters are the enumeration constants and can not be modified")
+	public void parameters() {
+		final ParameterSchema schema=ParameterSchema.of(StandaloneAppTestParameter2.class);
+		Assertions.assertEquals(Arrays.asList(StandaloneAppTestParameter2.values()),schema.getParameters());
+		Assertions.assertFalse(schema.isEmpty());
+		Assertions.assertThrows(UnsupportedOperationException.class,() -> schema.getParameters().clear());
+	}
+
+	@Test
+	@DisplayName("Schema help is the help of each parameter")
+	public void help() {
+		Assertions.assertEquals(Stream.of(StandaloneAppTestParameter2.values())
+											.map(Parameter::getHelp)
+											.collect(Collectors.joining("\n\t"))
+								,ParameterSchema.of(StandaloneAppTestParameter2.class).getHelp());
+	}
+
+	@Test
+	@DisplayName("Enumeration parameters resolve prefixes, parser and validation from the schema")
+	public void compiledParameter() {
+		for(StandaloneAppTestParameter2 param:StandaloneAppTestParameter2.values()){
+			Assertions.assertArrayEquals(param.getPrefixes(),ParameterSchema.prefixes(param));
+			Assertions.assertSame(ParameterSchema.prefixes(param),ParameterSchema.prefixes(param));
+			Assertions.assertSame(ParameterSchema.parser(param),ParameterSchema.parser(param));
+			Assertions.assertSame(ParameterSchema.validation(param),ParameterSchema.validation(param));
+		}
+	}
+
+	@Test
+	@DisplayName("Non enumeration parameters fall back to the parameter methods")
+	public void nonEnumParameter() {
+		final DefaultParameterContainer param=DefaultParameterContainer.builder()
+																		.name("custom")
+																		.type(String.class)
+																		.description("custom parameter")
+																		.prefixes(new String[]{"-custom"})
+																		.validation(value -> null)
+																	.build();
+		Assertions.assertArrayEquals(new String[]{"-custom"},ParameterSchema.prefixes(param));
+		Assertions.assertSame(param.getParser(),ParameterSchema.parser(param));
+		Assertions.assertSame(param.getValidation(),ParameterSchema.validation(param));
+	}
+
+	@Test
+	@DisplayName("Non enumeration parameters values are read from the parameter")
+	public void nonEnumValue() {
+		final DefaultParameterContainer param=DefaultParameterContainer.builder()
+																		.name("custom")
+																		.type(String.class)
+																		.description("custom parameter")
+																	.build();
+		Assertions.assertFalse(ParameterSchema.value(param).isPresent());
+		param.setValue("value");
+		Assertions.assertEquals(Optional.of("value"),ParameterSchema.value(param));
+		Assertions.assertEquals(Optional.of("value"),param.getValue(String.class));
+	}
+
+	@Test
+	@DisplayName("Schema values contain every parameter in declaration order and can not be modified")
+	public void values() {
+		final ParameterSchema schema=ParameterSchema.of(StandaloneAppTestParameter2.class);
+		Assertions.assertEquals(Arrays.asList(StandaloneAppTestParameter2.values()),new ArrayList<>(schema.getValues().keySet()));
+		Assertions.assertThrows(UnsupportedOperationException.class,() -> schema.getValues().clear());
+	}
+
+	@Test
+	@DisplayName("Schema of a null type should fail")
+	public void nullType() {
+		Assertions.assertThrows(NullPointerException.class,() -> ParameterSchema.of(null));
+	}
+}
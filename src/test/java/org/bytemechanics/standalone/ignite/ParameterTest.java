@@ -21,11 +21,15 @@ import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 import org.bytemechanics.standalone.ignite.exceptions.InvalidParameter;
 import org.bytemechanics.standalone.ignite.exceptions.NullOrEmptyMandatoryParameter;
 import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.standalone.ignite.mocks.ReloadableTestParameter;
 import org.bytemechanics.standalone.ignite.mocks.StandaloneAppTestRegression;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -194,4 +198,28 @@ public class ParameterTest {
 		//then: 
 		Assertions.assertEquals(help, actual);
 	}
+
+	@Test
+	@DisplayName("Parse values should parse into a fresh value set without modifying the current values")
+	public void parseValues() {
+
+		final Map<Parameter,Object> actual=Parameter.parseValues(ReloadableTestParameter.class,"-batchsize:20");
+		
+		Assertions.assertEquals(Arrays.asList(ReloadableTestParameter.BATCHSIZE,ReloadableTestParameter.POOLSIZE), new ArrayList<>(actual.keySet()));
+		Assertions.assertEquals(20, actual.get(ReloadableTestParameter.BATCHSIZE));
+		Assertions.assertEquals(4, actual.get(ReloadableTestParameter.POOLSIZE));
+		Assertions.assertEquals(Integer.valueOf(10), ReloadableTestParameter.BATCHSIZE.get(Integer.class));
+	}
+
+	@Test
+	@DisplayName("Validate values should validate the given values without assigning them")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void validateValues() {
+
+		final Map<Parameter,Object> values=Parameter.parseValues(ReloadableTestParameter.class,"-batchsize:0");
+		
+		Assertions.assertThrows(InvalidParameter.class, () -> Parameter.validateValues(values));
+		Parameter.validateValues(Parameter.parseValues(ReloadableTestParameter.class,"-batchsize:1"));
+		Assertions.assertEquals(Integer.valueOf(10), ReloadableTestParameter.BATCHSIZE.get(Integer.class));
+	}
 }
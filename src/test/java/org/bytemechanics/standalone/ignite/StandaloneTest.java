@@ -18,38 +18,76 @@ package org.bytemechanics.standalone.ignite;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Method;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import javax.management.ObjectName;
 import mockit.Delegate;
 import mockit.Expectations;
 import mockit.Mocked;
+import org.bytemechanics.standalone.ignite.beans.ExecutorConfig;
+import org.bytemechanics.standalone.ignite.beans.LifecyclePhase;
+import org.bytemechanics.standalone.ignite.beans.SupervisionPolicy;
+import org.bytemechanics.standalone.ignite.beans.ResourceLimits;
+import org.bytemechanics.standalone.ignite.beans.TaskSchedule;
 import org.bytemechanics.standalone.ignite.exceptions.InvalidParameter;
 import org.bytemechanics.standalone.ignite.exceptions.MandatoryIgnitableSupplier;
 import org.bytemechanics.standalone.ignite.exceptions.MandatoryParameterNotProvided;
 import org.bytemechanics.standalone.ignite.exceptions.ParameterException;
+import org.bytemechanics.standalone.ignite.exceptions.UnparseableParameter;
+import org.bytemechanics.standalone.ignite.internal.VirtualThreads;
 import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
 import org.bytemechanics.standalone.ignite.internal.commons.string.Figlet;
 import org.bytemechanics.standalone.ignite.internal.commons.string.SimpleFormat;
+import org.bytemechanics.standalone.ignite.exceptions.CyclicComponentDependency;
+import org.bytemechanics.standalone.ignite.exceptions.UnknownComponentDependency;
 import org.bytemechanics.standalone.ignite.mocks.MockedIgnitableAdapter;
+import org.bytemechanics.standalone.ignite.mocks.RecordingIgnitable;
+import org.bytemechanics.standalone.ignite.mocks.ReloadableTestParameter;
 import org.bytemechanics.standalone.ignite.mocks.StandaloneAppTestParameter;
 import org.bytemechanics.standalone.ignite.mocks.StandaloneAppTestParameter2;
 import org.bytemechanics.standalone.ignite.mocks.StandaloneAppTestParameter3;
 import org.bytemechanics.standalone.ignite.mocks.StandaloneAppTestRegression;
+import org.bytemechanics.standalone.ignite.shell.ShellAdapter;
+import org.bytemechanics.standalone.ignite.shell.ShellConsole;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -67,6 +105,9 @@ import org.junit.jupiter.params.provider.ValueSource;
  */
 public class StandaloneTest {
 
+	private static final String[] ARGUMENTS=new String[]{"-booleanvalue:true","-intvalue:2234","-longvalue:3243321312","-floatvalue:3123.32","-doublevalue:3123.32","-stringvalue:TEST","-enumvalue:ENUMVALUE"
+														,"-additionalbooleanvalue:false","-additionalintvalue:2234","-additionallongvalue:3243321312","-additionalfloatvalue:3123.32","-additionaldoublevalue:3123.32","-additionalstringvalue:TEST","-additionalenumvalue:ADDITIONALENUMVALUE"};
+
 	@BeforeAll
 	public static void setup() throws IOException {
 		System.out.println(">>>>> StandaloneTest >>>> setup");
@@ -82,6 +123,11 @@ public class StandaloneTest {
 	void beforeEachTest(final TestInfo testInfo) {
 		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
 	}
+	@BeforeEach
+	void shutdownLiveStandalones() {
+		// The static helpers resolve the primary standalone from the live ones, so any standalone left alive by a previous test must be shutdown
+		Standalone.getStandalones().forEach(Standalone::shutdown);
+	}
 
 	@Test
 	@DisplayName("When supplier is not provided a NullPointerException is raised")
@@ -111,6 +157,43 @@ public class StandaloneTest {
 						.shutdown();
 	}	
 
+	@Test
+	@DisplayName("Ignite and shutdown must record every lifecycle phase into the lifecycle report")
+	public void lifecycleReport(final @Mocked Ignitable _ignitable) {
+
+		final Standalone standalone=Standalone.builder(() -> _ignitable)
+												.build()
+													.ignite()
+													.shutdown();
+		
+		Assertions.assertEquals(Arrays.asList("instantiate","addShutdownHook","registerStandalone","registerManagement","parseParameters","validateParameters","printBanner","beforeStartup","afterStartup","startup","ignition","beforeShutdown","shutdown","afterShutdown","closeAutoCloseables","termination")
+								, standalone.getLifecycleReport()
+												.getPhases()
+													.stream()
+														.map(LifecyclePhase::getName)
+														.collect(Collectors.toList()));
+	}	
+
+	@Test
+	@DisplayName("Ignite and shutdown must print the lifecycle report into the verbose console")
+	@SuppressWarnings("unchecked")
+	public void lifecycleReportVerbose(final @Mocked Ignitable _ignitable) {
+
+		final Queue console=new LinkedList();
+		
+		Standalone.builder(() -> _ignitable)
+						.console(message -> console.add(message))
+						.verbose(true)
+					.build()
+						.ignite()
+						.shutdown();
+		
+		Assertions.assertTrue(console.contains("Ignition lifecycle report:"));
+		Assertions.assertTrue(console.contains("Shutdown lifecycle report:"));
+		Assertions.assertTrue(console.stream().anyMatch(line -> ((String)line).startsWith("\tPhase instantiate: ")));
+		Assertions.assertTrue(console.stream().anyMatch(line -> ((String)line).startsWith("\tPhase closeAutoCloseables: ")));
+	}	
+
 	@Test
 	@DisplayName("On Autocloseable Ignitables must call close after shutdown")
 	public <AutoCloseableIgnitable extends AutoCloseable & Ignitable> void igniteStartupAutoCloseable(final @Mocked AutoCloseableIgnitable _ignitable) throws Exception {
@@ -537,8 +620,12 @@ public class StandaloneTest {
 			expectedLines.add(figlet.print(_name));
 			expectedLines.add(figlet.line(_name,(char)'-'));
 			expectedLines.add(SimpleFormat.format("\tJVM: {}",System.getProperty("java.version")));
-			expectedLines.add(SimpleFormat.format("\tCores: {}",Runtime.getRuntime().availableProcessors()));
+			expectedLines.add(SimpleFormat.format("\tCores: {}",Standalone.resources().getCpus()));
 			expectedLines.add("\tMemory \\(bytes\\): \\d*/\\d*");
+			expectedLines.add("\tMemory limit \\(bytes\\): (\\d+|unlimited)");
+			expectedLines.add("\tDirect memory limit \\(bytes\\): \\d+");
+			expectedLines.add("\tGarbage collectors: .*");
+			expectedLines.add("\tCgroup: (v1|v2|none)");
 			expectedLines.add(SimpleFormat.format("\tBase path: {}",new File(".").getCanonicalPath()));
 			expectedLines.add("\tVersion: unknown/unknown");
 			expectedLines.add(figlet.line(_name,(char)'='));
@@ -650,11 +737,1289 @@ public class StandaloneTest {
 		Assertions.assertEquals(Parameter.getHelp(Stream.of(StandaloneAppTestParameter.class,StandaloneAppTestParameter2.class).collect(Collectors.toList())),console.poll());
 	}
 
+	@Test
+	@DisplayName("Ignite async must complete the future with the standalone after afterStartup")
+	public void igniteAsync(final @Mocked Ignitable _ignitable) throws InterruptedException, ExecutionException {
+
+		final ExecutorService executor=Executors.newSingleThreadExecutor();
+		
+		new Expectations() {{
+			_ignitable.beforeStartup(); times=1;
+			_ignitable.startup(); times=1;
+			_ignitable.afterStartup(); times=1;
+		}};
+		
+		try{
+			final Standalone standalone=Standalone.builder(() -> _ignitable)
+													.build();
+			final CompletableFuture<Standalone> future=standalone.igniteAsync(executor);
+			
+			Assertions.assertSame(standalone, future.get());
+			Assertions.assertTrue(standalone.getLifecycleReport().getPhase("afterStartup").isPresent());
+		}finally{
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Ignite async must complete exceptionally when startupException rethrows the failure")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void igniteAsyncStartupException(final @Mocked Ignitable _ignitable) throws InterruptedException {
+
+		final ExecutorService executor=Executors.newSingleThreadExecutor();
+		final RuntimeException expectedException=new RuntimeException("ouch");
+		
+		new Expectations() {{
+			_ignitable.startup(); times=1; result=expectedException;
+			_ignitable.startupException(expectedException); 
+				result=new Delegate<Exception>() {
+							public void delegate(Exception _exception) throws Exception {
+								throw _exception;
+							}
+						};
+				times=1;
+		}};
+		
+		try{
+			final CompletableFuture<Standalone> future=Standalone.builder(() -> _ignitable)
+																	.build()
+																		.igniteAsync(executor);
+			
+			final ExecutionException actual=Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+			Assertions.assertSame(expectedException, actual.getCause());
+		}finally{
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Ignite async must complete exceptionally and print help if no mandatory parameter provided")
+	@SuppressWarnings({"ThrowableResultIgnored","unchecked"})
+	public <T extends ParameterException> void igniteAsyncNoMandatoryParameter(final @Mocked Ignitable _ignitable) throws InterruptedException {
+
+		final ExecutorService executor=Executors.newSingleThreadExecutor();
+		final Queue console=new LinkedList();
+		
+		new Expectations() {{
+			_ignitable.parameterProcessingException((T)any); 
+				result=new Delegate<T>() {
+							public void delegate(T _exception) throws Exception {
+								throw _exception;
+							}
+						};
+				times=1;
+		}};
+		
+		try{
+			final CompletableFuture<Standalone> future=Standalone.builder(() -> _ignitable)
+																	.parameters(StandaloneAppTestParameter.class)
+																	.console(message -> console.add(message))
+																.build()
+																	.igniteAsync(executor);
+			
+			final ExecutionException actual=Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+			Assertions.assertEquals(MandatoryParameterNotProvided.class, actual.getCause().getClass());
+			Assertions.assertEquals(new MandatoryParameterNotProvided(StandaloneAppTestParameter.BOOLEANVALUE).getMessage(),console.poll());
+			Assertions.assertEquals(Parameter.getHelp(StandaloneAppTestParameter.class),console.poll());
+		}finally{
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Components must be started by dependency waves before the ignitable and shutdown in reverse waves after it")
+	public void components() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final List<String> eventList=new ArrayList<>();
+		
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events))
+													.component("http",() -> new RecordingIgnitable("http",events),"cache","db")
+													.component("cache",() -> new RecordingIgnitable("cache",events))
+													.component("db",() -> new RecordingIgnitable("db",events))
+												.build()
+													.ignite();
+		eventList.addAll(events);
+		
+		Assertions.assertTrue(standalone.getComponent("cache").isPresent());
+		Assertions.assertFalse(standalone.getComponent("unknown").isPresent());
+		Assertions.assertSame(standalone, ((RecordingIgnitable)standalone.getComponent("http").get()).getStandalone().get());
+		Assertions.assertTrue(eventList.indexOf("cache:afterStartup")<eventList.indexOf("http:beforeStartup"));
+		Assertions.assertTrue(eventList.indexOf("db:afterStartup")<eventList.indexOf("http:beforeStartup"));
+		Assertions.assertTrue(eventList.indexOf("http:afterStartup")<eventList.indexOf("main:beforeStartup"));
+		Assertions.assertTrue(standalone.getLifecycleReport().getPhase("startup[http]").isPresent());
+		
+		events.clear();
+		eventList.clear();
+		standalone.shutdown();
+		eventList.addAll(events);
+
+		Assertions.assertTrue(eventList.indexOf("main:close")<eventList.indexOf("http:beforeShutdown"));
+		Assertions.assertTrue(eventList.indexOf("http:close")<eventList.indexOf("cache:beforeShutdown"));
+		Assertions.assertTrue(eventList.indexOf("http:close")<eventList.indexOf("db:beforeShutdown"));
+		Assertions.assertTrue(eventList.contains("cache:close"));
+		Assertions.assertTrue(eventList.contains("db:close"));
+	}
+
+	@Test
+	@DisplayName("Component startup failure must call the component startupException, close it and stop the following waves")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void componentStartupException() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final IllegalStateException failure=new IllegalStateException("ouch");
+		
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events))
+													.component("cache",() -> new RecordingIgnitable("cache",events,failure))
+													.component("http",() -> new RecordingIgnitable("http",events),"cache")
+												.build();
+		
+		Assertions.assertThrows(RuntimeException.class, () -> standalone.ignite());
+		Assertions.assertTrue(events.contains("cache:startupException"));
+		Assertions.assertTrue(events.contains("cache:close"));
+		Assertions.assertFalse(events.contains("http:beforeStartup"));
+		Assertions.assertFalse(events.contains("main:beforeStartup"));
+		Assertions.assertTrue(events.contains("main:startupException"));
+	}
+
+	@Test
+	@DisplayName("Component with dependency to an unknown component must raise UnknownComponentDependency on build")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void componentUnknownDependency() {
+		Assertions.assertThrows(UnknownComponentDependency.class
+									, () -> Standalone.builder(MockedIgnitableAdapter::new)
+															.component("http",MockedIgnitableAdapter::new,"cache")
+														.build());
+	}
+
+	@Test
+	@DisplayName("Component registered twice with the same name must raise IllegalArgumentException keeping the first definition")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void componentDuplicatedName() {
+		
+		final Standalone.StandaloneBuilder builder=Standalone.builder(MockedIgnitableAdapter::new)
+																.component("cache",MockedIgnitableAdapter::new);
+		final Supplier<Ignitable> first=builder.components.get("cache").getSupplier();
+		
+		Assertions.assertThrows(IllegalArgumentException.class
+									, () -> builder.component("cache",MockedIgnitableAdapter::new,"http"));
+		Assertions.assertEquals(1, builder.components.size());
+		Assertions.assertSame(first, builder.components.get("cache").getSupplier());
+	}
+
+	@Test
+	@DisplayName("Components with cyclic dependencies must raise CyclicComponentDependency on build")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void componentCyclicDependency() {
+		Assertions.assertThrows(CyclicComponentDependency.class
+									, () -> Standalone.builder(MockedIgnitableAdapter::new)
+															.component("http",MockedIgnitableAdapter::new,"cache")
+															.component("cache",MockedIgnitableAdapter::new,"http")
+														.build());
+	}
+
+	@Test
+	@DisplayName("Phase exceeding its deadline must print a thread dump and escalate")
+	@SuppressWarnings("unchecked")
+	public void deadlineOverrun() throws InterruptedException {
+
+		final Queue console=new ConcurrentLinkedQueue();
+		final CountDownLatch released=new CountDownLatch(1);
+		final List<String> escalated=new ArrayList<>();
+		
+		Standalone.builder(() -> new MockedIgnitableAdapter(){
+										@Override
+										public void startup() {
+											try {
+												released.await();
+											} catch (InterruptedException ex) {
+												// Interrupted by the escalation, nothing to do
+											}
+										}
+									})
+						.console(message -> console.add(message))
+						.deadline("startup", Duration.ofMillis(50))
+						.escalation((phase,thread) -> {
+											escalated.add(phase);
+											DeadlineEscalation.interrupt().escalate(phase, thread);
+										})
+					.build()
+						.ignite();
+		
+		Assertions.assertEquals(Arrays.asList("startup"), escalated);
+		Assertions.assertTrue(console.stream().anyMatch(line -> ((String)line).startsWith("Lifecycle phase startup exceeded its deadline of 50ms")));
+		Assertions.assertTrue(console.stream().anyMatch(line -> ((String)line).contains("\"standalone-watchdog\"")));
+	}
+
+	@Test
+	@DisplayName("Phase finishing before its deadline must not escalate")
+	public void deadlineNotReached() {
+
+		final List<String> escalated=new ArrayList<>();
+		
+		Standalone.builder(MockedIgnitableAdapter::new)
+						.deadline("startup", Duration.ofSeconds(30))
+						.deadline("termination", Duration.ofSeconds(30))
+						.escalation((phase,thread) -> escalated.add(phase))
+					.build()
+						.ignite()
+						.shutdown();
+		
+		Assertions.assertTrue(escalated.isEmpty());
+	}
+
+	@Test
+	@DisplayName("Lifecycle state must move from NEW to RUNNING after ignite and to STOPPED after shutdown")
+	public void lifecycleState() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events))
+												.build();
+		Assertions.assertEquals(LifecycleState.NEW, standalone.getState());
+		standalone.ignite();
+		Assertions.assertEquals(LifecycleState.RUNNING, standalone.getState());
+		standalone.ignite();
+		Assertions.assertEquals(1, events.stream().filter("main:startup"::equals).count());
+		standalone.shutdown();
+		Assertions.assertEquals(LifecycleState.STOPPED, standalone.getState());
+		standalone.ignite();
+		Assertions.assertEquals(LifecycleState.STOPPED, standalone.getState());
+		Assertions.assertEquals(1, events.stream().filter("main:startup"::equals).count());
+	}
+
+	@Test
+	@DisplayName("Shutdown must be executed only once even if called several times")
+	public void shutdownOnce() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final AtomicInteger closed=new AtomicInteger(0);
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events))
+													.console(new OutConsole(message -> {},(message,args) -> SimpleFormat.format(message,args),false){
+														@Override
+														public void close() {
+															closed.incrementAndGet();
+														}
+													})
+												.build()
+													.ignite();
+		standalone.shutdown();
+		standalone.shutdown();
+		
+		Assertions.assertEquals(1, events.stream().filter("main:shutdown"::equals).count());
+		Assertions.assertEquals(1, events.stream().filter("main:close"::equals).count());
+		Assertions.assertEquals(1, closed.get());
+		Assertions.assertEquals(1, standalone.getLifecycleReport().getPhases().stream().filter(phase -> "termination".equals(phase.getName())).count());
+	}
+
+	@Test
+	@DisplayName("Concurrent shutdown callers must wait for the in-flight shutdown instead of repeating it")
+	public void shutdownConcurrent() throws InterruptedException, ExecutionException, TimeoutException {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final CountDownLatch inShutdown=new CountDownLatch(1);
+		final CountDownLatch release=new CountDownLatch(1);
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events){
+															@Override
+															public void shutdown() {
+																super.shutdown();
+																inShutdown.countDown();
+																try {
+																	release.await(30, TimeUnit.SECONDS);
+																} catch (InterruptedException ex) {
+																	Thread.currentThread().interrupt();
+																}
+															}
+														})
+												.build()
+													.ignite();
+		final ExecutorService executor=Executors.newFixedThreadPool(2);
+		try{
+			final CompletableFuture<Standalone> first=CompletableFuture.supplyAsync(standalone::shutdown,executor);
+			Assertions.assertTrue(inShutdown.await(30, TimeUnit.SECONDS));
+			Assertions.assertEquals(LifecycleState.STOPPING, standalone.getState());
+			final CompletableFuture<Standalone> second=CompletableFuture.supplyAsync(standalone::shutdown,executor);
+			Thread.sleep(50);
+			Assertions.assertFalse(second.isDone());
+			release.countDown();
+			second.get(30, TimeUnit.SECONDS);
+			Assertions.assertEquals(LifecycleState.STOPPED, standalone.getState());
+			Assertions.assertSame(standalone, first.get(30, TimeUnit.SECONDS));
+			Assertions.assertEquals(1, events.stream().filter("main:shutdown"::equals).count());
+		}finally{
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Daemon mode must keep a non daemon thread alive until shutdown finishes")
+	public void daemon() throws InterruptedException {
+
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new)
+												.daemon(true)
+											.build()
+												.ignite();
+		final Thread keeper=Thread.getAllStackTraces().keySet().stream()
+																.filter(thread -> "standalone-keepalive".equals(thread.getName()))
+																.findAny()
+																.orElseThrow(() -> new AssertionError("Keep alive thread not found"));
+		Assertions.assertFalse(keeper.isDaemon());
+		Assertions.assertFalse(standalone.awaitTermination(Duration.ofMillis(10)));
+		
+		standalone.shutdown();
+		
+		Assertions.assertTrue(standalone.awaitTermination(Duration.ofMillis(10)));
+		keeper.join(TimeUnit.SECONDS.toMillis(30));
+		Assertions.assertFalse(keeper.isAlive());
+	}
+
+	@Test
+	@DisplayName("Non daemon mode must not start any keep alive thread and awaitTermination must be released by shutdown from another thread")
+	public void awaitTermination() throws InterruptedException {
+
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new)
+											.build()
+												.ignite();
+		Assertions.assertFalse(Thread.getAllStackTraces().keySet().stream()
+																.anyMatch(thread -> "standalone-keepalive".equals(thread.getName())));
+		new Thread(standalone::shutdown).start();
+		
+		Assertions.assertTrue(standalone.awaitTermination(Duration.ofSeconds(30)));
+		Assertions.assertEquals(LifecycleState.STOPPED, standalone.getState());
+	}
+
+	@Test
+	@DisplayName("Supervised ignitable failing at startup must be closed and replaced by a new instance running again all startup hooks")
+	public void supervisionRestart() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final AtomicInteger supplied=new AtomicInteger(0);
+		
+		final Standalone standalone=Standalone.builder(() -> {
+															final int instance=supplied.incrementAndGet();
+															return new RecordingIgnitable("main"+instance,events,(instance<3)? new IllegalStateException("failure"+instance) : null);
+														})
+													.supervision(new SupervisionPolicy(3, Duration.ofMillis(1), Duration.ofMillis(10), 0.0d, Duration.ofMinutes(1)))
+												.build()
+													.ignite();
+		
+		Assertions.assertEquals(3, supplied.get());
+		Assertions.assertEquals(LifecycleState.RUNNING, standalone.getState());
+		Assertions.assertEquals(Arrays.asList("main1:beforeStartup","main1:startup","main1:close"
+											,"main2:beforeStartup","main2:startup","main2:close"
+											,"main3:beforeStartup","main3:startup","main3:afterStartup")
+								, new ArrayList<>(events));
+		Assertions.assertSame(standalone, ((RecordingIgnitable)standalone.getInstance()).getStandalone().get());
+		Assertions.assertEquals(2, standalone.getLifecycleReport().getPhases().stream().filter(phase -> "restart".equals(phase.getName())).count());
+		standalone.shutdown();
+	}
+
+	@Test
+	@DisplayName("Supervised ignitable exhausting its restarts must call startupException of the latest instance")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void supervisionExhausted() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final AtomicInteger supplied=new AtomicInteger(0);
+		
+		Assertions.assertThrows(RuntimeException.class, () -> Standalone.builder(() -> new RecordingIgnitable("main"+supplied.incrementAndGet(),events,new IllegalStateException("failure")))
+																				.supervision(new SupervisionPolicy(1, Duration.ofMillis(1), Duration.ofMillis(10), 0.0d, Duration.ofMinutes(1)))
+																			.build()
+																				.ignite());
+		
+		Assertions.assertEquals(2, supplied.get());
+		Assertions.assertEquals(Arrays.asList("main1:beforeStartup","main1:startup","main1:close"
+											,"main2:beforeStartup","main2:startup","main2:startupException","main2:close")
+								, new ArrayList<>(events));
+	}
+
+	@Test
+	@DisplayName("Warmup must be executed after startup and before afterStartup when enabled")
+	public void warmup() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events){
+															private int iterations=0;
+															@Override
+															public boolean warmup() {
+																events.add("main:warmup");
+																return ++iterations<5;
+															}
+														})
+													.warmup(3, Duration.ofMinutes(1))
+												.build()
+													.ignite();
+		
+		Assertions.assertEquals(Arrays.asList("main:beforeStartup","main:startup","main:warmup","main:warmup","main:warmup","main:afterStartup"), new ArrayList<>(events));
+		Assertions.assertEquals(3, standalone.getLifecycleReport().getWarmup().get().getIterations());
+		Assertions.assertTrue(standalone.getLifecycleReport().getPhase("warmup").isPresent());
+		standalone.shutdown();
+	}
+
+	@Test
+	@DisplayName("Warmup with only an iteration limit must run all the iterations")
+	public void warmupIterationsOnly() {
+
+		final AtomicInteger iterations=new AtomicInteger(0);
+		final Standalone standalone=Standalone.builder(() -> new MockedIgnitableAdapter(){
+															@Override
+															public boolean warmup() {
+																iterations.incrementAndGet();
+																return true;
+															}
+														})
+													.warmup(10_000, null)
+												.build()
+													.ignite();
+		
+		Assertions.assertEquals(10_000, iterations.get());
+		Assertions.assertEquals(10_000, standalone.getLifecycleReport().getWarmup().get().getIterations());
+		standalone.shutdown();
+	}
+
+	@Test
+	@DisplayName("Warmup with only a time budget must run until the budget elapses")
+	public void warmupBudgetOnly() {
+
+		final Standalone standalone=Standalone.builder(() -> new MockedIgnitableAdapter(){
+															@Override
+															public boolean warmup() {
+																LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+																return true;
+															}
+														})
+													.warmup(0, Duration.ofMillis(20))
+												.build()
+													.ignite();
+		
+		Assertions.assertTrue(standalone.getLifecycleReport().getWarmup().get().getIterations()>0);
+		Assertions.assertTrue(standalone.getLifecycleReport().getWarmup().get().getDurationMillis()>=20);
+		standalone.shutdown();
+	}
+
+	@Test
+	@DisplayName("Warmup builder should reject a call without iteration limit and time budget or with a non positive budget")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void warmupBuilder() {
+		Assertions.assertAll(() -> Assertions.assertThrows(IllegalArgumentException.class, () -> Standalone.builder(MockedIgnitableAdapter::new).warmup(0, null))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> Standalone.builder(MockedIgnitableAdapter::new).warmup(-1, null))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> Standalone.builder(MockedIgnitableAdapter::new).warmup(10, Duration.ZERO))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> Standalone.builder(MockedIgnitableAdapter::new).warmup(10, Duration.ofMillis(-1)))
+							,() -> Assertions.assertNull(Standalone.builder(MockedIgnitableAdapter::new).warmup(10, null).warmupBudget)
+							,() -> Assertions.assertEquals(0, Standalone.builder(MockedIgnitableAdapter::new).warmup(-1, Duration.ofSeconds(1)).warmupIterations));
+	}
+
+	@Test
+	@DisplayName("Warmup must not be executed if not enabled")
+	public void warmupDisabled() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events){
+															@Override
+															public boolean warmup() {
+																events.add("main:warmup");
+																return true;
+															}
+														})
+												.build()
+													.ignite();
+		
+		Assertions.assertFalse(events.contains("main:warmup"));
+		Assertions.assertFalse(standalone.getLifecycleReport().getWarmup().isPresent());
+		standalone.shutdown();
+	}
+
+	@Test
+	@DisplayName("Replicas must be supplied once per replica, started each one at its own thread and shutdown all of them")
+	public void replicas() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final Map<Integer,String> threads=new ConcurrentHashMap<>();
+		
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events){
+															@Override
+															public void startup() {
+																super.startup();
+																threads.put(getReplica(), Thread.currentThread().getName());
+															}
+														})
+													.name("replicated")
+													.showBanner(false)
+													.replicas(4)
+												.build()
+													.ignite();
+		
+		Assertions.assertEquals(4, standalone.getReplicas().size());
+		Assertions.assertEquals(Arrays.asList(0,1,2,3), standalone.getReplicas().stream()
+																	.map(replica -> ((IgnitableAdapter)replica).getReplica())
+																	.collect(Collectors.toList()));
+		Assertions.assertEquals(4, events.stream().filter("main:afterStartup"::equals).count());
+		Assertions.assertEquals(4, new HashSet<>(threads.values()).size());
+		Assertions.assertEquals("replicated-replica-2", threads.get(2));
+		Assertions.assertTrue(standalone.getLifecycleReport().getPhase("afterStartup[3]").isPresent());
+		Assertions.assertEquals(LifecycleState.RUNNING, standalone.getState());
+		
+		standalone.shutdown();
+		
+		Assertions.assertEquals(4, events.stream().filter("main:shutdown"::equals).count());
+		Assertions.assertEquals(4, events.stream().filter("main:close"::equals).count());
+	}
+
+	@Test
+	@DisplayName("Replicas must be positive")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void replicasNotPositive() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Standalone.builder(MockedIgnitableAdapter::new).replicas(0));
+	}
+
+	@Test
+	@DisplayName("Replicas without count must configure one replica per effective core")
+	public void replicasPerCore() {
+		Assertions.assertEquals(Standalone.resources().getCpus(), Standalone.builder(MockedIgnitableAdapter::new).replicas().replicas);
+	}
+
+	@Test
+	@DisplayName("Resources must report the effective cpus bounded by the JVM available processors and the garbage collectors in use")
+	public void resources() {
+		final ResourceLimits resources=Standalone.resources();
+		Assertions.assertAll(() -> Assertions.assertSame(resources, Standalone.resources())
+							,() -> Assertions.assertTrue(resources.getCpus()>=1)
+							,() -> Assertions.assertTrue(resources.getCpus()<=Runtime.getRuntime().availableProcessors())
+							,() -> Assertions.assertTrue(resources.getDirectMemoryLimit()>0)
+							,() -> Assertions.assertEquals(ManagementFactory.getGarbageCollectorMXBeans().size(), resources.getGarbageCollectors().size()));
+	}
+
+	@Test
+	@DisplayName("Virtual threads mode must start every replica at its own thread and shutdown the tasks executor")
+	public void virtualThreads() throws InterruptedException, ExecutionException, TimeoutException {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final Map<Integer,String> threads=new ConcurrentHashMap<>();
+		
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events){
+															@Override
+															public void startup() {
+																super.startup();
+																threads.put(getReplica(), Thread.currentThread().getName());
+															}
+														})
+													.name("virtual")
+													.showBanner(false)
+													.virtualThreads(true)
+												.build()
+													.ignite();
+		
+		Assertions.assertEquals(VirtualThreads.isSupported(), standalone.isVirtualThreads());
+		Assertions.assertEquals((standalone.isVirtualThreads())? "virtual-replica-0" : Thread.currentThread().getName(), threads.get(0));
+		Assertions.assertEquals("done", ((RecordingIgnitable)standalone.getInstance()).getExecutor().get().submit(() -> "done").get(30, TimeUnit.SECONDS));
+		
+		standalone.shutdown();
+		
+		Assertions.assertTrue(standalone.getExecutor().isShutdown());
+	}
+
+	private static int status(final Standalone _standalone,final String _path){
+		try{
+			final InetSocketAddress address=_standalone.getHealthEndpointAddress().get();
+			final HttpURLConnection connection=(HttpURLConnection)new URL("http://"+address.getHostString()+":"+address.getPort()+_path).openConnection();
+			try{
+				return connection.getResponseCode();
+			}finally{
+				connection.disconnect();
+			}
+		}catch(IOException e){
+			return -1;
+		}
+	}
+
+	@Test
+	@DisplayName("Health endpoint readiness must flip after afterStartup and drop before beforeShutdown while health stays up")
+	public void healthEndpoint() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events){
+															@Override
+															public void startup() {
+																super.startup();
+																events.add("health:"+status(getStandalone().get(),"/health"));
+																events.add("ready:"+status(getStandalone().get(),"/ready"));
+															}
+															@Override
+															public void beforeShutdown() {
+																super.beforeShutdown();
+																events.add("health:"+status(getStandalone().get(),"/health"));
+																events.add("ready:"+status(getStandalone().get(),"/ready"));
+															}
+														})
+													.healthEndpoint(0)
+												.build()
+													.ignite();
+		
+		Assertions.assertTrue(standalone.getHealthEndpointAddress().get().getAddress().isLoopbackAddress());
+		Assertions.assertEquals(200, status(standalone,"/ready"));
+		standalone.shutdown();
+		
+		Assertions.assertEquals(Arrays.asList("main:beforeStartup","main:startup","health:200","ready:503","main:afterStartup"
+											,"main:beforeShutdown","health:200","ready:503","main:shutdown","main:afterShutdown","main:close")
+								, new ArrayList<>(events));
+		Assertions.assertEquals(-1, status(standalone,"/health"));
+	}
+
+	@Test
+	@DisplayName("Shutdown must print the metrics summary into the info console once all ignitables are shutdown")
+	public void metricsSummary() {
+
+		final Queue<String> console=new ConcurrentLinkedQueue<>();
+		final Standalone standalone=Standalone.builder(() -> new MockedIgnitableAdapter(){
+															@Override
+															public void afterShutdown() {
+																getMetrics().get().counter("requests").increment();
+															}
+														})
+													.console(message -> console.add(message))
+												.build()
+													.ignite();
+		standalone.getMetrics().counter("requests").add(2);
+		standalone.getMetrics().histogram("latency").record(2_000);
+		standalone.shutdown();
+		
+		Assertions.assertTrue(console.contains("Metrics summary:"));
+		Assertions.assertTrue(console.contains("\tCounter requests: 3"));
+		Assertions.assertTrue(console.contains("\tHistogram latency: count=1 mean=2.0us p50=2us p99=2us p999=2us max=2us"));
+	}
+
+	@Test
+	@DisplayName("Shutdown must not print the metrics summary if no metric has been registered")
+	public void metricsSummaryEmpty() {
+
+		final Queue<String> console=new ConcurrentLinkedQueue<>();
+		Standalone.builder(MockedIgnitableAdapter::new)
+						.console(console::add)
+					.build()
+						.ignite()
+						.shutdown();
+		
+		Assertions.assertFalse(console.contains("Metrics summary:"));
+	}
+
+	@Test
+	@DisplayName("Ignite must register the standalone MXBean and shutdown must unregister it")
+	public void managementBean() throws Exception {
+
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new)
+													.name("managed")
+												.build();
+		Assertions.assertFalse(standalone.getManagementName().isPresent());
+		standalone.ignite();
+		
+		final ObjectName objectName=standalone.getManagementName().get();
+		Assertions.assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+		Assertions.assertEquals("RUNNING", ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "State"));
+		standalone.shutdown();
+		Assertions.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+	}
+
+	@Test
+	@DisplayName("Standalone MXBean extinguish operation must call the standalone extinguish with the given exit code")
+	public void managementBeanExtinguish(final @Mocked Ignitable _ignitable) throws Exception {
+
+		final CompletableFuture<Integer> exitCode=new CompletableFuture<>();
+		final Standalone standalone=new Standalone(() -> _ignitable, null, null,true, null, null, null,null,null, false){
+			@Override
+			public void extinguish(int _exitCode) {
+				exitCode.complete(_exitCode);
+			}
+		}.registerManagement();
+		try{
+			ManagementFactory.getPlatformMBeanServer().invoke(standalone.getManagementName().get(), "extinguish", new Object[]{3}, new String[]{int.class.getName()});
+			Assertions.assertEquals(Integer.valueOf(3), exitCode.get(5, TimeUnit.SECONDS));
+		}finally{
+			standalone.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("Ignited standalones must be reachable by id and name until shutdown")
+	public void registry() {
+
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new)
+													.name("registry-service")
+												.build();
+		
+		Assertions.assertTrue(standalone.getId().startsWith("registry-service-"));
+		Assertions.assertFalse(Standalone.lookup(standalone.getId()).isPresent());
+		Assertions.assertFalse(Standalone.getStandalones().contains(standalone));
+		standalone.ignite();
+		Assertions.assertSame(standalone, Standalone.lookup(standalone.getId()).get());
+		Assertions.assertSame(standalone, Standalone.lookup("registry-service").get());
+		Assertions.assertTrue(Standalone.getStandalones().contains(standalone));
+		standalone.shutdown();
+		Assertions.assertFalse(Standalone.lookup(standalone.getId()).isPresent());
+		Assertions.assertFalse(Standalone.getStandalones().contains(standalone));
+	}
+
+	@Test
+	@DisplayName("Standalones whose ignition fails must not remain registered")
+	public void registryFailedIgnition() {
+
+		final Standalone failed=Standalone.builder(() -> new MockedIgnitableAdapter(){
+																@Override
+																public void startup() {
+																	throw new IllegalStateException("startup failure");
+																}
+															})
+												.name("registry-failure")
+											.build();
+		final Standalone missing=Standalone.builder(MockedIgnitableAdapter::new)
+												.name("registry-missing")
+												.parameters(StandaloneAppTestParameter2.class)
+											.build();
+		
+		Assertions.assertThrows(RuntimeException.class, failed::ignite);
+		missing.ignite();
+		Assertions.assertFalse(Standalone.getStandalones().contains(failed));
+		Assertions.assertFalse(Standalone.getStandalones().contains(missing));
+		failed.shutdown();
+		missing.shutdown();
+	}
+
+	@Test
+	@DisplayName("Standalone ids must be unique even with the same name")
+	public void registryUniqueId() {
+
+		final Standalone standalone1=Standalone.builder(MockedIgnitableAdapter::new).build();
+		final Standalone standalone2=Standalone.builder(MockedIgnitableAdapter::new).build();
+		
+		Assertions.assertNotEquals(standalone1.getId(), standalone2.getId());
+		Assertions.assertTrue(standalone1.getId().startsWith("standalone-"));
+	}
+
+	@Test
+	@DisplayName("Standalones ignited later must not replace the primary standalone until it is stopped and never ignited standalones must be ignored")
+	@SuppressWarnings("unchecked")
+	public void primaryStandalone() {
+
+		final Standalone idle=Standalone.builder(MockedIgnitableAdapter::new)
+												.description("idle")
+												.parameters(StandaloneAppTestParameter2.class)
+											.build();
+		final Standalone primary=Standalone.builder(MockedIgnitableAdapter::new)
+												.description("primary")
+												.parameters(StandaloneAppTestParameter3.class)
+												.arguments(new String[]{"-stringvalue:primary","-stringvalue2:primary"})
+											.build()
+												.ignite();
+		final Standalone command=Standalone.builder(MockedIgnitableAdapter::new)
+												.name("command")
+												.description("command")
+												.parameters(StandaloneAppTestParameter2.class)
+												.arguments(new String[]{"-additionalbooleanvalue:false","-additionalintvalue:2234","-additionallongvalue:3243321312","-additionalfloatvalue:3123.32","-additionaldoublevalue:3123.32","-additionalstringvalue:TEST","-additionalenumvalue:ADDITIONALENUMVALUE"})
+											.build()
+												.ignite();
+		
+		Assertions.assertEquals(Arrays.asList(StandaloneAppTestParameter3.class), Standalone.getParametersClasses());
+		Assertions.assertEquals("primary\n"+Parameter.getHelp(Arrays.asList(StandaloneAppTestParameter3.class)), Standalone.getHelp());
+		Assertions.assertEquals(Arrays.asList(StandaloneAppTestParameter2.class), Standalone.getParametersClasses("command"));
+		Assertions.assertEquals("command\n"+Parameter.getHelp(Arrays.asList(StandaloneAppTestParameter2.class)), Standalone.getHelp(command.getId()));
+		Assertions.assertEquals(Collections.emptyList(), Standalone.getParametersClasses("unknown"));
+		Assertions.assertEquals("", Standalone.getHelp("unknown"));
+		primary.shutdown();
+		Assertions.assertEquals("command\n"+Parameter.getHelp(Arrays.asList(StandaloneAppTestParameter2.class)), Standalone.getHelp());
+		command.shutdown();
+		Assertions.assertFalse(Standalone.getStandalones().contains(idle));
+		Assertions.assertNotEquals("idle\n"+Parameter.getHelp(Arrays.asList(StandaloneAppTestParameter2.class)), Standalone.getHelp());
+	}
+
+	@Test
+	@DisplayName("Standalones ignited during another standalone ignition must record it as igniter")
+	public void igniter() {
+
+		final AtomicReference<Standalone> command=new AtomicReference<>();
+		final Standalone shell=Standalone.builder(() -> new MockedIgnitableAdapter(){
+															@Override
+															public void startup() {
+																command.set(Standalone.builder(MockedIgnitableAdapter::new)
+																							.build()
+																								.ignite());
+															}
+														})
+											.build()
+												.ignite();
+		final Standalone independent=Standalone.builder(MockedIgnitableAdapter::new)
+													.build()
+														.ignite();
+		
+		Assertions.assertEquals(Optional.of(shell.getId()), command.get().getIgniter().map(Standalone::getId));
+		Assertions.assertFalse(shell.getIgniter().isPresent());
+		Assertions.assertFalse(independent.getIgniter().isPresent());
+		command.get().shutdown();
+		shell.shutdown();
+		independent.shutdown();
+	}
+
+	/** Shell executing its only command the given times */
+	private static class CommandShell extends ShellAdapter{
+		
+		private final Standalone.StandaloneBuilder command;
+		
+		CommandShell(final Standalone.StandaloneBuilder _command){
+			this.command=_command;
+		}
+		@Override
+		protected Map<Class<? extends Ignitable>, Standalone.StandaloneBuilder> getIgnitableShellCommands() {
+			return Collections.singletonMap(MockedIgnitableAdapter.class, this.command);
+		}
+		void execute(final ShellConsole _console,final int _times){
+			final BiConsumer<String[],ShellConsole> action=getAvailableCommands().get("mockedignitableadapter");
+			IntStream.range(0, _times)
+						.forEach(time -> action.accept(new String[0], _console));
+		}
+	}
+	
+	@Test
+	@DisplayName("Shell commands must release their shutdown hook registration once executed without closing the shell console")
+	public void shellCommandsShutdownRegistration() {
+
+		final AtomicInteger executions=new AtomicInteger();
+		final AtomicBoolean closed=new AtomicBoolean(false);
+		final ShellConsole console=new ShellConsole(){
+			@Override
+			public void write(final String _message,final Object... _args){
+			}
+			@Override
+			public void close(){
+				closed.set(true);
+			}
+		};
+		final CommandShell shell=new CommandShell(Standalone.builder(() -> new MockedIgnitableAdapter(){
+																					@Override
+																					public void startup() {
+																						executions.incrementAndGet();
+																					}
+																				}));
+		final int registrations=Standalone.SHUTDOWN.size();
+		
+		shell.execute(console, 20);
+		Assertions.assertEquals(20, executions.get());
+		Assertions.assertEquals(registrations, Standalone.SHUTDOWN.size());
+		Assertions.assertFalse(closed.get());
+	}
+
+	@Test
+	@DisplayName("Shell commands must not remain registered once executed")
+	public void shellCommandsRegistry() {
+
+		final ShellConsole console=new ShellConsole(){
+			@Override
+			public void write(final String _message,final Object... _args){
+			}
+		};
+		final CommandShell shell=new CommandShell(Standalone.builder(MockedIgnitableAdapter::new)
+																.name("registry-command"));
+		final int standalones=Standalone.getStandalones().size();
+		
+		shell.execute(console, 20);
+		Assertions.assertEquals(standalones, Standalone.getStandalones().size());
+		Assertions.assertFalse(Standalone.lookup("registry-command").isPresent());
+	}
+
+	@Test
+	@DisplayName("Shell commands and failed ignitions must not leave any management bean registered")
+	public void shellCommandsManagementBean() throws Exception {
+
+		final ObjectName pattern=new ObjectName("org.bytemechanics.standalone.ignite:type=Standalone,*");
+		final ShellConsole console=new ShellConsole(){
+			@Override
+			public void write(final String _message,final Object... _args){
+			}
+		};
+		final CommandShell shell=new CommandShell(Standalone.builder(MockedIgnitableAdapter::new)
+																.name("managed-command"));
+		final Standalone failed=Standalone.builder(() -> new MockedIgnitableAdapter(){
+																@Override
+																public void startup() {
+																	throw new IllegalStateException("startup failure");
+																}
+															})
+												.name("managed-failure")
+											.build();
+		final int beans=ManagementFactory.getPlatformMBeanServer().queryNames(pattern, null).size();
+		
+		shell.execute(console, 20);
+		Assertions.assertThrows(RuntimeException.class, failed::ignite);
+		Assertions.assertEquals(beans, ManagementFactory.getPlatformMBeanServer().queryNames(pattern, null).size());
+		failed.shutdown();
+	}
+
+	@Test
+	@DisplayName("Memory pressure should be monitored only if enabled and delivered to every instance")
+	public void memoryPressure() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final Standalone disabled=Standalone.builder(MockedIgnitableAdapter::new)
+												.build()
+													.ignite();
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events))
+													.component("cache",() -> new RecordingIgnitable("cache",events))
+													.memoryPressure(99,100)
+													.build()
+														.ignite();
+		try{
+			Assertions.assertFalse(disabled.getLifecycleReport().getPhase("memoryPressure").isPresent());
+			Assertions.assertEquals(MemoryPressure.NORMAL, disabled.getMemoryPressure());
+			Assertions.assertTrue(standalone.getLifecycleReport().getPhase("memoryPressure").isPresent());
+			events.clear();
+			standalone.memoryPressure(MemoryPressure.CRITICAL);
+			Assertions.assertEquals(new HashSet<>(Arrays.asList("main:onMemoryPressure:CRITICAL","cache:onMemoryPressure:CRITICAL")), new HashSet<>(events));
+		}finally{
+			disabled.shutdown();
+			standalone.shutdown();
+		}
+		Assertions.assertEquals(MemoryPressure.NORMAL, standalone.getMemoryPressure());
+	}
+
+	@Test
+	@DisplayName("Memory pressure builder should validate the thresholds")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void memoryPressureBuilder() {
+		Assertions.assertAll(() -> Assertions.assertThrows(IllegalArgumentException.class, () -> Standalone.builder(MockedIgnitableAdapter::new).memoryPressure(90,80))
+							,() -> Assertions.assertNotNull(Standalone.builder(MockedIgnitableAdapter::new).memoryPressure(1,1)));
+	}
+
+	@Test
+	@DisplayName("Scheduled tasks should be drained before the ignitable shutdown starts")
+	public void scheduledTasksDrain() throws InterruptedException {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final CountDownLatch executed=new CountDownLatch(2);
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events))
+													.build()
+														.ignite();
+		final ScheduledTask task=standalone.schedule("tick", TaskSchedule.atFixedRate(Duration.ofMillis(5)), () -> {
+																												events.add("tick");
+																												executed.countDown();
+																											});
+		Assertions.assertTrue(executed.await(5, TimeUnit.SECONDS));
+		Assertions.assertEquals(Collections.singletonList(task), standalone.getScheduledTasks());
+		standalone.shutdown();
+		
+		final List<String> recorded=new ArrayList<>(events);
+		Assertions.assertTrue(task.isCancelled());
+		Assertions.assertTrue(standalone.getScheduledTasks().isEmpty());
+		Assertions.assertTrue(recorded.lastIndexOf("tick")<recorded.indexOf("main:beforeShutdown"));
+		Assertions.assertTrue(standalone.getLifecycleReport().getPhase("drainScheduler").isPresent());
+		Assertions.assertTrue(standalone.getMetrics().getHistograms().containsKey("scheduler.tick.runtime"));
+	}
+
+	@Test
+	@DisplayName("Managed executors should stop intake after beforeShutdown and be drained before shutdown")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void executorsDrain() throws InterruptedException {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final CountDownLatch started=new CountDownLatch(1);
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events))
+													.build()
+														.ignite();
+		final ExecutorService io=standalone.executor("io", ExecutorConfig.bounded(10).threads(1));
+		Assertions.assertSame(io, standalone.executor("io", ExecutorConfig.bounded(20)));
+		io.execute(() -> {
+						started.countDown();
+						try{
+							Thread.sleep(100);
+						}catch(InterruptedException e){
+							Thread.currentThread().interrupt();
+						}
+						events.add("io:running");
+					});
+		io.execute(() -> events.add("io:queued"));
+		Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+		standalone.shutdown();
+		
+		Assertions.assertEquals(Arrays.asList("main:beforeShutdown","io:running","io:queued","main:shutdown","main:afterShutdown")
+								, events.stream()
+											.filter(event -> event.startsWith("io:")||event.contains("Shutdown")||event.endsWith(":shutdown"))
+											.collect(Collectors.toList()));
+		Assertions.assertTrue(io.isTerminated());
+		Assertions.assertTrue(standalone.getLifecycleReport().getPhase("stopExecutors").isPresent());
+		Assertions.assertTrue(standalone.getLifecycleReport().getPhase("drainExecutors").isPresent());
+		Assertions.assertTrue(standalone.getMetrics().getHistograms().containsKey("executor.io.latency"));
+		Assertions.assertThrows(RejectedExecutionException.class, () -> standalone.executor("late", ExecutorConfig.bounded(10)));
+	}
+
+	@Test
+	@DisplayName("Parallel bootstrap should parse the parameters and render the banner while instantiating and join them before startup")
+	public void parallelBootstrap() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final Queue<String> console=new ConcurrentLinkedQueue<>();
+		final Standalone standalone=Standalone.builder(() -> {
+																try{
+																	Thread.sleep(50);
+																}catch(InterruptedException e){
+																	Thread.currentThread().interrupt();
+																}
+																return new RecordingIgnitable("main",events);
+															})
+													.name("parallel")
+													.parallelBootstrap(true)
+													.parameters(ReloadableTestParameter.class)
+													.arguments(new String[]{"-batchsize:20"})
+													.console(message -> console.add(message))
+													.build()
+														.ignite();
+		try{
+			final LifecycleReport report=standalone.getLifecycleReport();
+			Assertions.assertAll(() -> Assertions.assertEquals(LifecycleState.RUNNING, standalone.getState())
+								,() -> Assertions.assertEquals(Integer.valueOf(20), ReloadableTestParameter.BATCHSIZE.get(Integer.class))
+								,() -> Assertions.assertTrue(events.contains("main:startup"))
+								,() -> Assertions.assertTrue(console.contains(SimpleFormat.format("\tCores: {}",Standalone.resources().getCpus())))
+								,() -> Assertions.assertTrue(report.getPhase("bootstrap").isPresent())
+								,() -> Assertions.assertTrue(report.getPhase("renderBanner").isPresent())
+								,() -> Assertions.assertTrue(report.getPhase("printBanner").isPresent())
+								,() -> Assertions.assertTrue(report.getPhase("validateParameters").isPresent())
+								,() -> Assertions.assertNotEquals(report.getPhase("instantiate").get().getThreadId(), report.getPhase("parseParameters").get().getThreadId()));
+		}finally{
+			standalone.shutdown();
+			ReloadableTestParameter.BATCHSIZE.setValue(10);
+		}
+	}
+
+	@Test
+	@DisplayName("Parallel bootstrap should deliver the parameter processing exceptions to the ignitable once instantiated")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void parallelBootstrapInvalidParameter() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events))
+													.parallelBootstrap(true)
+													.parameters(ReloadableTestParameter.class)
+													.arguments(new String[]{"-batchsize:-1"})
+													.build();
+		try{
+			Assertions.assertThrows(RuntimeException.class, () -> standalone.ignite());
+			Assertions.assertEquals(Arrays.asList("main:parameterProcessingException:InvalidParameter"), new ArrayList<>(events));
+		}finally{
+			standalone.shutdown();
+			ReloadableTestParameter.BATCHSIZE.setValue(10);
+		}
+	}
+
+	@Test
+	@DisplayName("Shutdown should wait for the in-flight work after beforeShutdown and reject new work before shutdown")
+	public void inFlightDrain() throws InterruptedException {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final CountDownLatch entered=new CountDownLatch(1);
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events))
+													.build()
+														.ignite();
+		final Thread worker=new Thread(() -> {
+											Assertions.assertTrue(standalone.enter());
+											entered.countDown();
+											try{
+												Thread.sleep(100);
+											}catch(InterruptedException e){
+												Thread.currentThread().interrupt();
+											}finally{
+												events.add("work:done");
+												standalone.exit();
+											}
+										});
+		worker.start();
+		Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+		Assertions.assertEquals(1, standalone.getInFlight());
+		standalone.shutdown();
+		worker.join();
+		
+		Assertions.assertEquals(Arrays.asList("main:beforeShutdown","work:done","main:shutdown","main:afterShutdown")
+								, events.stream()
+											.filter(event -> event.startsWith("work:")||event.contains("Shutdown")||event.endsWith(":shutdown"))
+											.collect(Collectors.toList()));
+		Assertions.assertAll(() -> Assertions.assertTrue(standalone.isDraining())
+							,() -> Assertions.assertFalse(standalone.enter())
+							,() -> Assertions.assertEquals(0, standalone.getInFlight())
+							,() -> Assertions.assertTrue(standalone.getLifecycleReport().getPhase("drainInFlight").isPresent()));
+	}
+
+	@Test
+	@DisplayName("Shutdown should reject new work even if no work has ever been tracked")
+	public void inFlightDrainUnused() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events){
+																		@Override
+																		public void shutdown() {
+																			events.add("main:enter:"+enter());
+																			super.shutdown();
+																		}
+																	})
+													.build()
+														.ignite();
+		Assertions.assertFalse(standalone.isDraining());
+		standalone.shutdown();
+		
+		Assertions.assertAll(() -> Assertions.assertTrue(events.contains("main:enter:false"))
+							,() -> Assertions.assertTrue(standalone.isDraining())
+							,() -> Assertions.assertFalse(standalone.enter())
+							,() -> Assertions.assertEquals(0, standalone.getInFlight())
+							,() -> Assertions.assertFalse(standalone.getLifecycleReport().getPhase("drainInFlight").isPresent()));
+	}
+
+	@Test
+	@DisplayName("Shutdown should stop waiting for the in-flight work once the drain timeout expires")
+	public void inFlightDrainTimeout() throws InterruptedException {
+
+		final Queue<String> console=new ConcurrentLinkedQueue<>();
+		final CountDownLatch entered=new CountDownLatch(1);
+		final CountDownLatch release=new CountDownLatch(1);
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new)
+													.drainTimeout(Duration.ofMillis(50))
+													.console(console::add)
+													.build()
+														.ignite();
+		final Thread worker=new Thread(() -> {
+											standalone.enter();
+											entered.countDown();
+											try{
+												release.await();
+											}catch(InterruptedException e){
+												Thread.currentThread().interrupt();
+											}finally{
+												standalone.exit();
+											}
+										});
+		worker.start();
+		Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+		standalone.shutdown();
+		release.countDown();
+		worker.join();
+		
+		Assertions.assertEquals(LifecycleState.STOPPED, standalone.getState());
+		Assertions.assertTrue(console.stream().anyMatch(line -> line.contains("In-flight work (1) still running after 50ms")));
+	}
+
+	@Test
+	@DisplayName("Drain timeout builder should reject null or negative timeouts")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void drainTimeoutBuilder() {
+		Assertions.assertAll(() -> Assertions.assertThrows(NullPointerException.class, () -> Standalone.builder(MockedIgnitableAdapter::new).drainTimeout(null))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> Standalone.builder(MockedIgnitableAdapter::new).drainTimeout(Duration.ofMillis(-1)))
+							,() -> Assertions.assertEquals(Duration.ofSeconds(1), Standalone.builder(MockedIgnitableAdapter::new).drainTimeout(Duration.ofSeconds(1)).drainTimeout));
+	}
+
+	@Test
+	@DisplayName("Reload should swap the new values only if all of them are valid and notify the changed ones")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void reload() {
+
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		final Standalone standalone=Standalone.builder(() -> new RecordingIgnitable("main",events))
+													.parameters(ReloadableTestParameter.class)
+													.arguments(new String[]{"-batchsize:10"})
+													.build()
+														.ignite();
+		try{
+			Assertions.assertEquals(Arrays.asList(ReloadableTestParameter.BATCHSIZE), standalone.reload("-batchsize:20"));
+			Assertions.assertEquals(Integer.valueOf(20), ReloadableTestParameter.BATCHSIZE.get(Integer.class));
+			Assertions.assertArrayEquals(new String[]{"-batchsize:20"}, standalone.getArguments());
+			Assertions.assertTrue(events.contains("main:onReload:[BATCHSIZE]"));
+			events.clear();
+			Assertions.assertThrows(InvalidParameter.class, () -> standalone.reload("-poolsize:8","-batchsize:-1"));
+			Assertions.assertThrows(UnparseableParameter.class, () -> standalone.reload("-batchsize:30","-poolsize:many"));
+			Assertions.assertEquals(Integer.valueOf(20), ReloadableTestParameter.BATCHSIZE.get(Integer.class));
+			Assertions.assertEquals(Integer.valueOf(4), ReloadableTestParameter.POOLSIZE.get(Integer.class));
+			Assertions.assertTrue(standalone.reload("-batchsize:20").isEmpty());
+			Assertions.assertTrue(events.isEmpty());
+			Assertions.assertTrue(standalone.getLifecycleReport().getPhase("reload").isPresent());
+		}finally{
+			standalone.shutdown();
+			ReloadableTestParameter.BATCHSIZE.setValue(10);
+			ReloadableTestParameter.POOLSIZE.setValue(4);
+		}
+		Assertions.assertThrows(IllegalStateException.class, () -> standalone.reload("-batchsize:20"));
+	}
+
+	@Test
+	@DisplayName("Reload should publish every new value set at once so a concurrent reader never observes a mixed set")
+	public void reloadSnapshot() throws InterruptedException {
+
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new)
+													.parameters(ReloadableTestParameter.class)
+													.arguments(new String[]{"-batchsize:1","-poolsize:1"})
+													.build()
+														.ignite();
+		final ParameterSchema schema=ParameterSchema.of(ReloadableTestParameter.class);
+		final AtomicBoolean reading=new AtomicBoolean(true);
+		final AtomicInteger reads=new AtomicInteger();
+		final Queue<Map<Parameter,Object>> mixed=new ConcurrentLinkedQueue<>();
+		final Thread reader=new Thread(() -> {
+												while(reading.get()){
+													final Map<Parameter,Object> values=schema.getValues();
+													if(!Objects.equals(values.get(ReloadableTestParameter.BATCHSIZE), values.get(ReloadableTestParameter.POOLSIZE))){
+														mixed.add(values);
+													}
+													reads.incrementAndGet();
+												}
+											},"snapshot-reader");
+		try{
+			reader.start();
+			IntStream.rangeClosed(2, 500)
+						.forEach(value -> standalone.reload("-batchsize:"+value,"-poolsize:"+value));
+			Assertions.assertEquals(Integer.valueOf(500), ReloadableTestParameter.BATCHSIZE.get(Integer.class));
+			Assertions.assertEquals(Integer.valueOf(500), ReloadableTestParameter.POOLSIZE.getValue().get());
+			Assertions.assertThrows(UnsupportedOperationException.class, () -> schema.getValues().clear());
+		}finally{
+			reading.set(false);
+			reader.join(5000);
+			standalone.reload("-batchsize:10","-poolsize:4");
+			standalone.shutdown();
+		}
+		Assertions.assertTrue(reads.get()>0);
+		Assertions.assertTrue(mixed.isEmpty(), "Mixed value sets observed: "+mixed);
+	}
+
+	@Test
+	@DisplayName("SIGHUP should reload the supplied arguments while running")
+	public void reloadOnHangup() throws Exception {
+
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new)
+													.parameters(ReloadableTestParameter.class)
+													.reloadOnHangup(() -> new String[]{"-poolsize:8"})
+													.build()
+														.ignite();
+		try{
+			if(standalone.getLifecycleReport().getPhase("trapReloadSignal").isPresent()&&(!System.getProperty("os.name").toLowerCase().contains("win"))){
+				final Class<?> signal=Class.forName("sun.misc.Signal");
+				signal.getMethod("raise", signal).invoke(null, signal.getConstructor(String.class).newInstance("HUP"));
+				final long deadline=System.nanoTime()+TimeUnit.SECONDS.toNanos(5);
+				while((ReloadableTestParameter.POOLSIZE.get(Integer.class)!=8)&&(System.nanoTime()<deadline)){
+					Thread.sleep(10);
+				}
+				Assertions.assertEquals(Integer.valueOf(8), ReloadableTestParameter.POOLSIZE.get(Integer.class));
+			}
+		}finally{
+			standalone.shutdown();
+			ReloadableTestParameter.POOLSIZE.setValue(4);
+		}
+	}
+
+	@Test
+	@DisplayName("Scheduler drain builder should validate the timeout")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void schedulerDrainBuilder() {
+		Assertions.assertAll(() -> Assertions.assertThrows(NullPointerException.class, () -> Standalone.builder(MockedIgnitableAdapter::new).schedulerDrain(null))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> Standalone.builder(MockedIgnitableAdapter::new).schedulerDrain(Duration.ofSeconds(-1)))
+							,() -> Assertions.assertNotNull(Standalone.builder(MockedIgnitableAdapter::new).schedulerDrain(Duration.ZERO)));
+	}
+
 	@Test
 	@DisplayName("Static selfExtinguish method should do nothing if no instance exist")
 	public void selfExtinguishNoInstance(final @Mocked Ignitable _ignitable){
 
-		Standalone.self=null;
+		Assertions.assertTrue(Standalone.getStandalones().isEmpty());
 		Standalone.selfExtinguish(2);
 	}
 	
@@ -664,15 +2029,19 @@ public class StandaloneTest {
 		
 		AtomicBoolean called=new AtomicBoolean(false);
 		
-		Standalone.self=new Standalone(() -> _ignitable, null, null,true, null, null, null,null,null, false){
+		final Standalone standalone=new Standalone(() -> _ignitable, null, null,true, null, null, null,null,null, false){
 			@Override
 			public void extinguish(int _exitCode) {
 				Assertions.assertEquals(2,_exitCode);
 				called.set(true);
 			}
-		};
-		
-		Standalone.selfExtinguish(2);
+		}.ignite();
+		try{
+			Standalone.selfExtinguish(2);
+			Assertions.assertTrue(called.get());
+		}finally{
+			standalone.shutdown();
+		}
 	}
 
 	@Test
@@ -682,11 +2051,13 @@ public class StandaloneTest {
 		
 		final List parameters=Stream.of(StandaloneAppTestParameter.class,StandaloneAppTestParameter2.class).collect(Collectors.toList());
 		
-		Standalone.self=new Standalone(() -> _ignitable, null, null,true,null, parameters, null, null,null,false);
-
-		List actualParameters=Standalone.getParametersClasses();
-			
-		Assertions.assertEquals(parameters, actualParameters);
+		final Standalone standalone=new Standalone(() -> _ignitable, null, null,true,null, parameters, ARGUMENTS, null,null,false).ignite();
+		try{
+			List actualParameters=Standalone.getParametersClasses();
+			Assertions.assertEquals(parameters, actualParameters);
+		}finally{
+			standalone.shutdown();
+		}
 	}
 	
 	@Test
@@ -706,11 +2077,13 @@ public class StandaloneTest {
 	public void getEmptyParameters(final @Mocked Ignitable _ignitable){
 		
 		final List parameters=Collections.emptyList();
-		Standalone.self=new Standalone(() -> _ignitable, null,null, true, null, parameters, null,null, null,false);
-		
-		List actualParameters=Standalone.getParametersClasses();
-			
-		Assertions.assertEquals(parameters, actualParameters);
+		final Standalone standalone=new Standalone(() -> _ignitable, null,null, true, null, parameters, null,null, null,false).ignite();
+		try{
+			List actualParameters=Standalone.getParametersClasses();
+			Assertions.assertEquals(parameters, actualParameters);
+		}finally{
+			standalone.shutdown();
+		}
 	}
 
 	@Test
@@ -718,11 +2091,13 @@ public class StandaloneTest {
 	public void getNullParameters(final @Mocked Ignitable _ignitable){
 		
 		final List parameters=Collections.emptyList();
-		Standalone.self=new Standalone(() -> _ignitable, null, null,true, null, null, null,null, null,false);
-		
-		List actualParameters=Standalone.getParametersClasses();
-			
-		Assertions.assertEquals(parameters, actualParameters);
+		final Standalone standalone=new Standalone(() -> _ignitable, null, null,true, null, null, null,null, null,false).ignite();
+		try{
+			List actualParameters=Standalone.getParametersClasses();
+			Assertions.assertEquals(parameters, actualParameters);
+		}finally{
+			standalone.shutdown();
+		}
 	}
 
 	@Test
@@ -731,11 +2106,13 @@ public class StandaloneTest {
 	public void getHelp(final @Mocked Ignitable _ignitable){
 		
 		final List parameters=Stream.of(StandaloneAppTestParameter.class,StandaloneAppTestParameter2.class).collect(Collectors.toList());
-		Standalone.self=new Standalone(() -> _ignitable, null,null, true, null, parameters, null,null, null,false);
-		
-		String actualHelp=Standalone.getHelp();
-			
-		Assertions.assertEquals(Parameter.getHelp(parameters), actualHelp);
+		final Standalone standalone=new Standalone(() -> _ignitable, null,null, true, null, parameters, ARGUMENTS,null, null,false).ignite();
+		try{
+			String actualHelp=Standalone.getHelp();
+			Assertions.assertEquals(Parameter.getHelp(parameters), actualHelp);
+		}finally{
+			standalone.shutdown();
+		}
 	}
 	@Test
 	@DisplayName("Static getHelp method should return the help of all parameters provided and using the description if present")
@@ -743,11 +2120,13 @@ public class StandaloneTest {
 	public void getHelpWithDesc(final @Mocked Ignitable _ignitable){
 		
 		final List parameters=Stream.of(StandaloneAppTestParameter.class,StandaloneAppTestParameter2.class).collect(Collectors.toList());
-		Standalone.self=new Standalone(() -> _ignitable, null,"mydesc", true, null, parameters, null,null, null,false);
-		
-		String actualHelp=Standalone.getHelp();
-			
-		Assertions.assertEquals("mydesc\n"+Parameter.getHelp(parameters), actualHelp);
+		final Standalone standalone=new Standalone(() -> _ignitable, null,"mydesc", true, null, parameters, ARGUMENTS,null, null,false).ignite();
+		try{
+			String actualHelp=Standalone.getHelp();
+			Assertions.assertEquals("mydesc\n"+Parameter.getHelp(parameters), actualHelp);
+		}finally{
+			standalone.shutdown();
+		}
 	}
 	
 	@Test
@@ -756,18 +2135,20 @@ public class StandaloneTest {
 	public void getEmptyHelp(final @Mocked Ignitable _ignitable){
 		
 		final List parameters=Collections.emptyList();
-		Standalone.self=new Standalone(() -> _ignitable, null, null,true, null, parameters, null,null, null,false);
-		
-		String actualHelp=Standalone.getHelp();
-			
-		Assertions.assertEquals("", actualHelp);
+		final Standalone standalone=new Standalone(() -> _ignitable, null, null,true, null, parameters, null,null, null,false).ignite();
+		try{
+			String actualHelp=Standalone.getHelp();
+			Assertions.assertEquals("", actualHelp);
+		}finally{
+			standalone.shutdown();
+		}
 	}
 
 	@Test
 	@DisplayName("Static getHelp method should return empty string if null parameters")
 	public void getNullHelp(final @Mocked Ignitable _ignitable){
 		
-		Standalone.self=new Standalone(() -> _ignitable, null, null,true, null, null, null,null, null,false);
+		final Standalone standalone=new Standalone(() -> _ignitable, null, null,true, null, null, null,null, null,false).ignite();
 
 		String actualHelp=Standalone.getHelp();
 			
@@ -31,6 +31,7 @@ import java.util.logging.LogManager;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 import org.bytemechanics.commons.tests.junit5.ArgumentsUtils;
+import org.bytemechanics.standalone.ignite.ArgumentIndex;
 import org.bytemechanics.standalone.ignite.exceptions.MandatoryParameterNotProvided;
 import org.bytemechanics.standalone.ignite.exceptions.UnparseableParameter;
 import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
@@ -306,6 +307,27 @@ public class DefaultParameterContainerTest {
 									,() -> Assertions.assertEquals("[-"+_name+"]: "+_description+" ("+_mandatoryHelp+")",container.getHelp()));
 	}
 
+	@Test
+	@DisplayName("Search with a prefix that is the start of another prefix must not be shadowed by it")
+	public void searchExactPrefix(){
+		
+		final DefaultParameterContainer shorter=DefaultParameterContainer.builder()
+																			.name("a")
+																			.type(String.class)
+																			.description("description")
+																		.build();
+		final DefaultParameterContainer longer=DefaultParameterContainer.builder()
+																			.name("ab")
+																			.type(String.class)
+																			.description("description")
+																		.build();
+		final ArgumentIndex index=new ArgumentIndex("-ab:2","-a:1");
+		
+		Assertions.assertAll(() -> Assertions.assertEquals("1",shorter.findParameter(index))
+							,() -> Assertions.assertEquals("2",longer.findParameter(index))
+							,() -> Assertions.assertEquals("1",shorter.findParameter("-ab:2","-a:1")));
+	}
+
 	@SuppressWarnings("static-access")
 	static Stream<Arguments> searchPrefixesDatapack(){
 		return Stream.of(	Arguments.of("server",null	,"other.com",null)
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class ExecutorConfigTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> ExecutorConfigTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+	@Test
+	@DisplayName("Constructor should store all the configuration values")
+	public void constructor() {
+		final ExecutorConfig instance=new ExecutorConfig(4, 100, ExecutorConfig.Rejection.CALLER_RUNS, Duration.ofSeconds(1));
+		Assertions.assertAll(() -> Assertions.assertEquals(4, instance.getThreads())
+							,() -> Assertions.assertEquals(100, instance.getQueueCapacity())
+							,() -> Assertions.assertEquals(ExecutorConfig.Rejection.CALLER_RUNS, instance.getRejection())
+							,() -> Assertions.assertEquals(Duration.ofSeconds(1), instance.getDrainTimeout()));
+	}
+
+	@Test
+	@DisplayName("Bounded factory should size the pool from the available cores and copies should replace only the given value")
+	public void bounded() {
+		final ExecutorConfig instance=ExecutorConfig.bounded(10);
+		final ExecutorConfig copy=instance.threads(2).rejection(ExecutorConfig.Rejection.DISCARD).drainTimeout(Duration.ZERO);
+		Assertions.assertAll(() -> Assertions.assertEquals(Runtime.getRuntime().availableProcessors(), instance.getThreads())
+							,() -> Assertions.assertEquals(10, instance.getQueueCapacity())
+							,() -> Assertions.assertEquals(ExecutorConfig.Rejection.ABORT, instance.getRejection())
+							,() -> Assertions.assertEquals(ExecutorConfig.DRAIN_TIMEOUT, instance.getDrainTimeout())
+							,() -> Assertions.assertEquals(2, copy.getThreads())
+							,() -> Assertions.assertEquals(10, copy.getQueueCapacity())
+							,() -> Assertions.assertEquals(ExecutorConfig.Rejection.DISCARD, copy.getRejection())
+							,() -> Assertions.assertEquals(Duration.ZERO, copy.getDrainTimeout()));
+	}
+
+	@Test
+	@DisplayName("Constructor with values out of range should raise an IllegalArgumentException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorOutOfRange() {
+		Assertions.assertAll(() -> Assertions.assertThrows(IllegalArgumentException.class, () -> new ExecutorConfig(0, 10, ExecutorConfig.Rejection.ABORT, Duration.ZERO))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> new ExecutorConfig(1, -1, ExecutorConfig.Rejection.ABORT, Duration.ZERO))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> new ExecutorConfig(1, 10, ExecutorConfig.Rejection.ABORT, Duration.ofSeconds(-1)))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> new ExecutorConfig(1, 0, ExecutorConfig.Rejection.DISCARD_OLDEST, Duration.ZERO)));
+	}
+
+	@Test
+	@DisplayName("Constructor without rejection or drain timeout should raise a NullPointerException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorWithoutValues() {
+		Assertions.assertAll(() -> Assertions.assertThrows(NullPointerException.class, () -> new ExecutorConfig(1, 10, null, Duration.ZERO))
+							,() -> Assertions.assertThrows(NullPointerException.class, () -> new ExecutorConfig(1, 10, ExecutorConfig.Rejection.ABORT, null)));
+	}
+}
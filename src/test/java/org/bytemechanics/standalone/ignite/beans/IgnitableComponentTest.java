@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.Ignitable;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class IgnitableComponentTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> IgnitableComponentTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("Constructor should store name, supplier and dependencies")
+	public void constructor() {
+		final Ignitable ignitable=new Ignitable(){};
+		final IgnitableComponent instance=new IgnitableComponent("my-component", () -> ignitable, "dependency-1", "dependency-2");
+		Assertions.assertEquals("my-component", instance.getName());
+		Assertions.assertSame(ignitable, instance.getSupplier().get());
+		Assertions.assertEquals(Arrays.asList("dependency-1","dependency-2"), instance.getDependsOn());
+	}
+
+	@Test
+	@DisplayName("Constructor without dependencies should provide an empty dependency list")
+	public void constructorWithoutDependencies() {
+		final IgnitableComponent instance=new IgnitableComponent("my-component", () -> new Ignitable(){}, (String[])null);
+		Assertions.assertEquals(Collections.emptyList(), instance.getDependsOn());
+	}
+
+	@Test
+	@DisplayName("Constructor without name should raise a NullPointerException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorWithoutName() {
+		Assertions.assertThrows(NullPointerException.class, () -> new IgnitableComponent(null, () -> new Ignitable(){}));
+	}
+
+	@Test
+	@DisplayName("Constructor without supplier should raise a NullPointerException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorWithoutSupplier() {
+		Assertions.assertThrows(NullPointerException.class, () -> new IgnitableComponent("my-component", null));
+	}
+}
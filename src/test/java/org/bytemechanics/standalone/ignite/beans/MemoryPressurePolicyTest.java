@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class MemoryPressurePolicyTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> MemoryPressurePolicyTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+	@Test
+	@DisplayName("Constructor should store all the policy values")
+	public void constructor() {
+		final MemoryPressurePolicy instance=new MemoryPressurePolicy(70, 90, 5);
+		Assertions.assertAll(() -> Assertions.assertEquals(70, instance.getWarningPercent())
+							,() -> Assertions.assertEquals(90, instance.getCriticalPercent())
+							,() -> Assertions.assertEquals(5, instance.getHysteresisPercent()));
+	}
+
+	@Test
+	@DisplayName("Constructor with warning percentage out of range should raise an IllegalArgumentException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorWarningOutOfRange() {
+		Assertions.assertAll(() -> Assertions.assertThrows(IllegalArgumentException.class, () -> new MemoryPressurePolicy(0, 90, 0))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> new MemoryPressurePolicy(101, 101, 5)));
+	}
+
+	@Test
+	@DisplayName("Constructor with critical percentage out of range should raise an IllegalArgumentException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorCriticalOutOfRange() {
+		Assertions.assertAll(() -> Assertions.assertThrows(IllegalArgumentException.class, () -> new MemoryPressurePolicy(70, 60, 5))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> new MemoryPressurePolicy(70, 101, 5)));
+	}
+
+	@Test
+	@DisplayName("Constructor with hysteresis percentage out of range should raise an IllegalArgumentException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorHysteresisOutOfRange() {
+		Assertions.assertAll(() -> Assertions.assertThrows(IllegalArgumentException.class, () -> new MemoryPressurePolicy(70, 90, -1))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> new MemoryPressurePolicy(70, 90, 70)));
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class ResourceLimitsTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> ResourceLimitsTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("Constructor should store all the resource values")
+	public void constructor() {
+		final ResourceLimits instance=new ResourceLimits(2, 3, 1024, 512, Arrays.asList("G1 Young Generation","G1 Old Generation"));
+		Assertions.assertAll(() -> Assertions.assertEquals(2, instance.getCgroupVersion())
+							,() -> Assertions.assertEquals(3, instance.getCpus())
+							,() -> Assertions.assertEquals(1024, instance.getMemoryLimit())
+							,() -> Assertions.assertEquals(512, instance.getDirectMemoryLimit())
+							,() -> Assertions.assertEquals(Arrays.asList("G1 Young Generation","G1 Old Generation"), instance.getGarbageCollectors())
+							,() -> Assertions.assertTrue(instance.isContainerized())
+							,() -> Assertions.assertTrue(instance.isMemoryLimited()));
+	}
+
+	@Test
+	@DisplayName("Without cgroup and memory limit the resources should not be containerized nor memory limited")
+	public void unlimited() {
+		final ResourceLimits instance=new ResourceLimits(0, 1, ResourceLimits.UNLIMITED, 0, Collections.emptyList());
+		Assertions.assertAll(() -> Assertions.assertFalse(instance.isContainerized())
+							,() -> Assertions.assertFalse(instance.isMemoryLimited()));
+	}
+
+	@Test
+	@DisplayName("Garbage collectors list should be an unmodifiable copy")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void garbageCollectorsCopy() {
+		final List<String> collectors=new ArrayList<>(Arrays.asList("Serial"));
+		final ResourceLimits instance=new ResourceLimits(1, 1, 1, 0, collectors);
+		collectors.add("Other");
+		Assertions.assertAll(() -> Assertions.assertEquals(Arrays.asList("Serial"), instance.getGarbageCollectors())
+							,() -> Assertions.assertThrows(UnsupportedOperationException.class, () -> instance.getGarbageCollectors().add("Other")));
+	}
+
+	@Test
+	@DisplayName("Constructor with out of range values should raise an IllegalArgumentException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorOutOfRange() {
+		Assertions.assertAll(() -> Assertions.assertThrows(IllegalArgumentException.class, () -> new ResourceLimits(3, 1, 1, 0, Collections.emptyList()))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> new ResourceLimits(0, 0, 1, 0, Collections.emptyList()))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> new ResourceLimits(0, 1, 0, 0, Collections.emptyList()))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> new ResourceLimits(0, 1, 1, -1, Collections.emptyList())));
+	}
+
+	@Test
+	@DisplayName("Constructor with null garbage collectors should raise a NullPointerException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorNullCollectors() {
+		Assertions.assertThrows(NullPointerException.class, () -> new ResourceLimits(0, 1, 1, 0, null));
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class SupervisionPolicyTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> SupervisionPolicyTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("Constructor should store all the policy values")
+	public void constructor() {
+		final SupervisionPolicy instance=new SupervisionPolicy(3, Duration.ofMillis(100), Duration.ofSeconds(10), 0.2d, Duration.ofMinutes(1));
+		Assertions.assertAll(() -> Assertions.assertEquals(3, instance.getMaxRestarts())
+							,() -> Assertions.assertEquals(Duration.ofMillis(100), instance.getInitialBackoff())
+							,() -> Assertions.assertEquals(Duration.ofSeconds(10), instance.getMaxBackoff())
+							,() -> Assertions.assertEquals(0.2d, instance.getJitter())
+							,() -> Assertions.assertEquals(Duration.ofMinutes(1), instance.getResetWindow()));
+	}
+
+	@Test
+	@DisplayName("Constructor with negative max restarts should raise an IllegalArgumentException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorNegativeMaxRestarts() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new SupervisionPolicy(-1, Duration.ofMillis(100), Duration.ofSeconds(10), 0.2d, Duration.ofMinutes(1)));
+	}
+
+	@Test
+	@DisplayName("Constructor with jitter out of range should raise an IllegalArgumentException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorJitterOutOfRange() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new SupervisionPolicy(3, Duration.ofMillis(100), Duration.ofSeconds(10), 1.5d, Duration.ofMinutes(1)));
+	}
+
+	@Test
+	@DisplayName("Constructor without durations should raise a NullPointerException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorWithoutDurations() {
+		Assertions.assertAll(() -> Assertions.assertThrows(NullPointerException.class, () -> new SupervisionPolicy(3, null, Duration.ofSeconds(10), 0.2d, Duration.ofMinutes(1)))
+							,() -> Assertions.assertThrows(NullPointerException.class, () -> new SupervisionPolicy(3, Duration.ofMillis(100), null, 0.2d, Duration.ofMinutes(1)))
+							,() -> Assertions.assertThrows(NullPointerException.class, () -> new SupervisionPolicy(3, Duration.ofMillis(100), Duration.ofSeconds(10), 0.2d, null)));
+	}
+}
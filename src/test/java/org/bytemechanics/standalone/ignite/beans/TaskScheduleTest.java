@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class TaskScheduleTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> TaskScheduleTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+	@Test
+	@DisplayName("Constructor should store all the schedule values")
+	public void constructor() {
+		final TaskSchedule instance=new TaskSchedule(TaskSchedule.Mode.FIXED_DELAY, Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofMillis(100));
+		Assertions.assertAll(() -> Assertions.assertEquals(TaskSchedule.Mode.FIXED_DELAY, instance.getMode())
+							,() -> Assertions.assertEquals(Duration.ofSeconds(1), instance.getInitialDelay())
+							,() -> Assertions.assertEquals(Duration.ofSeconds(5), instance.getPeriod())
+							,() -> Assertions.assertEquals(Duration.ofMillis(100), instance.getJitter()));
+	}
+
+	@Test
+	@DisplayName("Factories should create schedules without initial delay nor jitter and copies should replace only the given value")
+	public void factories() {
+		final TaskSchedule rate=TaskSchedule.atFixedRate(Duration.ofSeconds(5));
+		final TaskSchedule delay=TaskSchedule.withFixedDelay(Duration.ofSeconds(5)).initialDelay(Duration.ofSeconds(1)).jitter(Duration.ofMillis(100));
+		Assertions.assertAll(() -> Assertions.assertEquals(TaskSchedule.Mode.FIXED_RATE, rate.getMode())
+							,() -> Assertions.assertEquals(Duration.ZERO, rate.getInitialDelay())
+							,() -> Assertions.assertEquals(Duration.ZERO, rate.getJitter())
+							,() -> Assertions.assertEquals(TaskSchedule.Mode.FIXED_DELAY, delay.getMode())
+							,() -> Assertions.assertEquals(Duration.ofSeconds(1), delay.getInitialDelay())
+							,() -> Assertions.assertEquals(Duration.ofSeconds(5), delay.getPeriod())
+							,() -> Assertions.assertEquals(Duration.ofMillis(100), delay.getJitter()));
+	}
+
+	@Test
+	@DisplayName("Constructor with not positive period should raise an IllegalArgumentException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorNotPositivePeriod() {
+		Assertions.assertAll(() -> Assertions.assertThrows(IllegalArgumentException.class, () -> TaskSchedule.atFixedRate(Duration.ZERO))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> TaskSchedule.withFixedDelay(Duration.ofSeconds(-1))));
+	}
+
+	@Test
+	@DisplayName("Constructor with negative initial delay or jitter should raise an IllegalArgumentException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorNegativeDurations() {
+		Assertions.assertAll(() -> Assertions.assertThrows(IllegalArgumentException.class, () -> TaskSchedule.atFixedRate(Duration.ofSeconds(1)).initialDelay(Duration.ofSeconds(-1)))
+							,() -> Assertions.assertThrows(IllegalArgumentException.class, () -> TaskSchedule.atFixedRate(Duration.ofSeconds(1)).jitter(Duration.ofSeconds(-1))));
+	}
+
+	@Test
+	@DisplayName("Constructor without mode or durations should raise a NullPointerException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorWithoutValues() {
+		Assertions.assertAll(() -> Assertions.assertThrows(NullPointerException.class, () -> new TaskSchedule(null, Duration.ZERO, Duration.ofSeconds(1), Duration.ZERO))
+							,() -> Assertions.assertThrows(NullPointerException.class, () -> new TaskSchedule(TaskSchedule.Mode.FIXED_RATE, null, Duration.ofSeconds(1), Duration.ZERO))
+							,() -> Assertions.assertThrows(NullPointerException.class, () -> new TaskSchedule(TaskSchedule.Mode.FIXED_RATE, Duration.ZERO, null, Duration.ZERO))
+							,() -> Assertions.assertThrows(NullPointerException.class, () -> new TaskSchedule(TaskSchedule.Mode.FIXED_RATE, Duration.ZERO, Duration.ofSeconds(1), null)));
+	}
+}
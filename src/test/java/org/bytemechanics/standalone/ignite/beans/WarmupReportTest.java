@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.beans;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class WarmupReportTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> WarmupReportTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("Constructor should store iterations, duration and compilation time")
+	public void constructor() {
+		final WarmupReport instance=new WarmupReport(10, 3_000_000L, 25L);
+		Assertions.assertAll(() -> Assertions.assertEquals(10, instance.getIterations())
+							,() -> Assertions.assertEquals(3_000_000L, instance.getDurationNanos())
+							,() -> Assertions.assertEquals(3L, instance.getDurationMillis())
+							,() -> Assertions.assertEquals(25L, instance.getCompilationMillis()));
+	}
+
+	@Test
+	@DisplayName("ToString should contain all values")
+	public void testToString() {
+		Assertions.assertEquals("WarmupReport{iterations=10, durationNanos=3000000, compilationMillis=25}", new WarmupReport(10, 3_000_000L, 25L).toString());
+	}
+}
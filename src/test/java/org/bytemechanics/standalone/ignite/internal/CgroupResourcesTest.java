@@ -0,0 +1,157 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.OptionalLong;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.beans.ResourceLimits;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class CgroupResourcesTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> CgroupResourcesTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	private static Path write(final Path _file,final String _content) throws IOException{
+		Files.createDirectories(_file.getParent());
+		return Files.write(_file, _content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("Cgroup v2 hierarchy should report the most restrictive limits from the process cgroup up to the root")
+	public void cgroupV2() throws IOException {
+		final Path root=Files.createTempDirectory("cgroup");
+		final Path membership=write(root.resolve("proc/self/cgroup"), "0::/app/svc\n");
+		write(root.resolve("cgroup.controllers"), "cpu memory cpuset");
+		write(root.resolve("app/cpu.max"), "200000 100000");
+		write(root.resolve("app/memory.max"), "2147483648");
+		write(root.resolve("app/svc/cpu.max"), "max 100000");
+		write(root.resolve("app/svc/memory.max"), "1073741824");
+		write(root.resolve("app/svc/cpuset.cpus.effective"), "0-2,5");
+		final CgroupResources instance=new CgroupResources(root, membership);
+		Assertions.assertAll(() -> Assertions.assertEquals(2, instance.getVersion())
+							,() -> Assertions.assertEquals(2, instance.cpus(64))
+							,() -> Assertions.assertEquals(1, instance.cpus(1))
+							,() -> Assertions.assertEquals(OptionalLong.of(1073741824l), instance.memoryLimit()));
+	}
+
+	@Test
+	@DisplayName("Cgroup v2 cpuset should bound the cpus when no quota is configured")
+	public void cgroupV2Cpuset() throws IOException {
+		final Path root=Files.createTempDirectory("cgroup");
+		final Path membership=write(root.resolve("proc/self/cgroup"), "0::/\n");
+		write(root.resolve("cgroup.controllers"), "cpu memory cpuset");
+		write(root.resolve("cpu.max"), "max 100000");
+		write(root.resolve("memory.max"), "max");
+		write(root.resolve("cpuset.cpus.effective"), "0-2,5");
+		final CgroupResources instance=new CgroupResources(root, membership);
+		Assertions.assertAll(() -> Assertions.assertEquals(4, instance.cpus(64))
+							,() -> Assertions.assertEquals(OptionalLong.empty(), instance.memoryLimit()));
+	}
+
+	@Test
+	@DisplayName("Cgroup v1 hierarchy should report the controller limits, falling back to the mount when the process cgroup is not visible")
+	public void cgroupV1() throws IOException {
+		final Path root=Files.createTempDirectory("cgroup");
+		final Path membership=write(root.resolve("proc/self/cgroup"), "4:memory:/docker/abc\n3:cpu,cpuacct:/docker/abc\n2:cpuset:/docker/abc\n1:name=systemd:/docker/abc\n0::/\n");
+		write(root.resolve("memory/memory.limit_in_bytes"), "536870912");
+		write(root.resolve("cpu,cpuacct/docker/abc/cpu.cfs_quota_us"), "150000");
+		write(root.resolve("cpu,cpuacct/docker/abc/cpu.cfs_period_us"), "100000");
+		write(root.resolve("cpuset/cpuset.cpus"), "0-7");
+		final CgroupResources instance=new CgroupResources(root, membership);
+		Assertions.assertAll(() -> Assertions.assertEquals(1, instance.getVersion())
+							,() -> Assertions.assertEquals(2, instance.cpus(64))
+							,() -> Assertions.assertEquals(OptionalLong.of(536870912l), instance.memoryLimit()));
+	}
+
+	@Test
+	@DisplayName("Cgroup v1 without quota nor memory limit should report the JVM values")
+	public void cgroupV1Unlimited() throws IOException {
+		final Path root=Files.createTempDirectory("cgroup");
+		final Path membership=write(root.resolve("proc/self/cgroup"), "4:memory:/\n3:cpu,cpuacct:/\n");
+		write(root.resolve("memory/memory.limit_in_bytes"), "9223372036854771712");
+		write(root.resolve("cpu,cpuacct/cpu.cfs_quota_us"), "-1");
+		write(root.resolve("cpu,cpuacct/cpu.cfs_period_us"), "100000");
+		final CgroupResources instance=new CgroupResources(root, membership);
+		Assertions.assertAll(() -> Assertions.assertEquals(1, instance.getVersion())
+							,() -> Assertions.assertEquals(64, instance.cpus(64))
+							,() -> Assertions.assertEquals(OptionalLong.empty(), instance.memoryLimit()));
+	}
+
+	@Test
+	@DisplayName("Without cgroup hierarchy nor membership the detection should report the JVM values")
+	public void noCgroup() throws IOException {
+		final Path root=Files.createTempDirectory("cgroup");
+		final CgroupResources instance=new CgroupResources(root, root.resolve("missing"));
+		final ResourceLimits limits=instance.detect();
+		Assertions.assertAll(() -> Assertions.assertEquals(0, instance.getVersion())
+							,() -> Assertions.assertEquals(4, instance.cpus(4))
+							,() -> Assertions.assertEquals(OptionalLong.empty(), instance.memoryLimit())
+							,() -> Assertions.assertEquals(Runtime.getRuntime().availableProcessors(), limits.getCpus())
+							,() -> Assertions.assertFalse(limits.isContainerized())
+							,() -> Assertions.assertFalse(limits.isMemoryLimited())
+							,() -> Assertions.assertNotNull(limits.getGarbageCollectors()));
+	}
+
+	@Test
+	@DisplayName("Direct memory limit should be taken from -XX:MaxDirectMemorySize or default to the maximum heap")
+	public void directMemoryLimit() {
+		Assertions.assertAll(() -> Assertions.assertEquals(64l<<20, CgroupResources.directMemoryLimit(Arrays.asList("-Xmx1g","-XX:MaxDirectMemorySize=64m"), 100))
+							,() -> Assertions.assertEquals(2l<<30, CgroupResources.directMemoryLimit(Arrays.asList("-XX:MaxDirectMemorySize=2G"), 100))
+							,() -> Assertions.assertEquals(1024, CgroupResources.directMemoryLimit(Arrays.asList("-XX:MaxDirectMemorySize=1024"), 100))
+							,() -> Assertions.assertEquals(100, CgroupResources.directMemoryLimit(Collections.emptyList(), 100)));
+	}
+
+	@Test
+	@DisplayName("Current resources should be detected once and cached")
+	public void current() {
+		final ResourceLimits limits=CgroupResources.current();
+		Assertions.assertAll(() -> Assertions.assertSame(limits, CgroupResources.current())
+							,() -> Assertions.assertTrue(limits.getCpus()<=Runtime.getRuntime().availableProcessors())
+							,() -> Assertions.assertTrue(limits.getCpus()>=1));
+	}
+}
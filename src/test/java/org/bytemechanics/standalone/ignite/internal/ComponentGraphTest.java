@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import org.bytemechanics.standalone.ignite.Ignitable;
+import org.bytemechanics.standalone.ignite.beans.IgnitableComponent;
+import org.bytemechanics.standalone.ignite.exceptions.CyclicComponentDependency;
+import org.bytemechanics.standalone.ignite.exceptions.UnknownComponentDependency;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class ComponentGraphTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> ComponentGraphTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	private static IgnitableComponent component(final String _name,final String... _dependsOn){
+		return new IgnitableComponent(_name, () -> new Ignitable(){}, _dependsOn);
+	}
+	
+	private static List<List<String>> names(final List<List<IgnitableComponent>> _waves){
+		return _waves.stream()
+						.map(wave -> wave.stream()
+											.map(IgnitableComponent::getName)
+											.collect(Collectors.toList()))
+						.collect(Collectors.toList());
+	}
+	
+	@Test
+	@DisplayName("Components without dependencies should be started in a single wave")
+	public void independentComponents() {
+		final List<List<IgnitableComponent>> actual=ComponentGraph.waves(Arrays.asList(component("a"),component("b"),component("c")));
+		Assertions.assertEquals(Arrays.asList(Arrays.asList("a","b","c")), names(actual));
+	}
+
+	@Test
+	@DisplayName("Components should be split in topological waves")
+	public void dependentComponents() {
+		final List<List<IgnitableComponent>> actual=ComponentGraph.waves(Arrays.asList(component("http","cache","db")
+																						,component("consumer-1","http")
+																						,component("cache")
+																						,component("consumer-2","http","cache")
+																						,component("db")));
+		Assertions.assertEquals(Arrays.asList(Arrays.asList("cache","db")
+												,Arrays.asList("http")
+												,Arrays.asList("consumer-1","consumer-2"))
+								, names(actual));
+	}
+
+	@Test
+	@DisplayName("No components should provide no waves")
+	public void noComponents() {
+		Assertions.assertTrue(ComponentGraph.waves(Arrays.asList()).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Dependency to a not existent component should raise UnknownComponentDependency")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void unknownDependency() {
+		Assertions.assertThrows(UnknownComponentDependency.class
+									, () -> ComponentGraph.waves(Arrays.asList(component("a"),component("b","c"))));
+	}
+
+	@Test
+	@DisplayName("Cyclic dependencies should raise CyclicComponentDependency")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void cyclicDependency() {
+		Assertions.assertThrows(CyclicComponentDependency.class
+									, () -> ComponentGraph.waves(Arrays.asList(component("a"),component("b","a","d"),component("c","b"),component("d","c"))));
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.standalone.ignite.mocks.StandaloneAppTestParameter3;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class FlightRecorderTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> FlightRecorderTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+	@Test
+	@DisplayName("Phase should execute the action and return its result")
+	public void phase() {
+		Assertions.assertEquals("result", FlightRecorder.phase("app", "startup", () -> "result"));
+	}
+
+	@Test
+	@DisplayName("Phase should execute the action even without standalone name")
+	public void phaseWithoutName() {
+		Assertions.assertEquals(Integer.valueOf(1), FlightRecorder.phase(null, "startup", () -> 1));
+	}
+
+	@Test
+	@DisplayName("Phase should propagate the action failure")
+	public void phaseFailure() {
+		Assertions.assertThrows(IllegalStateException.class, () -> FlightRecorder.phase("app", "startup", () -> { throw new IllegalStateException("failure"); }));
+	}
+
+	@Test
+	@DisplayName("Parameter should execute the action")
+	public void parameter() {
+		final AtomicBoolean executed=new AtomicBoolean(false);
+		FlightRecorder.parameter("load", StandaloneAppTestParameter3.STRINGVALUE, () -> executed.set(true));
+		Assertions.assertTrue(executed.get());
+	}
+
+	@Test
+	@DisplayName("Parameter should propagate the action failure")
+	public void parameterFailure() {
+		Assertions.assertThrows(IllegalStateException.class, () -> FlightRecorder.parameter("validate", StandaloneAppTestParameter3.STRINGVALUE, () -> { throw new IllegalStateException("failure"); }));
+	}
+
+	@Test
+	@DisplayName("Command should execute the action")
+	public void command() {
+		final AtomicBoolean executed=new AtomicBoolean(false);
+		FlightRecorder.command("help", () -> executed.set(true));
+		Assertions.assertTrue(executed.get());
+	}
+
+	@Test
+	@DisplayName("Command should propagate the action failure")
+	public void commandFailure() {
+		Assertions.assertThrows(IllegalStateException.class, () -> FlightRecorder.command("help", () -> { throw new IllegalStateException("failure"); }));
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import org.bytemechanics.standalone.ignite.Standalone;
+import org.bytemechanics.standalone.ignite.exceptions.HealthEndpointNotBindable;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.standalone.ignite.mocks.MockedIgnitableAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class HealthEndpointTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> HealthEndpointTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	private static String get(final InetSocketAddress _address,final String _path,final String _method) throws IOException{
+		
+		final HttpURLConnection connection=(HttpURLConnection)new URL("http://"+_address.getHostString()+":"+_address.getPort()+_path).openConnection();
+		connection.setRequestMethod(_method);
+		try{
+			final int status=connection.getResponseCode();
+			try(InputStream body=(status<400)? connection.getInputStream() : connection.getErrorStream();
+					ByteArrayOutputStream content=new ByteArrayOutputStream()){
+				final byte[] buffer=new byte[1024];
+				int read;
+				while((body!=null)&&((read=body.read(buffer))>0)){
+					content.write(buffer, 0, read);
+				}
+				return status+":"+new String(content.toByteArray(),StandardCharsets.UTF_8);
+			}
+		}finally{
+			connection.disconnect();
+		}
+	}
+
+	@Test
+	@DisplayName("Not ignited standalone should be alive but not ready")
+	public void notIgnited() throws IOException {
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new).build();
+		try(HealthEndpoint endpoint=new HealthEndpoint(standalone, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)).start()){
+			Assertions.assertEquals("200:UP\n", get(endpoint.getAddress(), "/health", "GET"));
+			Assertions.assertEquals("503:NOT READY\n", get(endpoint.getAddress(), "/ready", "GET"));
+			Assertions.assertEquals("503:", get(endpoint.getAddress(), "/ready", "HEAD"));
+		}
+	}
+
+	@Test
+	@DisplayName("Metrics should expose the current state and the lifecycle phases in Prometheus text format")
+	public void metrics() throws IOException {
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new).build();
+		standalone.getLifecycleReport().measure("my-phase", () -> 1);
+		try(HealthEndpoint endpoint=new HealthEndpoint(standalone, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)).start()){
+			final String actual=get(endpoint.getAddress(), "/metrics", "GET");
+			Assertions.assertTrue(actual.startsWith("200:# TYPE standalone_up gauge\nstandalone_up 1\n"));
+			Assertions.assertTrue(actual.contains("\nstandalone_ready 0\n"));
+			Assertions.assertTrue(actual.contains("\nstandalone_state{state=\"NEW\"} 1\n"));
+			Assertions.assertTrue(actual.contains("\nstandalone_state{state=\"RUNNING\"} 0\n"));
+			Assertions.assertTrue(actual.contains("\nstandalone_uptime_seconds "));
+			Assertions.assertTrue(actual.contains("\nstandalone_phase_duration_seconds{phase=\"my-phase\"} "));
+		}
+	}
+
+	@Test
+	@DisplayName("Metrics should expose the registered counters, gauges and histograms in Prometheus text format")
+	public void registryMetrics() throws IOException {
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new).build();
+		standalone.getMetrics().counter("my.requests").add(3);
+		standalone.getMetrics().gauge("queue-size", () -> 5);
+		standalone.getMetrics().histogram("latency").record(2_000_000);
+		try(HealthEndpoint endpoint=new HealthEndpoint(standalone, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)).start()){
+			final String actual=get(endpoint.getAddress(), "/metrics", "GET");
+			Assertions.assertTrue(actual.contains("\n# TYPE my_requests_total counter\nmy_requests_total 3\n"));
+			Assertions.assertTrue(actual.contains("\n# TYPE queue_size gauge\nqueue_size 5.0\n"));
+			Assertions.assertTrue(actual.contains("\n# TYPE latency_seconds summary\n"));
+			Assertions.assertTrue(actual.contains("\nlatency_seconds{quantile=\"0.5\"} 0.002\n"));
+			Assertions.assertTrue(actual.contains("\nlatency_seconds{quantile=\"0.999\"} 0.002\n"));
+			Assertions.assertTrue(actual.contains("\nlatency_seconds_count 1\n"));
+		}
+	}
+
+	@Test
+	@DisplayName("Endpoint dispatcher thread should never keep the JVM alive")
+	public void daemonDispatcher() {
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new).build();
+		try(HealthEndpoint endpoint=new HealthEndpoint(standalone, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)).start()){
+			final List<Thread> dispatchers=Thread.getAllStackTraces()
+														.entrySet()
+															.stream()
+																.filter(entry -> "HTTP-Dispatcher".equals(entry.getKey().getName())
+																					||Arrays.stream(entry.getValue()).anyMatch(element -> element.getClassName().startsWith("sun.net.httpserver.ServerImpl$Dispatcher")))
+																.map(Map.Entry::getKey)
+																.collect(Collectors.toList());
+			Assertions.assertFalse(dispatchers.isEmpty());
+			Assertions.assertTrue(dispatchers.stream().allMatch(Thread::isDaemon));
+		}
+	}
+
+	@Test
+	@DisplayName("Binding an already bound address should raise a HealthEndpointNotBindable")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void notBindable() {
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new).build();
+		try(HealthEndpoint endpoint=new HealthEndpoint(standalone, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)).start()){
+			Assertions.assertThrows(HealthEndpointNotBindable.class, () -> new HealthEndpoint(standalone, endpoint.getAddress()));
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class InFlightTrackerTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> InFlightTrackerTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("Enter and exit should track the units of work in flight")
+	public void enterExit() {
+		final InFlightTracker instance=new InFlightTracker();
+		Assertions.assertFalse(instance.isUsed());
+		Assertions.assertTrue(instance.enter());
+		Assertions.assertTrue(instance.enter());
+		Assertions.assertEquals(2, instance.getInFlight());
+		instance.exit();
+		instance.exit();
+		Assertions.assertAll(() -> Assertions.assertEquals(0, instance.getInFlight())
+							,() -> Assertions.assertTrue(instance.isUsed())
+							,() -> Assertions.assertFalse(instance.isDraining()));
+	}
+
+	@Test
+	@DisplayName("Drain should wait until the work in flight at other threads exits and reject any new entry")
+	public void drain() throws InterruptedException {
+		final InFlightTracker instance=new InFlightTracker();
+		final CountDownLatch entered=new CountDownLatch(1);
+		final AtomicBoolean finished=new AtomicBoolean(false);
+		final Thread worker=new Thread(() -> {
+											instance.enter();
+											entered.countDown();
+											try{
+												Thread.sleep(100);
+											}catch(InterruptedException e){
+												Thread.currentThread().interrupt();
+											}finally{
+												finished.set(true);
+												instance.exit();
+											}
+										});
+		worker.start();
+		Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+		Assertions.assertTrue(instance.drain(Duration.ofSeconds(5)));
+		Assertions.assertAll(() -> Assertions.assertTrue(finished.get())
+							,() -> Assertions.assertTrue(instance.isDraining())
+							,() -> Assertions.assertFalse(instance.enter())
+							,() -> Assertions.assertEquals(0, instance.getInFlight()));
+		worker.join();
+	}
+
+	@Test
+	@DisplayName("Drain should return false once the timeout expires with work still in flight")
+	public void drainTimeout() throws InterruptedException {
+		final InFlightTracker instance=new InFlightTracker();
+		final CountDownLatch entered=new CountDownLatch(1);
+		final CountDownLatch release=new CountDownLatch(1);
+		final Thread worker=new Thread(() -> {
+											instance.enter();
+											entered.countDown();
+											try{
+												release.await();
+											}catch(InterruptedException e){
+												Thread.currentThread().interrupt();
+											}finally{
+												instance.exit();
+											}
+										});
+		worker.start();
+		Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+		Assertions.assertFalse(instance.drain(Duration.ofMillis(50)));
+		Assertions.assertEquals(1, instance.getInFlight());
+		release.countDown();
+		worker.join();
+		Assertions.assertEquals(0, instance.getInFlight());
+	}
+
+	@Test
+	@DisplayName("Drain should not wait for the work held by the draining thread")
+	public void drainOwnWork() {
+		final InFlightTracker instance=new InFlightTracker();
+		Assertions.assertTrue(instance.enter());
+		Assertions.assertTrue(instance.drain(Duration.ofSeconds(5)));
+		instance.exit();
+		Assertions.assertEquals(0, instance.getInFlight());
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.beans.ExecutorConfig;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.standalone.ignite.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class ManagedExecutorTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> ManagedExecutorTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+	private static void await(final CountDownLatch _latch){
+		try{
+			_latch.await(5, TimeUnit.SECONDS);
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	@DisplayName("Tasks should run at named threads and publish the pool metrics")
+	public void metrics() throws Exception {
+		final MetricsRegistry metrics=new MetricsRegistry();
+		final ManagedExecutor executor=new ManagedExecutor("test-io-", "io", new ExecutorConfig(1, 10, ExecutorConfig.Rejection.ABORT, Duration.ofSeconds(5)), metrics);
+		try{
+			final CountDownLatch started=new CountDownLatch(1);
+			final CountDownLatch release=new CountDownLatch(1);
+			final Future<String> thread=executor.submit(() -> {
+													started.countDown();
+													await(release);
+													return Thread.currentThread().getName();
+												});
+			executor.execute(() -> {});
+			await(started);
+			Assertions.assertEquals(1d, metrics.getGauges().get("executor.io.queue").getAsDouble());
+			Assertions.assertEquals(1d, metrics.getGauges().get("executor.io.active").getAsDouble());
+			release.countDown();
+			Assertions.assertEquals("test-io-0", thread.get(5, TimeUnit.SECONDS));
+			Assertions.assertTrue(executor.drain());
+			Assertions.assertEquals(2, metrics.getHistograms().get("executor.io.latency").getCount());
+			Assertions.assertEquals(2, metrics.getHistograms().get("executor.io.wait").getCount());
+		}finally{
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Submissions over the queue capacity should be rejected and counted")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void rejection() {
+		final MetricsRegistry metrics=new MetricsRegistry();
+		final ManagedExecutor executor=new ManagedExecutor("test-bounded-", "bounded", new ExecutorConfig(1, 1, ExecutorConfig.Rejection.ABORT, Duration.ofSeconds(5)), metrics);
+		final CountDownLatch release=new CountDownLatch(1);
+		try{
+			executor.execute(() -> await(release));
+			executor.execute(() -> {});
+			Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+			Assertions.assertEquals(1, metrics.getCounters().get("executor.bounded.rejected").get());
+		}finally{
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Discard oldest rejection should replace the oldest queued task recording the metrics once per task")
+	public void discardOldest() {
+		final MetricsRegistry metrics=new MetricsRegistry();
+		final ManagedExecutor executor=new ManagedExecutor("test-oldest-", "oldest", new ExecutorConfig(1, 1, ExecutorConfig.Rejection.DISCARD_OLDEST, Duration.ofSeconds(5)), metrics);
+		final CountDownLatch release=new CountDownLatch(1);
+		final AtomicBoolean oldest=new AtomicBoolean(false);
+		final AtomicBoolean newest=new AtomicBoolean(false);
+		try{
+			executor.execute(() -> await(release));
+			executor.execute(() -> oldest.set(true));
+			executor.execute(() -> newest.set(true));
+			Assertions.assertEquals(1, executor.getQueue().size());
+			release.countDown();
+			Assertions.assertTrue(executor.drain());
+			Assertions.assertFalse(oldest.get());
+			Assertions.assertTrue(newest.get());
+			Assertions.assertEquals(1, metrics.getCounters().get("executor.oldest.rejected").get());
+			Assertions.assertEquals(2, metrics.getHistograms().get("executor.oldest.latency").getCount());
+			Assertions.assertEquals(2, metrics.getHistograms().get("executor.oldest.wait").getCount());
+		}finally{
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Caller runs rejection should execute the task at the submitter thread")
+	public void callerRuns() {
+		final ManagedExecutor executor=new ManagedExecutor("test-caller-", "caller", new ExecutorConfig(1, 0, ExecutorConfig.Rejection.CALLER_RUNS, Duration.ofSeconds(5)), new MetricsRegistry());
+		final CountDownLatch release=new CountDownLatch(1);
+		final AtomicReference<Thread> runner=new AtomicReference<>();
+		try{
+			executor.execute(() -> await(release));
+			executor.execute(() -> runner.set(Thread.currentThread()));
+			Assertions.assertSame(Thread.currentThread(), runner.get());
+		}finally{
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Stop intake should reject any submission whatever the policy while the queued tasks are still executed")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void stopIntake() throws InterruptedException {
+		final ManagedExecutor executor=new ManagedExecutor("test-intake-", "intake", new ExecutorConfig(1, 10, ExecutorConfig.Rejection.CALLER_RUNS, Duration.ofSeconds(5)), new MetricsRegistry());
+		final CountDownLatch release=new CountDownLatch(1);
+		final AtomicBoolean queued=new AtomicBoolean(false);
+		executor.execute(() -> await(release));
+		executor.execute(() -> queued.set(true));
+		executor.stopIntake();
+		Assertions.assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+		release.countDown();
+		Assertions.assertTrue(executor.drain());
+		Assertions.assertTrue(queued.get());
+	}
+
+	@Test
+	@DisplayName("Drain should interrupt the running tasks once the drain timeout expires")
+	public void drainTimeout() {
+		final ManagedExecutor executor=new ManagedExecutor("test-stuck-", "stuck", new ExecutorConfig(1, 10, ExecutorConfig.Rejection.ABORT, Duration.ofMillis(50)), new MetricsRegistry());
+		final CountDownLatch started=new CountDownLatch(1);
+		final CountDownLatch interrupted=new CountDownLatch(1);
+		executor.execute(() -> {
+					started.countDown();
+					try{
+						Thread.sleep(10_000);
+					}catch(InterruptedException e){
+						interrupted.countDown();
+					}
+				});
+		await(started);
+		Assertions.assertFalse(executor.drain());
+		await(interrupted);
+		Assertions.assertEquals(0, interrupted.getCount());
+	}
+}
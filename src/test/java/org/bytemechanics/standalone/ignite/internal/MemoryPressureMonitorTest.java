@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.bytemechanics.standalone.ignite.MemoryPressure;
+import org.bytemechanics.standalone.ignite.beans.MemoryPressurePolicy;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author afarre
+ */
+public class MemoryPressureMonitorTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> MemoryPressureMonitorTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+	private static final MemoryPressurePolicy POLICY=new MemoryPressurePolicy(70, 90, 5);
+
+	static Stream<Arguments> evaluateDatapack() {
+		return Stream.of(
+			Arguments.of(MemoryPressure.NORMAL, 10d, MemoryPressure.NORMAL),
+			Arguments.of(MemoryPressure.NORMAL, 70d, MemoryPressure.WARNING),
+			Arguments.of(MemoryPressure.NORMAL, 95d, MemoryPressure.CRITICAL),
+			Arguments.of(MemoryPressure.WARNING, 68d, MemoryPressure.WARNING),
+			Arguments.of(MemoryPressure.WARNING, 64d, MemoryPressure.NORMAL),
+			Arguments.of(MemoryPressure.WARNING, 90d, MemoryPressure.CRITICAL),
+			Arguments.of(MemoryPressure.CRITICAL, 86d, MemoryPressure.CRITICAL),
+			Arguments.of(MemoryPressure.CRITICAL, 84d, MemoryPressure.WARNING),
+			Arguments.of(MemoryPressure.CRITICAL, 66d, MemoryPressure.WARNING),
+			Arguments.of(MemoryPressure.CRITICAL, 10d, MemoryPressure.NORMAL)
+		);
+	}
+
+	@ParameterizedTest(name="Evaluate from {0} with {1}% used should return {2}")
+	@MethodSource("evaluateDatapack")
+	public void evaluate(final MemoryPressure _current,final double _used,final MemoryPressure _expected) {
+		Assertions.assertEquals(_expected, MemoryPressureMonitor.evaluate(_current, _used, POLICY));
+	}
+
+	@Test
+	@DisplayName("Heap usage should be a percentage")
+	public void heapUsage() {
+		final double usage=MemoryPressureMonitor.heapUsage();
+		Assertions.assertTrue((usage>=0d)&&(usage<=100d), "Heap usage "+usage+" out of range");
+	}
+
+	@Test
+	@DisplayName("Notifier should deliver only the level changes with hysteresis")
+	public void notifier() throws InterruptedException {
+		final AtomicReference<Double> usage=new AtomicReference<>(10d);
+		final BlockingQueue<MemoryPressure> levels=new LinkedBlockingQueue<>();
+		try(MemoryPressureMonitor monitor=new MemoryPressureMonitor(POLICY, levels::add, usage::get, Duration.ofMillis(10)).start()){
+			Assertions.assertEquals(MemoryPressure.NORMAL, monitor.getLevel());
+			usage.set(75d);
+			Assertions.assertEquals(MemoryPressure.WARNING, levels.poll(5, TimeUnit.SECONDS));
+			usage.set(95d);
+			Assertions.assertEquals(MemoryPressure.CRITICAL, levels.poll(5, TimeUnit.SECONDS));
+			usage.set(87d);
+			Assertions.assertNull(levels.poll(100, TimeUnit.MILLISECONDS));
+			usage.set(20d);
+			Assertions.assertEquals(MemoryPressure.NORMAL, levels.poll(5, TimeUnit.SECONDS));
+			Assertions.assertEquals(MemoryPressure.NORMAL, monitor.getLevel());
+		}
+	}
+
+	@Test
+	@DisplayName("Close should restore the heap pools thresholds")
+	public void closeRestoresThresholds() {
+		final Map<String,Long> before=ManagementFactory.getMemoryPoolMXBeans()
+															.stream()
+																.filter(MemoryPoolMXBean::isUsageThresholdSupported)
+																.collect(Collectors.toMap(MemoryPoolMXBean::getName, MemoryPoolMXBean::getUsageThreshold));
+		final MemoryPressureMonitor monitor=new MemoryPressureMonitor(POLICY, level -> {}).start();
+		monitor.close();
+		final Map<String,Long> after=ManagementFactory.getMemoryPoolMXBeans()
+															.stream()
+																.filter(MemoryPoolMXBean::isUsageThresholdSupported)
+																.collect(Collectors.toMap(MemoryPoolMXBean::getName, MemoryPoolMXBean::getUsageThreshold));
+		Assertions.assertEquals(before, after);
+	}
+}
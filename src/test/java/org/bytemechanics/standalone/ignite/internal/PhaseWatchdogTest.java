@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.OutConsole;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.standalone.ignite.internal.commons.string.SimpleFormat;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class PhaseWatchdogTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> PhaseWatchdogTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("Watch of a phase without deadline should only execute the action")
+	public void watchWithoutDeadline() {
+		final Queue<String> console=new LinkedList<>();
+		try(PhaseWatchdog watchdog=new PhaseWatchdog(Collections.emptyMap(), (phase,thread) -> Assertions.fail("Unexpected escalation"), new OutConsole(console::add,(message,args) -> SimpleFormat.format(message,args),false))){
+			Assertions.assertEquals("my-result", watchdog.watch("my-phase", () -> "my-result"));
+		}
+		Assertions.assertTrue(console.isEmpty());
+	}
+
+	@Test
+	@DisplayName("Watch of a phase finished before its deadline should not escalate")
+	public void watchBeforeDeadline() {
+		final Queue<String> console=new LinkedList<>();
+		try(PhaseWatchdog watchdog=new PhaseWatchdog(Collections.singletonMap("my-phase",Duration.ofSeconds(30)), (phase,thread) -> Assertions.fail("Unexpected escalation"), new OutConsole(console::add,(message,args) -> SimpleFormat.format(message,args),false))){
+			Assertions.assertEquals("my-result", watchdog.watch("my-phase", () -> "my-result"));
+		}
+		Assertions.assertTrue(console.isEmpty());
+	}
+
+	@Test
+	@DisplayName("Watch of a phase that exceeds its deadline should print a thread dump and escalate with the lifecycle thread")
+	public void watchOverrun() throws InterruptedException {
+		final Queue<String> console=new ConcurrentLinkedQueue<>();
+		final List<Thread> escalated=new CopyOnWriteArrayList<>();
+		final CountDownLatch escalation=new CountDownLatch(1);
+		try(PhaseWatchdog watchdog=new PhaseWatchdog(Collections.singletonMap("my-phase",Duration.ofMillis(10))
+													, (phase,thread) -> {
+														escalated.add(thread);
+														escalation.countDown();
+													}
+													, new OutConsole(console::add,(message,args) -> SimpleFormat.format(message,args),false))){
+			watchdog.watch("my-phase", () -> {
+				try {
+					return escalation.await(30, TimeUnit.SECONDS);
+				} catch (InterruptedException ex) {
+					throw new IllegalStateException(ex);
+				}
+			});
+		}
+		Assertions.assertEquals(1, escalated.size());
+		Assertions.assertSame(Thread.currentThread(), escalated.get(0));
+		Assertions.assertTrue(console.poll().startsWith("Lifecycle phase my-phase exceeded its deadline of 10ms"));
+		Assertions.assertTrue(console.poll().contains("\"standalone-watchdog\""));
+	}
+
+	@Test
+	@DisplayName("Thread dump should contain the current thread stack")
+	public void threadDump() {
+		final String actual=PhaseWatchdog.threadDump();
+		Assertions.assertTrue(actual.contains("\""+Thread.currentThread().getName()+"\" Id="+Thread.currentThread().getId()));
+		Assertions.assertTrue(actual.contains("PhaseWatchdogTest.threadDump"));
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class ShutdownDispatcherTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> ShutdownDispatcherTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+	private static class TestShutdownDispatcher extends ShutdownDispatcher{
+		
+		private final AtomicInteger installations=new AtomicInteger(0);
+		
+		@Override
+		protected void install() {
+			this.installations.incrementAndGet();
+		}
+	}
+
+	@Test
+	@DisplayName("Register should install the JVM hook only once")
+	public void register() {
+		final TestShutdownDispatcher dispatcher=new TestShutdownDispatcher();
+		dispatcher.register(1, null, () -> {});
+		dispatcher.register(2, null, () -> {});
+		Assertions.assertEquals(1, dispatcher.installations.get());
+		Assertions.assertEquals(2, dispatcher.size());
+	}
+
+	@Test
+	@DisplayName("Deregister should remove the registration and never execute its shutdown")
+	public void deregister() {
+		final TestShutdownDispatcher dispatcher=new TestShutdownDispatcher();
+		final AtomicInteger executed=new AtomicInteger(0);
+		dispatcher.register(1, null, executed::incrementAndGet);
+		Assertions.assertTrue(dispatcher.deregister(1));
+		Assertions.assertFalse(dispatcher.deregister(1));
+		Assertions.assertEquals(0, dispatcher.size());
+		dispatcher.dispatch();
+		Assertions.assertEquals(0, executed.get());
+	}
+
+	@Test
+	@DisplayName("Dispatch should shutdown the standalones ignited during another ignition before it, in reverse ignition order")
+	public void dispatchReverseOrder() {
+		final TestShutdownDispatcher dispatcher=new TestShutdownDispatcher();
+		final Queue<String> events=new ConcurrentLinkedQueue<>();
+		dispatcher.register(1, null, () -> events.add("shell"));
+		dispatcher.register(2, 1L, () -> events.add("command"));
+		dispatcher.register(3, 2L, () -> events.add("subcommand"));
+		dispatcher.dispatch();
+		Assertions.assertEquals(Arrays.asList("subcommand","command","shell"), new ArrayList<>(events));
+	}
+
+	@Test
+	@DisplayName("Dispatch should shutdown independent standalones in parallel")
+	public void dispatchParallel() {
+		final TestShutdownDispatcher dispatcher=new TestShutdownDispatcher();
+		final CountDownLatch both=new CountDownLatch(2);
+		final AtomicInteger concurrent=new AtomicInteger(0);
+		final Runnable shutdown=() -> {
+			both.countDown();
+			try{
+				if(both.await(30, TimeUnit.SECONDS)){
+					concurrent.incrementAndGet();
+				}
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+			}
+		};
+		dispatcher.register(1, null, shutdown);
+		dispatcher.register(2, null, shutdown);
+		dispatcher.dispatch();
+		Assertions.assertEquals(2, concurrent.get());
+	}
+
+	@Test
+	@DisplayName("Dispatch should continue with the parent shutdown even if a child shutdown fails")
+	public void dispatchFailure() {
+		final TestShutdownDispatcher dispatcher=new TestShutdownDispatcher();
+		final List<String> events=new ArrayList<>();
+		dispatcher.register(1, null, () -> events.add("parent"));
+		dispatcher.register(2, 1L, () -> { throw new IllegalStateException("failure"); });
+		dispatcher.dispatch();
+		Assertions.assertEquals(Arrays.asList("parent"), events);
+	}
+
+	@Test
+	@DisplayName("Dispatch should consider as independent the standalones whose igniter is already deregistered")
+	public void dispatchOrphan() {
+		final TestShutdownDispatcher dispatcher=new TestShutdownDispatcher();
+		final AtomicInteger executed=new AtomicInteger(0);
+		dispatcher.register(1, null, () -> {});
+		dispatcher.register(2, 1L, executed::incrementAndGet);
+		dispatcher.deregister(1);
+		dispatcher.dispatch();
+		Assertions.assertEquals(1, executed.get());
+	}
+}
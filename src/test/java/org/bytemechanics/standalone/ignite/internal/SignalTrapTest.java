@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class SignalTrapTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> SignalTrapTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+	private static void raise(final String _signal) throws ReflectiveOperationException {
+		final Class<?> signal=Class.forName("sun.misc.Signal");
+		signal.getMethod("raise", signal).invoke(null, signal.getConstructor(String.class).newInstance(_signal));
+	}
+
+	@Test
+	@DisplayName("Constructor without signal or action should raise a NullPointerException")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void constructorWithoutValues() {
+		Assertions.assertAll(() -> Assertions.assertThrows(NullPointerException.class, () -> new SignalTrap(null, () -> {}))
+							,() -> Assertions.assertThrows(NullPointerException.class, () -> new SignalTrap("HUP", null)));
+	}
+
+	@Test
+	@DisplayName("Installed trap should execute its action and chain the previous trap until closed")
+	public void trap() throws Exception {
+		final CountDownLatch first=new CountDownLatch(2);
+		final CountDownLatch second=new CountDownLatch(1);
+		try(SignalTrap outer=new SignalTrap("HUP", first::countDown)){
+			if(outer.install()){
+				try(SignalTrap inner=new SignalTrap("HUP", second::countDown)){
+					Assertions.assertTrue(inner.install());
+					raise("HUP");
+					Assertions.assertTrue(second.await(5, TimeUnit.SECONDS));
+				}
+				Assertions.assertTrue(outer.isInstalled());
+				raise("HUP");
+				Assertions.assertTrue(first.await(5, TimeUnit.SECONDS));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Not supported signal should not install the trap")
+	public void notSupported() {
+		try(SignalTrap trap=new SignalTrap("NOTASIGNAL", () -> {})){
+			Assertions.assertFalse(trap.install());
+			Assertions.assertFalse(trap.isInstalled());
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.bytemechanics.standalone.ignite.Standalone;
+import org.bytemechanics.standalone.ignite.StandaloneMXBean;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.standalone.ignite.mocks.MockedIgnitableAdapter;
+import org.bytemechanics.standalone.ignite.mocks.StandaloneAppTestParameter3;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class StandaloneManagementTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> StandaloneManagementTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+	private static final MBeanServer SERVER=ManagementFactory.getPlatformMBeanServer();
+
+	@Test
+	@DisplayName("Register should publish the bean at the platform MBean server and close should remove it")
+	public void registerAndClose() throws JMException {
+		
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new).name("my app").build();
+		try(StandaloneManagement management=new StandaloneManagement(standalone).register()){
+			Assertions.assertTrue(SERVER.isRegistered(management.getObjectName()));
+			Assertions.assertEquals("org.bytemechanics.standalone.ignite", management.getObjectName().getDomain());
+			Assertions.assertEquals("Standalone", management.getObjectName().getKeyProperty("type"));
+			Assertions.assertEquals("\"my app\"", management.getObjectName().getKeyProperty("name"));
+			Assertions.assertEquals(ObjectName.quote(standalone.getId()), management.getObjectName().getKeyProperty("id"));
+			management.close();
+			Assertions.assertFalse(SERVER.isRegistered(management.getObjectName()));
+		}
+	}
+
+	@Test
+	@DisplayName("Two standalones with the same name should be registered with different object names")
+	public void uniqueObjectName() throws JMException {
+		
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new).build();
+		try(StandaloneManagement management1=new StandaloneManagement(standalone).register();
+				StandaloneManagement management2=new StandaloneManagement(Standalone.builder(MockedIgnitableAdapter::new).build()).register()){
+			Assertions.assertNotEquals(management1.getObjectName(), management2.getObjectName());
+			Assertions.assertEquals("\"standalone\"", management1.getObjectName().getKeyProperty("name"));
+		}
+	}
+
+	@Test
+	@DisplayName("Not ignited standalone attributes should be readable through an MXBean proxy")
+	public void notIgnitedAttributes() throws JMException {
+		
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new).name("app").build();
+		try(StandaloneManagement management=new StandaloneManagement(standalone).register()){
+			final StandaloneMXBean proxy=JMX.newMXBeanProxy(SERVER, management.getObjectName(), StandaloneMXBean.class);
+			Assertions.assertEquals("app", proxy.getName());
+			Assertions.assertEquals("NEW", proxy.getState());
+			Assertions.assertFalse(proxy.isReady());
+			Assertions.assertTrue(proxy.getPhaseDurations().isEmpty());
+			Assertions.assertTrue(proxy.getParameters().isEmpty());
+		}
+	}
+
+	@Test
+	@DisplayName("Ignited standalone attributes should expose the phase durations and the parsed parameter values")
+	public void ignitedAttributes() {
+		
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new)
+													.parameters(StandaloneAppTestParameter3.class)
+													.arguments(new String[]{"-stringvalue:jmx","-stringvalue2:bean"})
+												.build()
+													.ignite();
+		final StandaloneMXBean proxy=JMX.newMXBeanProxy(SERVER, standalone.getManagementName().get(), StandaloneMXBean.class);
+		Assertions.assertEquals("RUNNING", proxy.getState());
+		Assertions.assertTrue(proxy.isReady());
+		final Map<String,Long> phases=proxy.getPhaseDurations();
+		Assertions.assertTrue(phases.containsKey("ignition"));
+		Assertions.assertTrue(phases.containsKey("startup"));
+		Assertions.assertTrue(phases.values().stream().allMatch(duration -> duration>=0));
+		final Map<String,String> parameters=proxy.getParameters();
+		Assertions.assertEquals("jmx", parameters.get("StandaloneAppTestParameter3.STRINGVALUE"));
+		Assertions.assertEquals("bean", parameters.get("StandaloneAppTestParameter3.STRINGVALUE2"));
+	}
+
+	@Test
+	@DisplayName("Close should not fail if the bean is not registered")
+	public void closeNotRegistered() throws JMException {
+		
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new).build();
+		final StandaloneManagement management=new StandaloneManagement(standalone);
+		management.close();
+		Assertions.assertFalse(SERVER.isRegistered(management.getObjectName()));
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.Standalone;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.standalone.ignite.mocks.MockedIgnitableAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class StandaloneRegistryTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> StandaloneRegistryTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+	private static Standalone standalone(final String _name){
+		return Standalone.builder(MockedIgnitableAdapter::new).name(_name).build();
+	}
+
+	@Test
+	@DisplayName("Next sequence should be unique and increasing")
+	public void nextSequence() {
+		final StandaloneRegistry registry=new StandaloneRegistry();
+		Assertions.assertEquals(1, registry.nextSequence());
+		Assertions.assertEquals(2, registry.nextSequence());
+	}
+
+	@Test
+	@DisplayName("Registered standalones should be returned in registration order")
+	public void register() {
+		final StandaloneRegistry registry=new StandaloneRegistry();
+		final Standalone first=standalone("first");
+		final Standalone second=standalone("second");
+		Assertions.assertSame(second, registry.register(2, second));
+		registry.register(1, first);
+		Assertions.assertEquals(Arrays.asList(first,second), registry.getStandalones());
+	}
+
+	@Test
+	@DisplayName("Unregister should remove the standalone only if registered with the given sequence")
+	public void unregister() {
+		final StandaloneRegistry registry=new StandaloneRegistry();
+		final Standalone first=standalone("first");
+		final Standalone second=standalone("second");
+		registry.register(1, first);
+		Assertions.assertFalse(registry.unregister(1, second));
+		Assertions.assertFalse(registry.unregister(2, first));
+		Assertions.assertTrue(registry.unregister(1, first));
+		Assertions.assertTrue(registry.getStandalones().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Lookup should find the standalone by id or by name returning the latest registered with the same name")
+	public void lookup() {
+		final StandaloneRegistry registry=new StandaloneRegistry();
+		final Standalone first=standalone("service");
+		final Standalone second=standalone("service");
+		registry.register(1, first);
+		registry.register(2, second);
+		Assertions.assertSame(first, registry.lookup(first.getId()).get());
+		Assertions.assertSame(second, registry.lookup(second.getId()).get());
+		Assertions.assertSame(second, registry.lookup("service").get());
+		Assertions.assertFalse(registry.lookup("unknown").isPresent());
+		Assertions.assertFalse(registry.lookup(null).isPresent());
+	}
+
+	@Test
+	@DisplayName("Concurrent registrations should never be lost")
+	public void concurrentRegister() throws InterruptedException {
+		final StandaloneRegistry registry=new StandaloneRegistry();
+		final Standalone standalone=standalone("service");
+		final ExecutorService executor=Executors.newFixedThreadPool(8);
+		for(int thread=0;thread<8;thread++){
+			executor.execute(() -> {
+				for(int iteration=0;iteration<1_000;iteration++){
+					registry.register(registry.nextSequence(), standalone);
+				}
+			});
+		}
+		executor.shutdown();
+		Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+		Assertions.assertEquals(8_000, registry.getStandalones().size());
+	}
+}
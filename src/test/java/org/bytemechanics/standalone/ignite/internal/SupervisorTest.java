@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.beans.SupervisionPolicy;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class SupervisorTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> SupervisorTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("Supervisor without policy should not allow any restart")
+	public void nextBackoffWithoutPolicy() {
+		Assertions.assertEquals(Optional.empty(), new Supervisor(null).nextBackoff());
+	}
+
+	@Test
+	@DisplayName("Supervisor should double the backoff on every consecutive restart up to the maximum and give up once the restarts are exhausted")
+	public void nextBackoffExponential() {
+		final Supervisor instance=new Supervisor(new SupervisionPolicy(5, Duration.ofSeconds(1), Duration.ofSeconds(5), 0.0d, Duration.ofDays(1)));
+		Assertions.assertEquals(Optional.of(Duration.ofSeconds(1)), instance.nextBackoff());
+		Assertions.assertEquals(Optional.of(Duration.ofSeconds(2)), instance.nextBackoff());
+		Assertions.assertEquals(Optional.of(Duration.ofSeconds(4)), instance.nextBackoff());
+		Assertions.assertEquals(Optional.of(Duration.ofSeconds(5)), instance.nextBackoff());
+		Assertions.assertEquals(Optional.of(Duration.ofSeconds(5)), instance.nextBackoff());
+		Assertions.assertEquals(5, instance.getRestarts());
+		Assertions.assertEquals(Optional.empty(), instance.nextBackoff());
+	}
+
+	@Test
+	@DisplayName("Supervisor backoff should not overflow with a high number of restarts")
+	public void backoffOverflow() {
+		final Supervisor instance=new Supervisor(new SupervisionPolicy(1000, Duration.ofSeconds(1), Duration.ofMinutes(5), 0.0d, Duration.ofDays(1)));
+		Assertions.assertEquals(Duration.ofMinutes(5).toNanos(), instance.backoff(100));
+	}
+
+	@Test
+	@DisplayName("Supervisor backoff should vary within the jitter range")
+	public void backoffJitter() {
+		final Supervisor instance=new Supervisor(new SupervisionPolicy(3, Duration.ofSeconds(1), Duration.ofSeconds(10), 0.5d, Duration.ofDays(1)));
+		for(int i=0;i<100;i++){
+			final long actual=instance.backoff(1);
+			Assertions.assertTrue(actual>=Duration.ofSeconds(1).toNanos(),"Backoff "+actual+" under the jitter range");
+			Assertions.assertTrue(actual<=Duration.ofSeconds(3).toNanos(),"Backoff "+actual+" over the jitter range");
+		}
+	}
+
+	@Test
+	@DisplayName("Supervisor should reset the restarts count once the ignitable has been running longer than the reset window")
+	public void nextBackoffResetWindow() throws InterruptedException {
+		final Supervisor instance=new Supervisor(new SupervisionPolicy(1, Duration.ZERO, Duration.ZERO, 0.0d, Duration.ofMillis(10)));
+		Assertions.assertEquals(Optional.of(Duration.ZERO), instance.nextBackoff());
+		Thread.sleep(20);
+		Assertions.assertEquals(Optional.of(Duration.ZERO), instance.nextBackoff());
+		Assertions.assertEquals(1, instance.getRestarts());
+	}
+}
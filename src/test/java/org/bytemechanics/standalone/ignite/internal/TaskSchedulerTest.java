@@ -0,0 +1,193 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.OutConsole;
+import org.bytemechanics.standalone.ignite.ScheduledTask;
+import org.bytemechanics.standalone.ignite.beans.TaskSchedule;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.standalone.ignite.internal.commons.string.SimpleFormat;
+import org.bytemechanics.standalone.ignite.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class TaskSchedulerTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> TaskSchedulerTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+	private final Queue<String> errors=new ConcurrentLinkedQueue<>();
+
+	private TaskScheduler scheduler(final MetricsRegistry _metrics){
+		return new TaskScheduler("test-scheduler-", 2, _metrics, new OutConsole(errors::add,(message,args) -> SimpleFormat.format(message,args),false));
+	}
+
+	private static void sleep(final long _millis){
+		try{
+			Thread.sleep(_millis);
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	@DisplayName("Fixed rate task should be executed periodically and publish its runtime")
+	public void fixedRate() throws InterruptedException {
+		final MetricsRegistry metrics=new MetricsRegistry();
+		final CountDownLatch executions=new CountDownLatch(3);
+		try(TaskScheduler scheduler=scheduler(metrics)){
+			final ScheduledTask task=scheduler.schedule("rate", TaskSchedule.atFixedRate(Duration.ofMillis(10)), executions::countDown);
+			Assertions.assertTrue(executions.await(5, TimeUnit.SECONDS));
+			Assertions.assertTrue(scheduler.isUsed());
+			Assertions.assertTrue(task.getExecutions()>=2);
+			Assertions.assertSame(task.getRuntime(), metrics.getHistograms().get("scheduler.rate.runtime"));
+			Assertions.assertEquals(0, task.getOverruns());
+		}
+	}
+
+	@Test
+	@DisplayName("Fixed rate task longer than its period should count overruns and never overlap")
+	public void fixedRateOverrun() throws InterruptedException {
+		final AtomicInteger running=new AtomicInteger(0);
+		final AtomicBoolean overlapped=new AtomicBoolean(false);
+		final CountDownLatch executions=new CountDownLatch(3);
+		try(TaskScheduler scheduler=scheduler(new MetricsRegistry())){
+			final ScheduledTask task=scheduler.schedule("overrun", TaskSchedule.atFixedRate(Duration.ofMillis(5)), () -> {
+																												if(running.incrementAndGet()>1){
+																													overlapped.set(true);
+																												}
+																												sleep(20);
+																												running.decrementAndGet();
+																												executions.countDown();
+																											});
+			Assertions.assertTrue(executions.await(5, TimeUnit.SECONDS));
+			Assertions.assertTrue(task.getOverruns()>=2);
+			Assertions.assertFalse(overlapped.get());
+		}
+	}
+
+	@Test
+	@DisplayName("Fixed delay task with jitter should be executed periodically")
+	public void fixedDelay() throws InterruptedException {
+		final CountDownLatch executions=new CountDownLatch(3);
+		try(TaskScheduler scheduler=scheduler(new MetricsRegistry())){
+			scheduler.schedule("delay", TaskSchedule.withFixedDelay(Duration.ofMillis(5)).jitter(Duration.ofMillis(5)), executions::countDown);
+			Assertions.assertTrue(executions.await(5, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	@DisplayName("Failed executions should be counted and printed without cancelling the task")
+	public void failure() throws InterruptedException {
+		final CountDownLatch executions=new CountDownLatch(3);
+		try(TaskScheduler scheduler=scheduler(new MetricsRegistry())){
+			final ScheduledTask task=scheduler.schedule("failure", TaskSchedule.withFixedDelay(Duration.ofMillis(5)), () -> {
+																											executions.countDown();
+																											throw new IllegalStateException("boom");
+																										});
+			Assertions.assertTrue(executions.await(5, TimeUnit.SECONDS));
+			Assertions.assertTrue(task.getFailures()>=2);
+			Assertions.assertFalse(task.isCancelled());
+			Assertions.assertTrue(this.errors.contains("Scheduled task failure failure: boom"));
+		}
+	}
+
+	@Test
+	@DisplayName("Cancelled task should not be executed again and should be removed from the tasks")
+	public void cancel() {
+		final AtomicInteger executions=new AtomicInteger(0);
+		try(TaskScheduler scheduler=scheduler(new MetricsRegistry())){
+			final ScheduledTask task=scheduler.schedule("cancel", TaskSchedule.atFixedRate(Duration.ofMillis(50)).initialDelay(Duration.ofMillis(50)), executions::incrementAndGet);
+			Assertions.assertEquals(1, scheduler.getTasks().size());
+			task.cancel();
+			sleep(150);
+			Assertions.assertTrue(task.isCancelled());
+			Assertions.assertEquals(0, executions.get());
+			Assertions.assertTrue(scheduler.getTasks().isEmpty());
+		}
+	}
+
+	@Test
+	@DisplayName("Drain should wait for the running executions and reject new tasks")
+	@SuppressWarnings("ThrowableResultIgnored")
+	public void drain() throws InterruptedException {
+		final CountDownLatch started=new CountDownLatch(1);
+		final AtomicBoolean finished=new AtomicBoolean(false);
+		final TaskScheduler scheduler=scheduler(new MetricsRegistry());
+		final ScheduledTask task=scheduler.schedule("drain", TaskSchedule.atFixedRate(Duration.ofMillis(10)), () -> {
+																									started.countDown();
+																									sleep(100);
+																									finished.set(true);
+																								});
+		Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+		Assertions.assertTrue(scheduler.drain(Duration.ofSeconds(5)));
+		Assertions.assertTrue(finished.get());
+		Assertions.assertTrue(task.isCancelled());
+		Assertions.assertEquals(1, task.getExecutions());
+		Assertions.assertThrows(RejectedExecutionException.class, () -> scheduler.schedule("late", TaskSchedule.atFixedRate(Duration.ofMillis(10)), () -> {}));
+	}
+
+	@Test
+	@DisplayName("Drain should interrupt the running executions once the timeout expires")
+	public void drainTimeout() throws InterruptedException {
+		final CountDownLatch started=new CountDownLatch(1);
+		final CountDownLatch interrupted=new CountDownLatch(1);
+		final TaskScheduler scheduler=scheduler(new MetricsRegistry());
+		scheduler.schedule("stuck", TaskSchedule.atFixedRate(Duration.ofMillis(10)), () -> {
+																					started.countDown();
+																					try{
+																						Thread.sleep(10_000);
+																					}catch(InterruptedException e){
+																						interrupted.countDown();
+																					}
+																				});
+		Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+		Assertions.assertFalse(scheduler.drain(Duration.ofMillis(50)));
+		Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+	}
+}
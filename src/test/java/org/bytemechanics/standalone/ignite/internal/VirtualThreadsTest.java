@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class VirtualThreadsTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> VirtualThreadsTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("New thread should be unstarted and named as requested")
+	public void newThread() throws InterruptedException {
+		final AtomicReference<String> executed=new AtomicReference<>();
+		final Thread actual=VirtualThreads.newThread(true, "my-thread", () -> executed.set(Thread.currentThread().getName()));
+		Assertions.assertEquals(Thread.State.NEW, actual.getState());
+		Assertions.assertEquals("my-thread", actual.getName());
+		actual.start();
+		actual.join(TimeUnit.SECONDS.toMillis(30));
+		Assertions.assertEquals("my-thread", executed.get());
+	}
+
+	@Test
+	@DisplayName("New platform thread should be unstarted and named as requested")
+	public void newPlatformThread() {
+		final Thread actual=VirtualThreads.newThread(false, "my-thread", () -> {});
+		Assertions.assertEquals(Thread.State.NEW, actual.getState());
+		Assertions.assertEquals("my-thread", actual.getName());
+	}
+
+	@Test
+	@DisplayName("Thread per task executor should execute the tasks at threads named with the given prefix")
+	public void newThreadPerTaskExecutor() throws Exception {
+		final ExecutorService executor=VirtualThreads.newThreadPerTaskExecutor(true, "my-prefix-");
+		try{
+			Assertions.assertTrue(executor.submit(() -> Thread.currentThread().getName()).get(30, TimeUnit.SECONDS).startsWith("my-prefix-"));
+		}finally{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("Platform thread per task executor should execute the tasks at daemon threads named with the given prefix")
+	public void newPlatformThreadPerTaskExecutor() throws Exception {
+		final ExecutorService executor=VirtualThreads.newThreadPerTaskExecutor(false, "my-prefix-");
+		try{
+			Assertions.assertTrue(executor.submit(() -> Thread.currentThread().isDaemon()).get(30, TimeUnit.SECONDS));
+		}finally{
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class CounterTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> CounterTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+	@Test
+	@DisplayName("New counter should start at zero with the given name")
+	public void newCounter() {
+		final Counter counter=new Counter("my-counter");
+		Assertions.assertEquals("my-counter", counter.getName());
+		Assertions.assertEquals(0, counter.get());
+	}
+
+	@Test
+	@DisplayName("Increment and add should accumulate the counter value")
+	public void incrementAndAdd() {
+		final Counter counter=new Counter("my-counter");
+		counter.increment();
+		counter.add(5);
+		Assertions.assertEquals(6, counter.get());
+	}
+
+	@Test
+	@DisplayName("Concurrent increments should never be lost")
+	public void concurrentIncrements() throws InterruptedException {
+		final Counter counter=new Counter("my-counter");
+		final ExecutorService executor=Executors.newFixedThreadPool(8);
+		for(int thread=0;thread<8;thread++){
+			executor.execute(() -> {
+				for(int iteration=0;iteration<10_000;iteration++){
+					counter.increment();
+				}
+			});
+		}
+		executor.shutdown();
+		Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+		Assertions.assertEquals(80_000, counter.get());
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * @author afarre
+ */
+public class HistogramTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> HistogramTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+	@Test
+	@DisplayName("Empty histogram should report zero for every statistic")
+	public void empty() {
+		final Histogram histogram=new Histogram("latency");
+		Assertions.assertEquals("latency", histogram.getName());
+		Assertions.assertEquals(0, histogram.getCount());
+		Assertions.assertEquals(0, histogram.getMax());
+		Assertions.assertEquals(0d, histogram.getMean());
+		Assertions.assertEquals(0, histogram.getPercentile(99));
+	}
+
+	@ParameterizedTest(name = "Bucket of value {0} should have an upper bound not lower than the value and within 6.25% of it")
+	@ValueSource(longs = {0,1,15,16,17,31,32,1_000,123_456,1_000_000_007,Long.MAX_VALUE})
+	public void bucketBounds(final long _value) {
+		final long upperBound=Histogram.bucketUpperBound(Histogram.bucket(_value));
+		Assertions.assertTrue(upperBound>=_value);
+		Assertions.assertTrue((upperBound-_value)<=Math.max(0,_value/16));
+	}
+
+	@Test
+	@DisplayName("Bucket indexes should be monotonic")
+	public void bucketMonotonic() {
+		int previous=0;
+		for(long value=0;value<100_000;value++){
+			final int bucket=Histogram.bucket(value);
+			Assertions.assertTrue(bucket>=previous);
+			previous=bucket;
+		}
+	}
+
+	@Test
+	@DisplayName("Negative values should be recorded as zero")
+	public void negative() {
+		final Histogram histogram=new Histogram("latency");
+		histogram.record(-5);
+		Assertions.assertEquals(1, histogram.getCount());
+		Assertions.assertEquals(0, histogram.getPercentile(100));
+	}
+
+	@Test
+	@DisplayName("Percentiles should be within the bucket precision of the exact values")
+	public void percentiles() {
+		final Histogram histogram=new Histogram("latency");
+		for(long value=1;value<=100_000;value++){
+			histogram.record(value*1_000);
+		}
+		Assertions.assertEquals(100_000, histogram.getCount());
+		Assertions.assertEquals(100_000_000, histogram.getMax());
+		Assertions.assertEquals(50_000_500d, histogram.getMean(), 1d);
+		assertNear(50_000_000, histogram.getPercentile(50));
+		assertNear(99_000_000, histogram.getPercentile(99));
+		assertNear(99_900_000, histogram.getPercentile(99.9));
+		Assertions.assertEquals(100_000_000, histogram.getPercentile(100));
+	}
+	
+	private static void assertNear(final long _expected,final long _actual){
+		Assertions.assertTrue(_actual>=_expected, "actual "+_actual+" lower than expected "+_expected);
+		Assertions.assertTrue(_actual<=_expected+_expected/16, "actual "+_actual+" out of the bucket precision of expected "+_expected);
+	}
+
+	@Test
+	@DisplayName("Percentile out of range should throw IllegalArgumentException")
+	public void percentileOutOfRange() {
+		final Histogram histogram=new Histogram("latency");
+		Assertions.assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(-1));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(100.1));
+	}
+
+	@Test
+	@DisplayName("Record since should record the elapsed time")
+	public void recordSince() {
+		final Histogram histogram=new Histogram("latency");
+		histogram.recordSince(System.nanoTime()-1_000_000);
+		Assertions.assertEquals(1, histogram.getCount());
+		Assertions.assertTrue(histogram.getMax()>=1_000_000);
+	}
+
+	@Test
+	@DisplayName("Summary should print count, mean, percentiles and max in microseconds")
+	public void summary() {
+		final Histogram histogram=new Histogram("latency");
+		histogram.record(2_000);
+		Assertions.assertEquals("count=1 mean=2.0us p50=2us p99=2us p999=2us max=2us", histogram.summary());
+	}
+
+	@Test
+	@DisplayName("Concurrent records should never be lost")
+	public void concurrentRecords() throws InterruptedException {
+		final Histogram histogram=new Histogram("latency");
+		final ExecutorService executor=Executors.newFixedThreadPool(8);
+		for(int thread=0;thread<8;thread++){
+			executor.execute(() -> {
+				for(int iteration=0;iteration<10_000;iteration++){
+					histogram.record(iteration);
+				}
+			});
+		}
+		executor.shutdown();
+		Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+		Assertions.assertEquals(80_000, histogram.getCount());
+		Assertions.assertEquals(9_999, histogram.getMax());
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.Console;
+import org.bytemechanics.standalone.ignite.OutConsole;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * @author afarre
+ */
+public class MetricsRegistryTest {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> MetricsRegistryTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+	@Test
+	@DisplayName("New registry should be empty")
+	public void empty() {
+		final MetricsRegistry registry=new MetricsRegistry();
+		Assertions.assertTrue(registry.isEmpty());
+		Assertions.assertTrue(registry.getCounters().isEmpty());
+		Assertions.assertTrue(registry.getGauges().isEmpty());
+		Assertions.assertTrue(registry.getHistograms().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Counter should return always the same instance for the same name")
+	public void counter() {
+		final MetricsRegistry registry=new MetricsRegistry();
+		final Counter counter=registry.counter("requests");
+		Assertions.assertSame(counter, registry.counter("requests"));
+		Assertions.assertNotSame(counter, registry.counter("errors"));
+		Assertions.assertEquals(Arrays.asList("errors","requests"), Arrays.asList(registry.getCounters().keySet().toArray()));
+		Assertions.assertFalse(registry.isEmpty());
+	}
+
+	@Test
+	@DisplayName("Histogram should return always the same instance for the same name")
+	public void histogram() {
+		final MetricsRegistry registry=new MetricsRegistry();
+		final Histogram histogram=registry.histogram("latency");
+		Assertions.assertSame(histogram, registry.histogram("latency"));
+		Assertions.assertEquals(1, registry.getHistograms().size());
+	}
+
+	@Test
+	@DisplayName("Gauge should replace the previous gauge with the same name and be read lazily")
+	public void gauge() {
+		final MetricsRegistry registry=new MetricsRegistry();
+		Assertions.assertSame(registry, registry.gauge("size", () -> 1));
+		registry.gauge("size", () -> 2);
+		Assertions.assertEquals(1, registry.getGauges().size());
+		Assertions.assertEquals(2d, registry.getGauges().get("size").getAsDouble());
+	}
+
+	@Test
+	@DisplayName("Registered metrics maps should be unmodifiable")
+	public void unmodifiable() {
+		final MetricsRegistry registry=new MetricsRegistry();
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> registry.getCounters().put("requests", new Counter("requests")));
+	}
+
+	@Test
+	@DisplayName("Print should write the summary of every metric into the info console")
+	public void print() {
+		final Queue<String> info=new LinkedList<>();
+		final Console console=new OutConsole(info::add, (message,args) -> message+Arrays.asList(args), false);
+		final MetricsRegistry registry=new MetricsRegistry();
+		registry.counter("requests").add(2);
+		registry.gauge("size", () -> 3);
+		registry.histogram("latency").record(2_000);
+		registry.print(console);
+		Assertions.assertEquals(Arrays.asList("\tCounter {}: {}[requests, 2]"
+											,"\tGauge {}: {}[size, 3.0]"
+											,"\tHistogram {}: {}[latency, count=1 mean=2.0us p50=2us p99=2us p999=2us max=2us]")
+								, new LinkedList<>(info));
+	}
+}
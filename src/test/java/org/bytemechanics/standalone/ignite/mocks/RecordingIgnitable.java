@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.mocks;
+
+import java.util.List;
+import java.util.Queue;
+import org.bytemechanics.standalone.ignite.MemoryPressure;
+import org.bytemechanics.standalone.ignite.Parameter;
+import org.bytemechanics.standalone.ignite.IgnitableAdapter;
+import org.bytemechanics.standalone.ignite.exceptions.ParameterException;
+
+/**
+ * Ignitable that records every lifecycle call as "name:method" into the given queue
+ * @author afarre
+ */
+public class RecordingIgnitable extends IgnitableAdapter implements AutoCloseable {
+
+	private final String name;
+	private final Queue<String> events;
+	private final RuntimeException startupFailure;
+
+	public RecordingIgnitable(final String _name,final Queue<String> _events){
+		this(_name,_events,null);
+	}
+	public RecordingIgnitable(final String _name,final Queue<String> _events,final RuntimeException _startupFailure){
+		this.name=_name;
+		this.events=_events;
+		this.startupFailure=_startupFailure;
+	}
+	
+	@Override
+	public void beforeStartup() {
+		this.events.add(this.name+":beforeStartup");
+	}
+	@Override
+	public void startup() {
+		this.events.add(this.name+":startup");
+		if(this.startupFailure!=null){
+			throw this.startupFailure;
+		}
+	}
+	@Override
+	public void afterStartup() {
+		this.events.add(this.name+":afterStartup");
+	}
+	@Override
+	public <T extends Exception> void startupException(final T _exception) {
+		this.events.add(this.name+":startupException");
+		super.startupException(_exception);
+	}
+	@Override
+	public <T extends ParameterException> void parameterProcessingException(final T _exception) {
+		this.events.add(this.name+":parameterProcessingException:"+_exception.getClass().getSimpleName());
+		super.parameterProcessingException(_exception);
+	}
+	@Override
+	public void onMemoryPressure(final MemoryPressure _level) {
+		this.events.add(this.name+":onMemoryPressure:"+_level);
+	}
+	@Override
+	public void onReload(final List<Parameter> _changed) {
+		this.events.add(this.name+":onReload:"+_changed);
+	}
+	@Override
+	public void beforeShutdown() {
+		this.events.add(this.name+":beforeShutdown");
+	}
+	@Override
+	public void shutdown() {
+		this.events.add(this.name+":shutdown");
+	}
+	@Override
+	public void afterShutdown() {
+		this.events.add(this.name+":afterShutdown");
+	}
+	@Override
+	public void close() {
+		this.events.add(this.name+":close");
+	}
+}
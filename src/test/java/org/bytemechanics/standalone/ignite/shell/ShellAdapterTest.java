@@ -18,12 +18,15 @@ package org.bytemechanics.standalone.ignite.shell;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
@@ -398,6 +401,127 @@ public class ShellAdapterTest {
 		instance.interactiveExecution(availableCommands);
 	}	
 
+	@Test
+	public void executeActionWithoutStandalone() {
+		
+		final AtomicReference<Thread> executed=new AtomicReference<>();
+		ShellAdapter instance=new ShellAdapter() {
+			@Override
+			public Optional<Standalone> getStandalone() {
+				return Optional.empty();
+			}	
+			@Override
+			public Map<Class<? extends Ignitable>,Standalone.StandaloneBuilder> getIgnitableShellCommands(){
+				return null; 
+			}
+		};
+		
+		instance.executeAction(() -> executed.set(Thread.currentThread()));
+		
+		Assertions.assertSame(Thread.currentThread(), executed.get());
+	}
+	
+	@Test
+	@SuppressWarnings({"ThrowableResultIgnored"})
+	public void executeActionVirtualThreads() {
+		
+		final AtomicReference<Thread> executed=new AtomicReference<>();
+		final Standalone shellStandalone=Standalone.builder(MockedIgnitableAdapter::new)
+													.virtualThreads(true)
+												.build();
+		ShellAdapter instance=new ShellAdapter() {
+			@Override
+			public Optional<Standalone> getStandalone() {
+				return Optional.of(shellStandalone);
+			}	
+			@Override
+			public Map<Class<? extends Ignitable>,Standalone.StandaloneBuilder> getIgnitableShellCommands(){
+				return null; 
+			}
+		};
+		try{
+			instance.executeAction(() -> executed.set(Thread.currentThread()));
+			Assertions.assertEquals(shellStandalone.isVirtualThreads(), Thread.currentThread()!=executed.get());
+			Assertions.assertThrows(IllegalStateException.class, () -> instance.executeAction(() -> { throw new IllegalStateException("my-failure"); }));
+		}finally{
+			shellStandalone.getExecutor().shutdown();
+		}
+	}
+	
+	@Test
+	public void executeCommandInFlight() {
+		
+		final List<String> lines=new ArrayList<>();
+		final List<Long> inFlight=new ArrayList<>();
+		final ShellConsole shellConsole=new ShellConsole(){
+			@Override
+			public void write(final String _message,final Object... _args){
+				lines.add(this.formatter.apply(_message, _args));
+			}
+		};
+		class ShellStandalone extends Standalone{
+			ShellStandalone(){
+				super(MockedIgnitableAdapter::new, null, null, false, null, Collections.emptyList(), new String[0], shellConsole);
+			}
+			void stop(){
+				shutdown();
+			}
+		}
+		final ShellStandalone shellStandalone=new ShellStandalone();
+		ShellAdapter instance=new ShellAdapter() {
+			@Override
+			protected ShellConsole getShell() {
+				return shellConsole;
+			}	
+			@Override
+			public Optional<Standalone> getStandalone() {
+				return Optional.of(shellStandalone);
+			}	
+			@Override
+			public Map<Class<? extends Ignitable>,Standalone.StandaloneBuilder> getIgnitableShellCommands(){
+				return null; 
+			}
+		};
+		final Map<String,BiConsumer<String[],ShellConsole>> availableCommands=new HashMap<>();
+		availableCommands.put("count", (args,console) -> inFlight.add(shellStandalone.getInFlight()));
+		
+		instance.executeCommand(availableCommands, "count");
+		Assertions.assertEquals(Arrays.asList(1l), inFlight);
+		Assertions.assertEquals(0, shellStandalone.getInFlight());
+		shellStandalone.stop();
+		instance.executeCommand(availableCommands, "count");
+		Assertions.assertEquals(Arrays.asList(1l), inFlight);
+		Assertions.assertEquals(Arrays.asList("Command count rejected, shutdown in progress\n"), lines);
+	}
+	
+	@Test
+	public void getAvailableCommandsArguments() {
+		
+		final AtomicReference<String[]> arguments=new AtomicReference<>();
+		final ShellConsole shellConsole=new ShellConsole(){
+			@Override
+			public void write(final String _message,final Object... _args){
+			}
+		};
+		final Standalone.StandaloneBuilder builder=Standalone.builder(() -> new MockedIgnitableAdapter(){
+																					@Override
+																					public void startup() {
+																						arguments.set(getStandalone().map(Standalone::getArguments).orElse(null));
+																					}
+																				});
+		ShellAdapter instance=new ShellAdapter() {
+			@Override
+			public Map<Class<? extends Ignitable>,Standalone.StandaloneBuilder> getIgnitableShellCommands(){
+				return Collections.singletonMap(MockedIgnitableAdapter.class, builder); 
+			}
+		};
+		
+		instance.getAvailableCommands()
+					.get("mockedignitableadapter")
+						.accept(new String[]{"-help"}, shellConsole);
+		Assertions.assertArrayEquals(new String[]{"-help"}, arguments.get());
+	}
+	
 	@Test
 	@SuppressWarnings({"ThrowableResultIgnored"})
 	public void startupNoStandalone() {
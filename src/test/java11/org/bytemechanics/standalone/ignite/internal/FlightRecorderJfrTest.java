@@ -0,0 +1,157 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.standalone.ignite.mocks.StandaloneAppTestParameter3;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * Flight recorder events test against the JDK 11 multi-release overlay, only compiled and executed by the java11 profile
+ * @author afarre
+ */
+public class FlightRecorderJfrTest {
+
+	private static final String PHASE_EVENT="org.bytemechanics.standalone.ignite.LifecyclePhase";
+	private static final String PARAMETER_EVENT="org.bytemechanics.standalone.ignite.Parameter";
+	private static final String COMMAND_EVENT="org.bytemechanics.standalone.ignite.ShellCommand";
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> FlightRecorderJfrTest >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	private List<RecordedEvent> record(final String _eventName,final Runnable _action) throws IOException{
+		
+		final List<RecordedEvent> reply;
+		
+		final Path dump=Files.createTempFile("standalone-ignite", ".jfr");
+		try(Recording recording=new Recording()){
+			recording.enable(_eventName).withoutThreshold();
+			recording.start();
+			_action.run();
+			recording.stop();
+			recording.dump(dump);
+			reply=RecordingFile.readAllEvents(dump).stream()
+								.filter(event -> _eventName.equals(event.getEventType().getName()))
+								.collect(Collectors.toList());
+		}finally{
+			Files.deleteIfExists(dump);
+		}
+		
+		return reply;
+	}
+
+	@Test
+	@DisplayName("Flight recorder should be supported only if the jdk.jfr module is present")
+	public void isSupported() {
+		Assertions.assertEquals(ModuleLayer.boot().findModule("jdk.jfr").isPresent(), FlightRecorder.isSupported());
+		Assertions.assertTrue(FlightRecorder.isSupported());
+	}
+
+	@Test
+	@DisplayName("Phase should emit a lifecycle phase event with standalone, phase and failed fields")
+	public void phase() throws IOException {
+		final List<RecordedEvent> events=record(PHASE_EVENT, () -> Assertions.assertEquals("result", FlightRecorder.phase("app", "startup", () -> "result")));
+		Assertions.assertEquals(1, events.size());
+		Assertions.assertEquals("app", events.get(0).getString("standalone"));
+		Assertions.assertEquals("startup", events.get(0).getString("phase"));
+		Assertions.assertFalse(events.get(0).getBoolean("failed"));
+	}
+
+	@Test
+	@DisplayName("Phase should emit a failed lifecycle phase event when the action fails")
+	public void phaseFailure() throws IOException {
+		final List<RecordedEvent> events=record(PHASE_EVENT, () -> Assertions.assertThrows(IllegalStateException.class, () -> FlightRecorder.phase("app", "shutdown", () -> { throw new IllegalStateException("failure"); })));
+		Assertions.assertEquals(1, events.size());
+		Assertions.assertEquals("app", events.get(0).getString("standalone"));
+		Assertions.assertEquals("shutdown", events.get(0).getString("phase"));
+		Assertions.assertTrue(events.get(0).getBoolean("failed"));
+	}
+
+	@Test
+	@DisplayName("Parameter should emit a parameter event with operation, parameter, type and failed fields")
+	public void parameter() throws IOException {
+		final List<RecordedEvent> events=record(PARAMETER_EVENT, () -> FlightRecorder.parameter("load", StandaloneAppTestParameter3.STRINGVALUE, () -> {}));
+		Assertions.assertEquals(1, events.size());
+		Assertions.assertEquals("load", events.get(0).getString("operation"));
+		Assertions.assertEquals(StandaloneAppTestParameter3.STRINGVALUE.name(), events.get(0).getString("parameter"));
+		Assertions.assertEquals(String.class.getName(), events.get(0).getClass("type").getName());
+		Assertions.assertFalse(events.get(0).getBoolean("failed"));
+	}
+
+	@Test
+	@DisplayName("Parameter should emit a failed parameter event when the action fails")
+	public void parameterFailure() throws IOException {
+		final List<RecordedEvent> events=record(PARAMETER_EVENT, () -> Assertions.assertThrows(IllegalStateException.class, () -> FlightRecorder.parameter("validate", StandaloneAppTestParameter3.STRINGVALUE, () -> { throw new IllegalStateException("failure"); })));
+		Assertions.assertEquals(1, events.size());
+		Assertions.assertEquals("validate", events.get(0).getString("operation"));
+		Assertions.assertTrue(events.get(0).getBoolean("failed"));
+	}
+
+	@Test
+	@DisplayName("Command should emit a shell command event with command and failed fields")
+	public void command() throws IOException {
+		final List<RecordedEvent> events=record(COMMAND_EVENT, () -> FlightRecorder.command("help", () -> {}));
+		Assertions.assertEquals(1, events.size());
+		Assertions.assertEquals("help", events.get(0).getString("command"));
+		Assertions.assertFalse(events.get(0).getBoolean("failed"));
+	}
+
+	@Test
+	@DisplayName("Command should emit a failed shell command event when the action fails")
+	public void commandFailure() throws IOException {
+		final List<RecordedEvent> events=record(COMMAND_EVENT, () -> Assertions.assertThrows(IllegalStateException.class, () -> FlightRecorder.command("help", () -> { throw new IllegalStateException("failure"); })));
+		Assertions.assertEquals(1, events.size());
+		Assertions.assertEquals("help", events.get(0).getString("command"));
+		Assertions.assertTrue(events.get(0).getBoolean("failed"));
+	}
+
+	@Test
+	@DisplayName("No event should be emitted without a recording enabling it")
+	public void disabled() throws IOException {
+		final List<RecordedEvent> events=record(COMMAND_EVENT, () -> FlightRecorder.phase("app", "startup", () -> "result"));
+		Assertions.assertTrue(events.isEmpty());
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.standalone.ignite.mocks.MockedIgnitableAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * Standalone virtual threads test against the JDK 21 multi-release overlay, only compiled and executed by the java21 profile
+ * @author afarre
+ */
+public class StandaloneJdk21Test {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> StandaloneJdk21Test >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("Standalone in virtual threads mode should start the replicas and execute the executor tasks at virtual threads")
+	public void standalone() throws Exception {
+
+		final Map<Integer,Boolean> replicas=new ConcurrentHashMap<>();
+		final Standalone standalone=Standalone.builder(() -> new MockedIgnitableAdapter(){
+																@Override
+																public void startup() {
+																	replicas.put(getReplica(), Thread.currentThread().isVirtual());
+																}
+															})
+													.showBanner(false)
+													.virtualThreads(true)
+												.build()
+													.ignite();
+		try{
+			Assertions.assertTrue(standalone.isVirtualThreads());
+			Assertions.assertTrue(replicas.get(0));
+			Assertions.assertTrue(standalone.getExecutor().submit(() -> Thread.currentThread().isVirtual()).get(30, TimeUnit.SECONDS));
+		}finally{
+			standalone.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("Standalone without virtual threads mode should execute the executor tasks at platform threads")
+	public void standalonePlatform() throws Exception {
+
+		final Standalone standalone=Standalone.builder(MockedIgnitableAdapter::new)
+													.showBanner(false)
+												.build()
+													.ignite();
+		try{
+			Assertions.assertFalse(standalone.isVirtualThreads());
+			Assertions.assertFalse(standalone.getExecutor().submit(() -> Thread.currentThread().isVirtual()).get(30, TimeUnit.SECONDS));
+		}finally{
+			standalone.shutdown();
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * Virtual threads test against the JDK 21 multi-release overlay, only compiled and executed by the java21 profile
+ * @author afarre
+ */
+public class VirtualThreadsJdk21Test {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> VirtualThreadsJdk21Test >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("Virtual threads should be supported by the JDK 21 overlay")
+	public void isSupported() {
+		Assertions.assertTrue(VirtualThreads.isSupported());
+	}
+
+	@Test
+	@DisplayName("New thread should be virtual if requested")
+	public void newThread() {
+		Assertions.assertTrue(VirtualThreads.newThread(true, "my-thread", () -> {}).isVirtual());
+		Assertions.assertFalse(VirtualThreads.newThread(false, "my-thread", () -> {}).isVirtual());
+	}
+
+	@Test
+	@DisplayName("Thread per task executor should execute the tasks at virtual threads if requested")
+	public void newThreadPerTaskExecutor() throws Exception {
+		final ExecutorService virtual=VirtualThreads.newThreadPerTaskExecutor(true, "my-prefix-");
+		final ExecutorService platform=VirtualThreads.newThreadPerTaskExecutor(false, "my-prefix-");
+		try{
+			Assertions.assertTrue(virtual.submit(() -> Thread.currentThread().isVirtual()).get(30, TimeUnit.SECONDS));
+			Assertions.assertFalse(platform.submit(() -> Thread.currentThread().isVirtual()).get(30, TimeUnit.SECONDS));
+		}finally{
+			virtual.shutdown();
+			platform.shutdown();
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 Byte Mechanics.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.bytemechanics.standalone.ignite.shell;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import org.bytemechanics.standalone.ignite.Ignitable;
+import org.bytemechanics.standalone.ignite.Standalone;
+import org.bytemechanics.standalone.ignite.internal.commons.functional.LambdaUnchecker;
+import org.bytemechanics.standalone.ignite.mocks.MockedIgnitableAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+
+/**
+ * Shell adapter virtual threads test against the JDK 21 multi-release overlay, only compiled and executed by the java21 profile
+ * @author afarre
+ */
+public class ShellAdapterJdk21Test {
+
+	@BeforeAll
+	public static void setup() throws IOException {
+		System.out.println(">>>>> ShellAdapterJdk21Test >>>> setup");
+		try (InputStream inputStream = LambdaUnchecker.class.getResourceAsStream("/logging.properties")) {
+			LogManager.getLogManager().readConfiguration(inputStream);
+		} catch (final IOException e) {
+			Logger.getAnonymousLogger().severe("Could not load default logging.properties file");
+			Logger.getAnonymousLogger().severe(e.getMessage());
+		}
+	}
+
+	@BeforeEach
+	void beforeEachTest(final TestInfo testInfo) {
+		System.out.println(">>>>> " + this.getClass().getSimpleName() + " >>>> " + testInfo.getTestMethod().map(Method::getName).orElse("Unkown") + "" + testInfo.getTags().toString() + " >>>> " + testInfo.getDisplayName());
+	}
+
+	@Test
+	@DisplayName("Shell command actions should be executed at virtual threads in virtual threads mode")
+	public void executeActionVirtualThreads() {
+		
+		final AtomicReference<Thread> executed=new AtomicReference<>();
+		final Standalone shellStandalone=Standalone.builder(MockedIgnitableAdapter::new)
+													.virtualThreads(true)
+												.build();
+		final ShellAdapter instance=new ShellAdapter() {
+			@Override
+			public Optional<Standalone> getStandalone() {
+				return Optional.of(shellStandalone);
+			}	
+			@Override
+			public Map<Class<? extends Ignitable>,Standalone.StandaloneBuilder> getIgnitableShellCommands(){
+				return null; 
+			}
+		};
+		try{
+			instance.executeAction(() -> executed.set(Thread.currentThread()));
+			Assertions.assertTrue(shellStandalone.isVirtualThreads());
+			Assertions.assertTrue(executed.get().isVirtual());
+		}finally{
+			shellStandalone.getExecutor().shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("Shell command actions should be executed at the calling thread without virtual threads mode")
+	public void executeActionPlatform() {
+		
+		final AtomicReference<Thread> executed=new AtomicReference<>();
+		final Standalone shellStandalone=Standalone.builder(MockedIgnitableAdapter::new)
+												.build();
+		final ShellAdapter instance=new ShellAdapter() {
+			@Override
+			public Optional<Standalone> getStandalone() {
+				return Optional.of(shellStandalone);
+			}	
+			@Override
+			public Map<Class<? extends Ignitable>,Standalone.StandaloneBuilder> getIgnitableShellCommands(){
+				return null; 
+			}
+		};
+		try{
+			instance.executeAction(() -> executed.set(Thread.currentThread()));
+			Assertions.assertSame(Thread.currentThread(), executed.get());
+			Assertions.assertFalse(executed.get().isVirtual());
+		}finally{
+			shellStandalone.getExecutor().shutdown();
+		}
+	}
+}